@@ -0,0 +1,36 @@
+package com.platform.coding.config;
+
+import com.platform.coding.domain.profanity.ForbiddenWordJdbcRepository;
+import com.platform.coding.service.filter.ProfanityFilterService;
+import com.platform.coding.service.filter.ProfanityMatcher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * 애플리케이션 시작 시 금지어 테이블이 비어 있으면 기본 금지어를 등록하고,
+ * DB의 금지어 목록으로 금지어 검사기를 만듭니다.
+ * 여러 서버가 동시에 기동해도 기본 금지어는 한 서버에서만 등록됩니다. (ForbiddenWordJdbcRepository)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ForbiddenWordInitializer implements ApplicationRunner {
+
+    private final ForbiddenWordJdbcRepository forbiddenWordJdbcRepository;
+    private final ProfanityFilterService profanityFilterService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int inserted = forbiddenWordJdbcRepository.insertAllIfEmpty(ProfanityFilterService.DEFAULT_FORBIDDEN_WORDS.stream()
+                .map(ProfanityMatcher::normalize)
+                .distinct()
+                .toList());
+        if (inserted > 0) {
+            log.info("기본 금지어 {}개를 등록했습니다.", inserted);
+        }
+        profanityFilterService.reload();
+    }
+}
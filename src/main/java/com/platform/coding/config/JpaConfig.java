@@ -0,0 +1,32 @@
+package com.platform.coding.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * JPA 쓰기 배치 설정.
+ * 엔티티 ID 를 시퀀스에서 미리 묶음으로 받아 두므로, 플러시할 때 같은 종류의 INSERT/UPDATE 를 모아 JDBC 배치로 보낸다.
+ */
+@Configuration
+public class JpaConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchCustomizer(@Value("${app.jpa.batch-size:50}") int batchSize) {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+            // 엔티티 종류별로 문장을 모아 정렬해야 종류가 섞여 저장될 때도 배치가 끊기지 않음
+            properties.put(AvailableSettings.ORDER_INSERTS, true);
+            properties.put(AvailableSettings.ORDER_UPDATES, true);
+        };
+    }
+
+    // 기존 테이블의 ID 시퀀스 이관이 Hibernate 의 스키마 갱신보다 먼저 실행되도록 함
+    @Bean
+    public static EntityManagerFactoryDependsOnPostProcessor sequenceIdMigrationDependency() {
+        return new EntityManagerFactoryDependsOnPostProcessor(SequenceIdMigrator.class);
+    }
+}
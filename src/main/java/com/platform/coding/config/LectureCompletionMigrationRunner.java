@@ -0,0 +1,72 @@
+package com.platform.coding.config;
+
+import com.platform.coding.domain.course.Course;
+import com.platform.coding.domain.course.CourseRepository;
+import com.platform.coding.domain.enrollment.EnrollmentRepository;
+import com.platform.coding.service.course.CurriculumCache;
+import com.platform.coding.service.lecture.LectureCompletionMigrator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 애플리케이션 시작 시 렉처별 시청 기록(lecture_progress)을 수강 정보의 완료 비트셋으로 이관합니다.
+ * 1. 슬롯이 없는 기존 강의의 렉처에 완료 슬롯을 부여하고
+ * 2. 비트셋이 비어 있는 수강 정보를 배치 단위로 이관합니다.
+ * 이관되지 않은 수강 정보는 시청 시점에 개별적으로도 이관되므로, 이 작업은 그 과정을 앞당기는 역할입니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LectureCompletionMigrationRunner implements ApplicationRunner {
+    private static final int BATCH_SIZE = 500;
+
+    private final CourseRepository courseRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final LectureCompletionMigrator lectureCompletionMigrator;
+    private final CurriculumCache curriculumCache;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.lecture.completion-migration.enabled:true}")
+    private boolean enabled;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+
+        List<Long> courseIds = courseRepository.findIdsWithoutCompletionSlots();
+        for (Long courseId : courseIds) {
+            transactionTemplate.executeWithoutResult(status ->
+                    courseRepository.findById(courseId)
+                            .filter(Course::initializeCompletionSlots)
+                            .ifPresent(course -> curriculumCache.invalidate(courseId)));
+        }
+
+        long migrated = 0;
+        Long afterId = 0L;
+        while (true) {
+            List<Long> enrollmentIds = enrollmentRepository.findIdsWithoutCompletionBits(afterId, PageRequest.of(0, BATCH_SIZE));
+            if (enrollmentIds.isEmpty()) {
+                break;
+            }
+            // 배치마다 별도의 트랜잭션으로 커밋하여 긴 트랜잭션을 피함
+            transactionTemplate.executeWithoutResult(status ->
+                    enrollmentRepository.findAllForUpdateByIdIn(enrollmentIds).forEach(lectureCompletionMigrator::migrate));
+            migrated += enrollmentIds.size();
+            afterId = enrollmentIds.get(enrollmentIds.size() - 1);
+        }
+
+        if (!courseIds.isEmpty() || migrated > 0) {
+            log.info("렉처 완료 정보 이관 완료: 강의 {}건, 수강 정보 {}건", courseIds.size(), migrated);
+        }
+    }
+}
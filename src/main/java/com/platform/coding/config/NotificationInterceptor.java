@@ -33,6 +33,10 @@ public class NotificationInterceptor implements HandlerInterceptor {
         // 인증된 사용자인지, 그리고 Principal이 User 타입인지 확인
         if (authentication != null && authentication.getPrincipal() instanceof User) {
             User user = (User) authentication.getPrincipal();
+            // 알림 스트림에 접속 중인 사용자는 접속 시 개수를 받으므로 조회하지 않음
+            if (notificationService.isStreaming(user)) {
+                return;
+            }
             long unreadCount = notificationService.getUnreadNotificationCount(user);
             modelAndView.addObject("unreadNotificationCount", unreadCount);
         }
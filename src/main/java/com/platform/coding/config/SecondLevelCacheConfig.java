@@ -0,0 +1,87 @@
+package com.platform.coding.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.platform.coding.domain.course.Chapter;
+import com.platform.coding.domain.course.Course;
+import com.platform.coding.domain.course.Lecture;
+import com.platform.coding.domain.rewardpolicy.RewardPolicy;
+import com.platform.coding.domain.submission.Assignment;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * 관리자 화면에서만 바뀌는 카탈로그 엔티티(강의, 챕터, 렉처, 과제, 보상 정책)를 위한 Hibernate 2차 캐시 설정.
+ * 캐시는 JCache(Caffeine) 로 애플리케이션 힙에 두며, 영역마다 크기와 유지 시간을 제한한다.
+ * 같은 애플리케이션 안의 JPA 변경은 READ_WRITE 전략이 반영하고, 관리자 서비스는 커밋 후 CatalogCacheEvictor 로 한 번 더 비운다.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+    // 2차 캐시에 올리는 엔티티/컬렉션 영역 (기본 영역 이름은 엔티티 클래스 이름, 컬렉션은 "클래스 이름.필드 이름")
+    public static final List<String> CATALOG_REGIONS = List.of(
+            Course.class.getName(),
+            Course.class.getName() + ".chapters",
+            Chapter.class.getName(),
+            Chapter.class.getName() + ".lectures",
+            Lecture.class.getName(),
+            Assignment.class.getName(),
+            RewardPolicy.class.getName()
+    );
+
+    /**
+     * 2차 캐시 전용 CacheManager.
+     * 애플리케이션 컨텍스트마다 따로 만들어야 한 컨텍스트가 종료되며 닫은 CacheManager 를 다른 컨텍스트가 쓰지 않음
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(@Value("${app.jpa.second-level-cache.max-size:10000}") long maxSize,
+                                              @Value("${app.jpa.second-level-cache.ttl-seconds:3600}") long ttlSeconds) {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(
+                URI.create("hibernate-second-level-cache-" + UUID.randomUUID()), provider.getDefaultClassLoader());
+
+        // DB 를 직접 고친 경우에도 유지 시간이 지나면 반영되도록 함
+        CaffeineConfiguration<Object, Object> catalog = regionConfiguration();
+        catalog.setMaximumSize(OptionalLong.of(maxSize));
+        catalog.setExpireAfterWrite(OptionalLong.of(Duration.ofSeconds(ttlSeconds).toNanos()));
+        CATALOG_REGIONS.forEach(region -> cacheManager.createCache(region, catalog));
+        cacheManager.createCache(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME, catalog);
+
+        // 테이블별 마지막 변경 시각. 지워지면 오래된 쿼리 결과가 유효한 것으로 보일 수 있으므로 크기/시간 제한을 두지 않음
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, regionConfiguration());
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, ConfigSettings.SIMPLE_FACTORY_NAME);
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            // 관리자 진단 화면의 적중/실패 통계용. 세션마다 남는 통계 로그는 끔
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+            properties.put(AvailableSettings.LOG_SESSION_METRICS, false);
+        };
+    }
+
+    private static CaffeineConfiguration<Object, Object> regionConfiguration() {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        // Hibernate 가 캐시 항목을 분해된 상태로 저장하므로 직렬화 복사가 필요 없음
+        configuration.setStoreByValue(false);
+        return configuration;
+    }
+}
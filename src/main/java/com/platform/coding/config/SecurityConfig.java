@@ -2,6 +2,7 @@ package com.platform.coding.config;
 
 import com.platform.coding.config.jwt.JwtAuthenticationFilter;
 import com.platform.coding.domain.user.UserType;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -42,11 +43,13 @@ public class SecurityConfig {
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             // API 경로별 접근 권한 설정
             .authorizeHttpRequests(authz -> authz
+                    // SSE 등 비동기 응답의 재디스패치는 최초 요청에서 이미 인가되었으므로 허용
+                    .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                     // '/api/users/signup', '/api/users/login' 등은 누구나 접근 가능
                     .requestMatchers("/", "/login", "/signup", "/courses", "/courses/{courseId}",
                             "/.well-known/**", "/css/**", "/js/**", "/images/**", "/favicon.ico",
                             "/api/users/signup", "/api/users/login", "/api/users/logout", "/api/users/refresh",
-                            "/api/courses", "/api/courses/{courseId}", "/api/lectures/{lectureId}",
+                            "/api/courses", "/api/courses/slice", "/api/courses/popular", "/api/courses/{courseId}", "/api/lectures/{lectureId}",
                             "/?error=**", "/login?error=**").permitAll()
                     // 관리자 웹 페이지 경로 추가
                     .requestMatchers("/admin/**").hasAnyRole(UserType.SUPER_ADMIN.name(), UserType.CONTENT_MANAGER.name())
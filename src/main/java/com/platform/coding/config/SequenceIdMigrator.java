@@ -0,0 +1,81 @@
+package com.platform.coding.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcTransactionManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 기존 테이블의 IDENTITY 기본 키를 엔티티가 사용하는 시퀀스(테이블명_seq)로 옮깁니다.
+ * 1. 시퀀스를 만들어 기존 최대 ID 다음 값부터 할당하도록 맞추고
+ * 2. ID 열의 IDENTITY 속성을 제거합니다. (이후 ID 는 항상 시퀀스에서 받음)
+ * Hibernate 가 스키마를 갱신하며 1부터 시작하는 시퀀스를 만들기 전에 실행되어야 하므로 EntityManagerFactory 보다 먼저 초기화됩니다. (JpaConfig)
+ * 이미 옮긴 테이블이나 새로 만드는 스키마에서는 아무것도 하지 않습니다.
+ */
+@Slf4j
+@Component
+public class SequenceIdMigrator {
+    // 엔티티 @SequenceGenerator 의 allocationSize(기본값 50)와 같아야 함 (다르면 Hibernate 가 기동 시 오류를 냄)
+    private static final int ALLOCATION_SIZE = 50;
+
+    // @SequenceGenerator 를 사용하는 엔티티의 테이블
+    private static final List<String> TABLES = List.of(
+            "users", "courses", "chapters", "lectures", "lecture_progress", "enrollments",
+            "assignments", "submissions", "feedbacks", "orders", "order_items", "payments",
+            "refunds", "rewards", "reward_policies", "reviews", "review_reports",
+            "notifications", "forbidden_words", "outbox_events", "job_runs");
+
+    private static final String FIND_IDENTITY_COLUMNS_SQL = """
+            SELECT table_name, column_name
+            FROM information_schema.columns
+            WHERE table_schema = 'platform' AND is_identity = 'YES'
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+
+    public SequenceIdMigrator(DataSource dataSource,
+                              @Value("${app.jpa.sequence-id-migration.enabled:true}") boolean enabled) {
+        // JPA 가 준비되기 전에 실행되므로 DataSource 를 직접 사용
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(new JdbcTransactionManager(dataSource));
+        this.enabled = enabled;
+    }
+
+    @PostConstruct
+    public void migrate() {
+        if (!enabled) {
+            return;
+        }
+        List<String> migrated = transactionTemplate.execute(status -> {
+            // 여러 서버가 동시에 기동해도 한 곳에서만 옮기도록 트랜잭션 단위 잠금을 잡은 뒤 다시 확인
+            jdbcTemplate.execute("SELECT pg_advisory_xact_lock(hashtext('sequence-id-migration'))");
+            List<Map<String, Object>> columns = jdbcTemplate.queryForList(FIND_IDENTITY_COLUMNS_SQL);
+            return columns.stream()
+                    .filter(column -> TABLES.contains((String) column.get("table_name")))
+                    .map(column -> migrate((String) column.get("table_name"), (String) column.get("column_name")))
+                    .toList();
+        });
+        if (migrated != null && !migrated.isEmpty()) {
+            log.info("ID 생성 방식을 시퀀스로 이관 완료: {}", migrated);
+        }
+    }
+
+    private String migrate(String table, String idColumn) {
+        String sequence = "platform." + table + "_seq";
+        jdbcTemplate.execute("CREATE SEQUENCE IF NOT EXISTS " + sequence + " INCREMENT BY " + ALLOCATION_SIZE);
+        // 다음 시퀀스 값을 (최대 ID + 할당 크기)로 두어, JPA 가 받는 첫 ID 범위가 기존 ID 바로 다음부터 시작하도록 함
+        jdbcTemplate.queryForObject("SELECT setval('" + sequence + "', (SELECT COALESCE(MAX(" + idColumn + "), 0) FROM platform." + table + ") + ?, false)",
+                Long.class, ALLOCATION_SIZE);
+        jdbcTemplate.execute("ALTER TABLE platform." + table + " ALTER COLUMN " + idColumn + " DROP IDENTITY IF EXISTS");
+        return table;
+    }
+}
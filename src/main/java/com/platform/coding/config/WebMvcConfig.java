@@ -1,13 +1,20 @@
 package com.platform.coding.config;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.mvc.WebContentInterceptor;
 
 @Configuration
 @RequiredArgsConstructor
 public class WebMvcConfig implements WebMvcConfigurer {
+    // 강의 목록/상세 웹 페이지 경로
+    private static final String[] COURSE_PAGE_PATHS = {"/courses", "/courses/*"};
 
     private final NotificationInterceptor notificationInterceptor;
 
@@ -18,5 +25,23 @@ public class WebMvcConfig implements WebMvcConfigurer {
                 .addPathPatterns("/**")
                 // 단, 정적 리소스(css, js 등) 경로는 제외하여 불필요한 DB 조회를 방지
                 .excludePathPatterns("/css/**", "/js/**", "/images/**", "/favicon.ico");
+
+        // 강의 페이지는 로그인 정보, 알림 수, 리뷰 작성 가능 여부에 따라 사용자마다 다르게 렌더링되므로
+        // 브라우저에만 저장하고 매번 재검증하도록 함 (Spring Security 기본값인 no-store 대신)
+        WebContentInterceptor coursePageCacheInterceptor = new WebContentInterceptor();
+        coursePageCacheInterceptor.addCacheMapping(CacheControl.noCache().cachePrivate(), COURSE_PAGE_PATHS);
+        registry.addInterceptor(coursePageCacheInterceptor)
+                .addPathPatterns(COURSE_PAGE_PATHS);
+    }
+
+    /**
+     * 강의 페이지 재검증 요청에서 렌더링 결과가 이전과 같으면 본문 없이 304 로 응답한다.
+     * 페이지가 사용자별 정보를 포함하므로 ETag 는 렌더링된 본문의 해시로 만든다.
+     */
+    @Bean
+    public FilterRegistrationBean<ShallowEtagHeaderFilter> coursePageEtagFilter() {
+        FilterRegistrationBean<ShallowEtagHeaderFilter> registration = new FilterRegistrationBean<>(new ShallowEtagHeaderFilter());
+        registration.addUrlPatterns(COURSE_PAGE_PATHS);
+        return registration;
     }
-}
\ No newline at end of file
+}
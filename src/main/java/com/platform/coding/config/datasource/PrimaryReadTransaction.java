@@ -0,0 +1,55 @@
+package com.platform.coding.config.datasource;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * 복제 지연과 관계없이 원본(primary)에서 읽어야 하는 조회를 실행한다.
+ *
+ * 메모리 캐시는 변경이 커밋된 직후에 비워지고 다음 조회에서 다시 채워지므로,
+ * 채우는 조회가 아직 변경을 받지 못한 복제본으로 가면 이전 값이 캐시에 오래 남는다.
+ * 캐시를 채우는 조회는 이 클래스로 실행하여 읽기 전용 트랜잭션이어도 원본으로 보낸다.
+ * 복제본을 설정하지 않은 경우에는 일반 읽기 전용 트랜잭션과 같다.
+ */
+@Component
+public class PrimaryReadTransaction {
+    // 원본에서 읽는 중인지 여부 (ReplicaRoutingDataSource 가 확인)
+    private static final ThreadLocal<Boolean> ACTIVE = new ThreadLocal<>();
+
+    // 트랜잭션이 없으면 새로 열고, 쓰기 트랜잭션(원본 연결) 안이면 참여함
+    private final TransactionTemplate joinOrCreate;
+    // 이미 열린 읽기 전용 트랜잭션은 복제본 연결을 잡았을 수 있으므로 원본에서 새 트랜잭션을 엶
+    private final TransactionTemplate requiresNew;
+
+    public PrimaryReadTransaction(PlatformTransactionManager transactionManager) {
+        this.joinOrCreate = new TransactionTemplate(transactionManager);
+        this.joinOrCreate.setReadOnly(true);
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setReadOnly(true);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public <T> T execute(Supplier<T> query) {
+        TransactionTemplate template = TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                ? requiresNew
+                : joinOrCreate;
+        Boolean previous = ACTIVE.get();
+        ACTIVE.set(Boolean.TRUE);
+        try {
+            return template.execute(status -> query.get());
+        } finally {
+            if (previous == null) {
+                ACTIVE.remove();
+            }
+        }
+    }
+
+    static boolean isActive() {
+        return Boolean.TRUE.equals(ACTIVE.get());
+    }
+}
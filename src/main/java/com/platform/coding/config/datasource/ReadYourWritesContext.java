@@ -0,0 +1,35 @@
+package com.platform.coding.config.datasource;
+
+/**
+ * 요청 안에서 "쓴 뒤에는 원본에서 읽기"를 보장하기 위한 요청 단위 상태.
+ * 요청 처리 중에 원본 연결로 쓰기 트랜잭션을 한 번이라도 열면, 그 요청의 이후 읽기 전용 트랜잭션도 원본으로 보낸다.
+ * 요청 밖(스케줄러, 백그라운드 작업)에서는 아무것도 고정하지 않는다.
+ */
+public final class ReadYourWritesContext {
+    // 요청 밖이면 null, 요청 안이면 이 요청에서 쓰기가 있었는지 여부
+    private static final ThreadLocal<Boolean> WRITTEN = new ThreadLocal<>();
+
+    private ReadYourWritesContext() {
+    }
+
+    /**
+     * 요청 처리를 시작한다. 반드시 end() 와 짝을 이뤄 호출해야 한다.
+     */
+    public static void begin() {
+        WRITTEN.set(Boolean.FALSE);
+    }
+
+    public static void end() {
+        WRITTEN.remove();
+    }
+
+    static void markWritten() {
+        if (WRITTEN.get() != null) {
+            WRITTEN.set(Boolean.TRUE);
+        }
+    }
+
+    static boolean isPinnedToPrimary() {
+        return Boolean.TRUE.equals(WRITTEN.get());
+    }
+}
@@ -0,0 +1,74 @@
+package com.platform.coding.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+
+/**
+ * app.datasource.replica.url 이 설정되면 읽기 전용 트랜잭션을 복제본으로 보내는 DataSource 를 구성한다.
+ * 원본 연결 풀은 기존과 같이 spring.datasource.* 설정으로, 복제본 연결 풀은 app.datasource.replica.* 설정으로 만든다.
+ * 설정이 없으면 스프링 부트의 기본 DataSource 를 그대로 사용한다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replica.url")
+public class ReplicaDataSourceConfig {
+    // 복제본이 응답하지 않을 때 원본으로 넘어가기까지 기다리는 기본 시간
+    private static final long DEFAULT_REPLICA_CONNECTION_TIMEOUT_MS = 1000;
+
+    @Bean
+    public ReplicaRoutingDataSource dataSource(DataSourceProperties properties,
+                                               Environment environment,
+                                               @Value("${app.datasource.replica.url}") String replicaUrl,
+                                               @Value("${app.datasource.replica.username:${spring.datasource.username:}}") String replicaUsername,
+                                               @Value("${app.datasource.replica.password:${spring.datasource.password:}}") String replicaPassword,
+                                               @Value("${app.datasource.replica.health-check-interval-ms:5000}") long healthCheckIntervalMillis,
+                                               @Value("${app.datasource.replica.max-lag-ms:10000}") long maxLagMillis) {
+        Binder binder = Binder.get(environment);
+
+        HikariDataSource primary = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        primary.setPoolName("primary");
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+
+        HikariDataSource replica = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(properties.determineDriverClassName())
+                .url(replicaUrl)
+                .username(replicaUsername)
+                .password(replicaPassword)
+                .build();
+        replica.setPoolName("replica");
+        replica.setReadOnly(true);
+        replica.setConnectionTimeout(DEFAULT_REPLICA_CONNECTION_TIMEOUT_MS);
+        // 복제본이 내려가 있어도 원본으로 처리하며 기동할 수 있도록 연결 풀 초기화 실패를 기다리지 않음
+        replica.setInitializationFailTimeout(-1);
+        binder.bind("app.datasource.replica.hikari", Bindable.ofInstance(replica));
+
+        return new ReplicaRoutingDataSource(primary, replica,
+                Duration.ofMillis(healthCheckIntervalMillis), Duration.ofMillis(maxLagMillis));
+    }
+
+    /**
+     * 트랜잭션이 끝날 때마다 연결을 반납하게 하여, 트랜잭션마다 원본/복제본을 다시 고르게 한다.
+     * 기본값(DELAYED_ACQUISITION_AND_HOLD)에서는 open-in-view 로 요청 내내 열려 있는 EntityManager 가
+     * 처음 얻은 연결을 요청이 끝날 때까지 쥐고 있어, 읽기 전용 트랜잭션이 잡은 복제본 연결로 이후의 쓰기까지 보낸다.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer replicaConnectionHandlingCustomizer() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+}
@@ -0,0 +1,159 @@
+package com.platform.coding.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 읽기 전용 트랜잭션은 복제본(replica)으로, 나머지는 원본(primary)으로 보내는 DataSource.
+ *
+ * 실제 연결은 첫 쿼리 시점까지 미루므로(LazyConnectionDataSourceProxy) 트랜잭션의 읽기 전용 여부가 정해진 뒤에 대상을 고른다.
+ * 복제본은 주기적으로 연결과 복제 지연을 확인하며, 사용할 수 없거나 연결에 실패하면 원본이 대신 처리한다.
+ * 같은 요청에서 이미 쓰기 트랜잭션을 열었다면 이후의 읽기도 원본으로 보낸다. (ReadYourWritesContext)
+ * 캐시를 채우는 조회처럼 복제 지연을 허용할 수 없는 읽기는 PrimaryReadTransaction 으로 원본에 보낸다.
+ * 어떤 조회가 캐시를 채울지 알 수 없는 경우(Hibernate 2차 캐시)에는 holdReadsOnPrimary() 로 잠시 모든 읽기를 원본으로 보낸다.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends LazyConnectionDataSourceProxy implements AutoCloseable {
+    // 받은 WAL 을 모두 재생했으면 0, 아니면 마지막으로 재생한 트랜잭션 이후 흐른 시간(ms). 복제본이 아니면 NULL
+    private static final String REPLICATION_LAG_SQL = """
+            SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                        ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000
+                   END
+            """;
+
+    private final HikariDataSource primary;
+    private final HikariDataSource replica;
+    private final long maxLagMillis;
+    private final long healthCheckIntervalMillis;
+    private final ScheduledExecutorService healthChecker;
+
+    private volatile boolean replicaAvailable = true;
+    // 이 시각(System.nanoTime)까지는 읽기 전용 트랜잭션도 원본으로 보냄
+    private volatile long primaryReadsUntilNanos = System.nanoTime();
+
+    /**
+     * @param maxLag 이보다 복제가 늦으면 복제본을 쓰지 않음 (0 이면 지연을 확인하지 않음)
+     */
+    public ReplicaRoutingDataSource(HikariDataSource primary, HikariDataSource replica,
+                                    Duration healthCheckInterval, Duration maxLag) {
+        this.primary = primary;
+        this.replica = replica;
+        this.maxLagMillis = maxLag.toMillis();
+        this.healthCheckIntervalMillis = healthCheckInterval.toMillis();
+        setTargetDataSource(new Router());
+        afterPropertiesSet();
+
+        this.healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        healthChecker.scheduleWithFixedDelay(this::checkReplicaHealth, 0, healthCheckIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public boolean isReplicaAvailable() {
+        return replicaAvailable;
+    }
+
+    /**
+     * 지금까지 커밋된 변경이 복제본에 반영될 때까지 읽기 전용 트랜잭션도 원본으로 보낸다.
+     * 복제본은 상태 확인 주기 안에 허용 지연(max-lag) 이상 늦어지면 사용하지 않으므로, 그 둘을 더한 시간 동안 원본에서 읽는다.
+     * 무효화한 캐시가 복제본의 이전 값으로 다시 채워지지 않도록 무효화 직후에 호출한다.
+     */
+    public void holdReadsOnPrimary() {
+        long until = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxLagMillis + healthCheckIntervalMillis);
+        // 더 늦은 시각까지 잡혀 있으면 그대로 둠
+        if (until - primaryReadsUntilNanos > 0) {
+            primaryReadsUntilNanos = until;
+        }
+    }
+
+    /**
+     * 복제본에 연결하여 쿼리가 되는지, 복제 지연이 허용 범위 안인지 확인한다.
+     */
+    public void checkReplicaHealth() {
+        try (Connection connection = replica.getConnection();
+             PreparedStatement statement = connection.prepareStatement(REPLICATION_LAG_SQL);
+             ResultSet resultSet = statement.executeQuery()) {
+            resultSet.next();
+            double lagMillis = resultSet.getDouble(1);
+            if (maxLagMillis > 0 && lagMillis > maxLagMillis) {
+                markReplicaUnavailable("replication lag " + (long) lagMillis + "ms");
+            } else {
+                markReplicaAvailable();
+            }
+        } catch (SQLException | RuntimeException e) {
+            markReplicaUnavailable(e.toString());
+        }
+    }
+
+    @Override
+    public void close() {
+        healthChecker.shutdownNow();
+        replica.close();
+        primary.close();
+    }
+
+    private void markReplicaAvailable() {
+        if (!replicaAvailable) {
+            log.info("Replica is available again, routing read-only transactions to it");
+            replicaAvailable = true;
+        }
+    }
+
+    private void markReplicaUnavailable(String reason) {
+        if (replicaAvailable) {
+            log.warn("Replica is unavailable, routing read-only transactions to the primary: {}", reason);
+            replicaAvailable = false;
+        }
+    }
+
+    /**
+     * 실제 연결을 얻는 시점에 원본/복제본을 고른다.
+     */
+    private final class Router extends AbstractDataSource {
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+                // 트랜잭션 밖의 연결(뷰 렌더링 중 지연 로딩 등)은 원본을 쓰되 쓰기로 보지 않음
+                if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                    ReadYourWritesContext.markWritten();
+                }
+                return primary.getConnection();
+            }
+            if (!replicaAvailable || ReadYourWritesContext.isPinnedToPrimary() || PrimaryReadTransaction.isActive()
+                    || System.nanoTime() - primaryReadsUntilNanos < 0) {
+                return primary.getConnection();
+            }
+            try {
+                return replica.getConnection();
+            } catch (SQLException e) {
+                // 다음 상태 확인에서 복구될 때까지 원본으로 처리
+                markReplicaUnavailable(e.toString());
+                return primary.getConnection();
+            }
+        }
+
+        /**
+         * 사용자를 지정한 연결은 복제본 상태와 관계없이 원본 연결 풀에 맡긴다.
+         * (연결 풀이 지원하지 않는 경우의 예외를 복제본 장애로 오인하지 않도록 복제본으로 보내지 않음)
+         */
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return primary.getConnection(username, password);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import com.platform.coding.domain.user.User;
 import com.platform.coding.domain.user.UserRepository;
+import com.platform.coding.domain.user.UserType;
 import com.platform.coding.util.CookieUtil;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -12,6 +13,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -22,6 +24,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Optional;
 
 @Slf4j
 @Component
@@ -30,8 +33,24 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtUtil jwtUtil;
     private final UserRepository userRepository;
     private final CookieUtil cookieUtil;
+    private final JwtRevocationRegistry jwtRevocationRegistry;
     public static final String AUTHORIZATION_HEADER = "Authorization";
     public static final String BEARER_PREFIX = "Bearer ";
+    // 인증이 필요 없는 정적 리소스 경로 (토큰 검증 자체를 건너뜀)
+    private static final List<String> STATIC_RESOURCE_PREFIXES = List.of("/css/", "/js/", "/images/", "/favicon.ico");
+
+    /**
+     * true 이면 DB 조회 없이 토큰 클레임으로 인증 주체를 만든다. (User.fromClaims)
+     * false 이면 기존처럼 매 요청마다 사용자 엔티티를 조회한다.
+     */
+    @Value("${app.jwt.stateless-principal:false}")
+    private boolean statelessPrincipal;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        return STATIC_RESOURCE_PREFIXES.stream().anyMatch(uri::startsWith);
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
@@ -42,10 +61,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         if (StringUtils.hasText(token)) {
             try {
                 DecodedJWT decodedJWT = jwtUtil.verify(token);
-                // 3. 토큰이 유효하면 사용자 정보를 조회하고 인증 객체를 생성합니다.
-                Long userId = decodedJWT.getClaim("id").asLong();
-                // 4. Spring Security 컨텍스트에 인증 정보를 등록합니다.
-                userRepository.findById(userId).ifPresent(this::saveAuthentication);
+                Long userId = decodedJWT.getClaim(JwtUtil.CLAIM_ID).asLong();
+                // 3. 로그아웃/비활성화로 폐기된 토큰인지 확인합니다. (메모리 조회)
+                if (jwtRevocationRegistry.isRevoked(userId, jwtUtil.getIssuedAtMillis(decodedJWT))) {
+                    log.warn("폐기된 JWT 토큰 사용: userId={}, URI: {}", userId, request.getRequestURI());
+                    SecurityContextHolder.clearContext();
+                } else {
+                    // 4. 토큰이 유효하면 사용자 정보를 만들고 Spring Security 컨텍스트에 인증 정보를 등록합니다.
+                    resolvePrincipal(userId, decodedJWT).ifPresent(this::saveAuthentication);
+                }
             } catch (JWTVerificationException e) {
                 // 토큰이 유효하지 않으면(만료, 위조 등) SecurityContext를 비운다.
                 // 그러면 해당 요청은 '인증되지 않은' 요청으로 처리되며,
@@ -60,6 +84,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private Optional<User> resolvePrincipal(Long userId, DecodedJWT decodedJWT) {
+        if (statelessPrincipal) {
+            String email = decodedJWT.getClaim(JwtUtil.CLAIM_EMAIL).asString();
+            String userName = decodedJWT.getClaim(JwtUtil.CLAIM_NAME).asString();
+            String role = decodedJWT.getClaim(JwtUtil.CLAIM_ROLE).asString();
+            // 이름/권한 클레임이 없는 예전 토큰(또는 리프레시 토큰)은 DB 조회로 대체
+            if (email != null && userName != null && role != null) {
+                return Optional.of(User.fromClaims(userId, email, userName, UserType.valueOf(role)));
+            }
+        }
+        return userRepository.findById(userId);
+    }
+
     private String resolveToken(HttpServletRequest request) {
         // 1. 헤더에서 토큰 찾기 (API 호출용)
         String bearerToken = request.getHeader(AUTHORIZATION_HEADER);
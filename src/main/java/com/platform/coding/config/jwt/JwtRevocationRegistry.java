@@ -0,0 +1,74 @@
+package com.platform.coding.config.jwt;
+
+import com.platform.coding.domain.user.UserRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 로그아웃/비활성화된 사용자의 토큰 폐기 목록 (사용자 ID -> 이 시각 이전에 발급된 토큰은 무효).
+ * 매 요청마다 DB를 조회하지 않고도 폐기된 토큰을 거절하기 위해 메모리에 유지한다.
+ * 비활성화 정보는 기동 시 DB에서 다시 채우며, 로그아웃 정보는 그 이전에 발급된 토큰이 모두 만료되면 정리된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JwtRevocationRegistry {
+    // 비활성화된 사용자는 모든 토큰을 거절
+    private static final long REVOKE_ALL = Long.MAX_VALUE;
+
+    private final UserRepository userRepository;
+    private final JwtProperties jwtProperties;
+    private final Map<Long, Long> revokedBefore = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void loadDeactivatedUsers() {
+        userRepository.findInactiveUserIds().forEach(userId -> revokedBefore.put(userId, REVOKE_ALL));
+        log.info("Loaded {} deactivated users into the JWT revocation registry", revokedBefore.size());
+    }
+
+    /**
+     * 주어진 발급 시각의 토큰이 폐기되었는지 확인한다.
+     */
+    public boolean isRevoked(Long userId, long issuedAtMillis) {
+        Long threshold = revokedBefore.get(userId);
+        return threshold != null && issuedAtMillis < threshold;
+    }
+
+    /**
+     * 지금까지 발급된 사용자의 토큰을 모두 폐기한다. (로그아웃)
+     */
+    public void revokeIssuedBefore(Long userId, long epochMillis) {
+        // 비활성화 상태는 로그아웃으로 풀리지 않도록 더 큰 값을 유지
+        revokedBefore.merge(userId, epochMillis, Math::max);
+    }
+
+    /**
+     * 비활성화된 사용자의 토큰을 모두 거절한다.
+     */
+    public void deactivate(Long userId) {
+        revokedBefore.put(userId, REVOKE_ALL);
+    }
+
+    /**
+     * 다시 활성화된 사용자는 이후 새로 발급된 토큰부터 허용한다.
+     */
+    public void reactivate(Long userId) {
+        revokedBefore.put(userId, System.currentTimeMillis());
+    }
+
+    /**
+     * 폐기 시각 이전에 발급된 토큰(액세스/리프레시)이 모두 만료된 항목을 정리한다.
+     */
+    @Scheduled(fixedDelayString = "${app.jwt.revocation.purge-interval-ms:600000}")
+    public void purgeExpired() {
+        long maxValiditySeconds = Math.max(jwtProperties.getAccessTokenValidityInSeconds(), jwtProperties.getRefreshTokenValidityInSeconds());
+        long expiredBefore = System.currentTimeMillis() - maxValiditySeconds * 1000;
+        revokedBefore.values().removeIf(threshold -> threshold != REVOKE_ALL && threshold < expiredBefore);
+    }
+}
@@ -1,40 +1,66 @@
 package com.platform.coding.config.jwt;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import com.platform.coding.domain.user.User;
-import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.time.Instant;
 
 @Component
-@RequiredArgsConstructor
 public class JwtUtil {
+    public static final String CLAIM_ID = "id";
+    public static final String CLAIM_EMAIL = "email";
+    public static final String CLAIM_NAME = "name";
+    public static final String CLAIM_ROLE = "role";
+    // 로그아웃/비활성화 판정에 쓰는 밀리초 단위 발급 시각 (표준 iat 는 초 단위라 같은 초의 재로그인을 구분할 수 없음)
+    public static final String CLAIM_ISSUED_AT = "issuedAt";
+
     private final JwtProperties jwtProperties;
+    // 서명 알고리즘과 검증기는 스레드 안전하므로 한 번만 만들어 재사용
+    private final Algorithm algorithm;
+    private final JWTVerifier verifier;
+
+    public JwtUtil(JwtProperties jwtProperties) {
+        this.jwtProperties = jwtProperties;
+        this.algorithm = Algorithm.HMAC256(jwtProperties.getSecretKey());
+        this.verifier = JWT.require(algorithm).build();
+    }
 
     public String createAccessToken(User user) {
+        Instant now = Instant.now();
         return JWT.create()
                 .withSubject("AccessToken")
-                .withClaim("id", user.getId())
-                .withClaim("email", user.getEmail())
-                .withClaim("role", user.getUserType().name())
-                .withExpiresAt(Instant.now().plusSeconds(jwtProperties.getAccessTokenValidityInSeconds()))
-                .sign(Algorithm.HMAC256(jwtProperties.getSecretKey()));
+                .withClaim(CLAIM_ID, user.getId())
+                .withClaim(CLAIM_EMAIL, user.getEmail())
+                .withClaim(CLAIM_NAME, user.getUserName())
+                .withClaim(CLAIM_ROLE, user.getUserType().name())
+                .withClaim(CLAIM_ISSUED_AT, now.toEpochMilli())
+                .withExpiresAt(now.plusSeconds(jwtProperties.getAccessTokenValidityInSeconds()))
+                .sign(algorithm);
     }
 
     public String createRefreshToken(User user) {
+        Instant now = Instant.now();
         return JWT.create()
                 .withSubject("RefreshToken")
-                .withClaim("id", user.getId())
-                .withExpiresAt(Instant.now().plusSeconds(jwtProperties.getRefreshTokenValidityInSeconds()))
-                .sign(Algorithm.HMAC256(jwtProperties.getSecretKey()));
+                .withClaim(CLAIM_ID, user.getId())
+                .withClaim(CLAIM_ISSUED_AT, now.toEpochMilli())
+                .withExpiresAt(now.plusSeconds(jwtProperties.getRefreshTokenValidityInSeconds()))
+                .sign(algorithm);
     }
 
     public DecodedJWT verify(String token) {
-        return JWT.require(Algorithm.HMAC256(jwtProperties.getSecretKey()))
-                .build()
-                .verify(token);
+        return verifier.verify(token);
+    }
+
+    /**
+     * 토큰의 밀리초 단위 발급 시각을 반환한다. 발급 시각 클레임이 없는 예전 토큰은 0을 반환한다.
+     */
+    public long getIssuedAtMillis(DecodedJWT decodedJWT) {
+        Long issuedAt = decodedJWT.getClaim(CLAIM_ISSUED_AT).asLong();
+        return issuedAt != null ? issuedAt : 0L;
     }
 }
@@ -0,0 +1,26 @@
+package com.platform.coding.controller.admin;
+
+import com.platform.coding.service.admin.AdminCacheService;
+import com.platform.coding.service.admin.dto.CacheStatsResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/cache")
+@PreAuthorize("hasRole('SUPER_ADMIN')")
+@RequiredArgsConstructor
+public class AdminCacheController {
+    private final AdminCacheService adminCacheService;
+
+    /**
+     * 2차 캐시 적중/실패 통계
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<CacheStatsResponse> getStats() {
+        return ResponseEntity.ok(adminCacheService.getStats());
+    }
+}
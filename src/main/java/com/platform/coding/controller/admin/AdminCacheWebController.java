@@ -0,0 +1,35 @@
+package com.platform.coding.controller.admin;
+
+import com.platform.coding.service.admin.AdminCacheService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+
+@Controller
+@RequestMapping("/admin/cache")
+@PreAuthorize("hasRole('SUPER_ADMIN')")
+@RequiredArgsConstructor
+public class AdminCacheWebController {
+    private final AdminCacheService adminCacheService;
+
+    /**
+     * 2차 캐시 진단 페이지. 엔티티/쿼리 캐시와 영역별 적중/실패 통계를 보여준다.
+     */
+    @GetMapping
+    public String cacheStats(Model model) {
+        model.addAttribute("stats", adminCacheService.getStats());
+        return "admin/cache_diagnostics";
+    }
+
+    @PostMapping("/stats/reset")
+    public String resetStats(RedirectAttributes redirectAttributes) {
+        adminCacheService.resetStats();
+        redirectAttributes.addFlashAttribute("successMessage", "캐시 통계가 초기화되었습니다.");
+        return "redirect:/admin/cache";
+    }
+}
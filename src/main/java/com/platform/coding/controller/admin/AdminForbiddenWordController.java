@@ -0,0 +1,44 @@
+package com.platform.coding.controller.admin;
+
+import com.platform.coding.domain.user.User;
+import com.platform.coding.service.admin.AdminForbiddenWordService;
+import com.platform.coding.service.admin.dto.ForbiddenWordRequest;
+import com.platform.coding.service.admin.dto.ForbiddenWordResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/forbidden-words")
+@RequiredArgsConstructor
+public class AdminForbiddenWordController {
+    private final AdminForbiddenWordService adminForbiddenWordService;
+
+    @GetMapping
+    public ResponseEntity<List<ForbiddenWordResponse>> getForbiddenWords() {
+        return ResponseEntity.ok(adminForbiddenWordService.getForbiddenWords());
+    }
+
+    @PostMapping
+    // 최고 관리자만 수정 가능하도록 설정
+    @PreAuthorize("hasRole('SUPER_ADMIN')")
+    public ResponseEntity<Long> addForbiddenWord(
+            @Valid @RequestBody ForbiddenWordRequest request,
+            @AuthenticationPrincipal User admin) {
+        Long wordId = adminForbiddenWordService.addForbiddenWord(request, admin);
+        return ResponseEntity.status(HttpStatus.CREATED).body(wordId);
+    }
+
+    @DeleteMapping("/{wordId}")
+    @PreAuthorize("hasRole('SUPER_ADMIN')")
+    public ResponseEntity<Void> deleteForbiddenWord(@PathVariable Long wordId) {
+        adminForbiddenWordService.deleteForbiddenWord(wordId);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,28 @@
+package com.platform.coding.controller.admin;
+
+import com.platform.coding.service.admin.AdminJobService;
+import com.platform.coding.service.admin.dto.JobRunResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/jobs")
+@PreAuthorize("hasRole('SUPER_ADMIN')")
+@RequiredArgsConstructor
+public class AdminJobController {
+    private final AdminJobService adminJobService;
+
+    /**
+     * 스케줄 작업별 마지막 실행 결과 (실행 서버, 시간, 처리 행 수)
+     */
+    @GetMapping
+    public ResponseEntity<List<JobRunResponse>> getLatestRuns() {
+        return ResponseEntity.ok(adminJobService.getLatestRuns());
+    }
+}
@@ -0,0 +1,27 @@
+package com.platform.coding.controller.admin;
+
+import com.platform.coding.service.admin.AdminJobService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+@Controller
+@RequestMapping("/admin/jobs")
+@PreAuthorize("hasRole('SUPER_ADMIN')")
+@RequiredArgsConstructor
+public class AdminJobWebController {
+    private final AdminJobService adminJobService;
+
+    /**
+     * 스케줄 작업 현황 페이지. 작업별 마지막 실행 결과와 최근 실행 이력을 보여준다.
+     */
+    @GetMapping
+    public String listJobs(Model model) {
+        model.addAttribute("latestRuns", adminJobService.getLatestRuns());
+        model.addAttribute("recentRuns", adminJobService.getRecentRuns());
+        return "admin/job_management";
+    }
+}
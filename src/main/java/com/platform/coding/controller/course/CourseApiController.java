@@ -3,20 +3,37 @@ package com.platform.coding.controller.course;
 import com.platform.coding.domain.course.DetailedCourseResponse;
 import com.platform.coding.domain.course.SimpleCourseResponse;
 import com.platform.coding.service.course.CourseService;
+import com.platform.coding.service.course.PopularityWindow;
+import com.platform.coding.service.course.dto.PopularCourseResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/courses")
 @RequiredArgsConstructor
 public class CourseApiController {
+    // 목록은 CatalogPageCache 의 유지 시간과 같게 둠. 사용자와 무관한 응답이므로 프록시도 저장할 수 있음
+    private static final CacheControl CATALOG_CACHE_CONTROL = CacheControl.maxAge(Duration.ofSeconds(60)).cachePublic();
+    // 상세는 유지 시간이 지나면 ETag 로 재검증하며, 바뀌지 않았으면 강의를 읽지 않고 304 로 응답함
+    private static final CacheControl COURSE_DETAIL_CACHE_CONTROL = CacheControl.maxAge(Duration.ofSeconds(30)).cachePublic();
+
     private final CourseService courseService;
 
     // GET /api/courses?page=0?size=10&sort=createdAt,desc
@@ -25,13 +42,45 @@ public class CourseApiController {
             @PageableDefault(sort = "createdAt") Pageable pageable
             ) {
         Page<SimpleCourseResponse> courses = courseService.getAllPublishedCourses(pageable);
-        return ResponseEntity.ok(courses);
+        return ResponseEntity.ok().cacheControl(CATALOG_CACHE_CONTROL).body(courses);
+    }
+
+    // GET /api/courses/slice?page=0&size=10 (전체 개수 없이 다음 페이지 존재 여부만 반환)
+    @GetMapping("/slice")
+    public ResponseEntity<Slice<SimpleCourseResponse>> getCourseSlice(
+            @PageableDefault(sort = "createdAt") Pageable pageable
+    ) {
+        return ResponseEntity.ok().cacheControl(CATALOG_CACHE_CONTROL).body(courseService.getPublishedCourseSlice(pageable));
     }
 
-    // GET /api/courses/1
+    // GET /api/courses/popular?window=LAST_7_DAYS&limit=5
+    @GetMapping("/popular")
+    public ResponseEntity<List<PopularCourseResponse>> getPopularCourses(
+            @RequestParam(defaultValue = "ALL_TIME") PopularityWindow window,
+            @RequestParam(defaultValue = "5") int limit
+    ) {
+        return ResponseEntity.ok().cacheControl(CATALOG_CACHE_CONTROL).body(courseService.getPopularCourses(window, limit));
+    }
+
+    /**
+     * GET /api/courses/1
+     * 강의와 커리큘럼의 마지막 수정 시각으로 ETag/Last-Modified 를 만들고,
+     * 요청의 If-None-Match/If-Modified-Since 와 일치하면 강의를 읽기 전에 304 로 응답한다.
+     */
     @GetMapping("/{courseId}")
-    public ResponseEntity<DetailedCourseResponse> getCourseDetails (@PathVariable Long courseId) {
+    public ResponseEntity<DetailedCourseResponse> getCourseDetails (@PathVariable Long courseId, WebRequest webRequest) {
+        // 존재하지 않는 강의는 아래 상세 조회에서 예외로 처리됨
+        Optional<Instant> lastModified = courseService.findCourseLastModified(courseId);
+        // checkNotModified 가 응답에 ETag/Last-Modified 헤더를 설정하므로 아래에서는 Cache-Control 만 추가
+        if (lastModified.isPresent()
+                && webRequest.checkNotModified(courseEtag(courseId, lastModified.get()), lastModified.get().toEpochMilli())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(COURSE_DETAIL_CACHE_CONTROL).build();
+        }
         DetailedCourseResponse courseDetails = courseService.getCourseDetails(courseId);
-        return ResponseEntity.ok(courseDetails);
+        return ResponseEntity.ok().cacheControl(COURSE_DETAIL_CACHE_CONTROL).body(courseDetails);
+    }
+
+    private static String courseEtag(Long courseId, Instant lastModified) {
+        return "\"course-" + courseId + "-" + lastModified.toEpochMilli() + "\"";
     }
 }
@@ -4,6 +4,7 @@ import com.platform.coding.domain.course.DetailedCourseResponse;
 import com.platform.coding.domain.course.SimpleCourseResponse;
 import com.platform.coding.domain.user.User;
 import com.platform.coding.service.course.CourseService;
+import com.platform.coding.service.course.PopularityWindow;
 import com.platform.coding.service.review.ReviewService;
 import com.platform.coding.service.review.dto.ReviewResponse;
 import lombok.RequiredArgsConstructor;
@@ -23,6 +24,9 @@ import java.util.List;
 @RequestMapping("/courses")
 @RequiredArgsConstructor
 public class CourseWebController {
+    // 강의 목록 상단의 인기 강의 섹션에 보여줄 개수
+    private static final int POPULAR_COURSE_COUNT = 3;
+
     private final CourseService courseService;
     private final ReviewService reviewService;
     
@@ -47,6 +51,9 @@ public class CourseWebController {
         model.addAttribute("startPage", startPage);
         model.addAttribute("endPage", endPage);
 
+        // 이번 주 인기 강의 (최근 7일 수강 등록 기준)
+        model.addAttribute("popularCourses", courseService.getPopularCourses(PopularityWindow.LAST_7_DAYS, POPULAR_COURSE_COUNT));
+
         return "courses/list";
     }
 
@@ -1,6 +1,7 @@
 package com.platform.coding.controller.lecture;
 
 import com.platform.coding.domain.user.User;
+import com.platform.coding.service.lecture.LectureProgressIngestService;
 import com.platform.coding.service.lecture.LectureService;
 import com.platform.coding.service.lecture.dto.LectureViewResponse;
 import com.platform.coding.service.lecture.dto.ProgressUpdateRequest;
@@ -15,6 +16,7 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class LectureController {
     private final LectureService lectureService;
+    private final LectureProgressIngestService lectureProgressIngestService;
 
     // 동영상 시청 페이지 조회 API
     @GetMapping("/{lectureId}")
@@ -34,7 +36,7 @@ public class LectureController {
             @Valid @RequestBody ProgressUpdateRequest request,
             @AuthenticationPrincipal User user
             ) {
-        lectureService.updateLectureProgress(lectureId, request, user);
+        lectureProgressIngestService.ingest(lectureId, request, user);
 
         return ResponseEntity.ok().build();
     }
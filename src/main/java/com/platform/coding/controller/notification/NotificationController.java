@@ -2,14 +2,17 @@ package com.platform.coding.controller.notification;
 
 import com.platform.coding.domain.user.User;
 import com.platform.coding.service.notification.NotificationService;
+import com.platform.coding.service.notification.dto.NotificationInboxResponse;
 import com.platform.coding.service.notification.dto.NotificationResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.Map;
@@ -30,6 +33,19 @@ public class NotificationController {
         return ResponseEntity.ok(notifications);
     }
 
+    /**
+     * 알림함을 커서 기반으로 최신순 조회하는 API
+     * 응답의 nextCursor 를 다음 요청의 cursor 로 넘기면 더 오래된 알림을 이어서 조회함 (전체 개수는 제공하지 않음)
+     */
+    @GetMapping("/inbox")
+    public ResponseEntity<NotificationInboxResponse> getMyInbox(
+            @AuthenticationPrincipal User user,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(notificationService.getMyInbox(user, cursor, size));
+    }
+
     /**
      * 읽지 않은 알림 개수를 반환하는 API
      */
@@ -42,6 +58,14 @@ public class NotificationController {
         return ResponseEntity.ok(Map.of("count", count));
     }
 
+    /**
+     * 새 알림과 읽지 않은 알림 개수 변경을 실시간으로 받는 SSE 스트림
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamNotifications(@AuthenticationPrincipal User user) {
+        return notificationService.subscribe(user);
+    }
+
     @PatchMapping("/{notificationId}/read")
     public ResponseEntity<Void> markAsRead(
             @PathVariable Long notificationId,
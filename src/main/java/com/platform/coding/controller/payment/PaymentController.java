@@ -1,6 +1,7 @@
 package com.platform.coding.controller.payment;
 
 import com.platform.coding.domain.user.User;
+import com.platform.coding.service.payment.PaymentIdempotencyService;
 import com.platform.coding.service.payment.PaymentService;
 import com.platform.coding.service.payment.dto.PaymentRequest;
 import jakarta.validation.Valid;
@@ -9,6 +10,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -18,14 +20,23 @@ import java.net.URI;
 @RequestMapping("/api/payments")
 @RequiredArgsConstructor
 public class PaymentController {
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     private final PaymentService paymentService;
+    private final PaymentIdempotencyService paymentIdempotencyService;
 
+    /**
+     * 결제 요청. Idempotency-Key 헤더를 보내면 같은 키로 다시 요청해도 결제는 한 번만 처리되고 같은 결과를 돌려받는다.
+     */
     @PostMapping
     public ResponseEntity<Void> processPayment(
             @Valid @RequestBody PaymentRequest request,
-            @AuthenticationPrincipal User parent
+            @AuthenticationPrincipal User parent,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey
             ) {
-        Long paymentId = paymentService.processPayment(request, parent);
+        Long paymentId = idempotencyKey == null
+                ? paymentService.processPayment(request, parent)
+                : paymentIdempotencyService.processPayment(idempotencyKey, request, parent);
         return ResponseEntity.created(URI.create("/api/payments/" + paymentId)).build();
     }
 }
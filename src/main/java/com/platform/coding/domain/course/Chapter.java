@@ -5,17 +5,22 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "chapters", schema = "platform")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Chapter {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "chapters_seq")
+    @SequenceGenerator(name = "chapters_seq", sequenceName = "chapters_seq", schema = "platform")
     @Column(name = "chapter_id")
     private Long id;
 
@@ -30,6 +35,7 @@ public class Chapter {
     @Column(name = "chapter_order", nullable = false)
     private int order;
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @OneToMany(mappedBy = "chapter", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Lecture> lectures = new ArrayList<>();
 
@@ -44,6 +50,9 @@ public class Chapter {
     public void addLecture(Lecture lecture) {
         this.lectures.add(lecture);
         lecture.setChapter(this);
+        if (this.course != null) {
+            this.course.assignCompletionSlot(lecture);
+        }
     }
     
     // Course 엔티티에서 연관관계를 설정하기 위한 Setter
@@ -1,6 +1,17 @@
 package com.platform.coding.domain.course;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface ChapterRepository extends JpaRepository<Chapter, Long> {
+    /**
+     * 커리큘럼 조회용 Fetch Join.
+     * 챕터를 하나씩 지연 로딩하지 않고, 강의의 모든 챕터와 렉처를 한 번의 쿼리로 조회함.
+     * 렉처가 없는 챕터도 포함되도록 LEFT JOIN 을 사용함.
+     */
+    @Query("SELECT DISTINCT ch FROM Chapter ch LEFT JOIN FETCH ch.lectures WHERE ch.course.id = :courseId")
+    List<Chapter> findAllWithLecturesByCourseId(@Param("courseId") Long courseId);
 }
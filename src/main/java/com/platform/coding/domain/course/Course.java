@@ -3,6 +3,8 @@ package com.platform.coding.domain.course;
 import com.platform.coding.domain.user.User;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.UpdateTimestamp;
@@ -11,15 +13,20 @@ import org.hibernate.type.SqlTypes;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "courses", schema = "platform")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Course {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "courses_seq")
+    @SequenceGenerator(name = "courses_seq", sequenceName = "courses_seq", schema = "platform")
     @Column(name = "course_id")
     private Long id;
 
@@ -48,13 +55,20 @@ public class Course {
     // 'mappedBy'는 연관관계의 주인이 아님을 명시합니다 (Chapter.course가 주인).
     // 'cascade = CascadeType.ALL'은 Course 저장/삭제 시 Chapter도 함께 처리됨을 의미합니다.
     // 'orphanRemoval = true'는 컬렉션에서 Chapter를 제거하면 DB에서도 삭제되도록 합니다.
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @OneToMany(mappedBy = "course", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Chapter> chapters = new ArrayList<>();
 
+    // 다음에 추가될 렉처에 부여할 완료 비트셋 슬롯 번호 (Lecture.completionSlot)
+    // 슬롯 도입 이전에 생성된 강의는 null 이며, LectureCompletionMigrationRunner 가 채운다.
+    @Column(name = "next_lecture_slot")
+    private Integer nextLectureSlot;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private Instant createdAt;
 
+    // 챕터/렉처/과제가 바뀌어도 갱신되므로 커리큘럼을 포함한 강의 상세의 버전으로 쓰인다. (HTTP ETag/Last-Modified)
     @UpdateTimestamp
     @Column(name = "updated_at", nullable = false)
     private Instant updatedAt;
@@ -65,12 +79,49 @@ public class Course {
         this.title = title;
         this.description = description;
         this.price = price;
+        this.nextLectureSlot = 0;
     }
 
     // 연관관계 편의 메소드
     public void addChapter(Chapter chapter) {
         this.chapters.add(chapter);
         chapter.setCourse(this);
+        // 챕터에 미리 담겨 있던 렉처들에도 슬롯을 부여
+        chapter.getLectures().forEach(this::assignCompletionSlot);
+    }
+
+    /**
+     * 렉처에 아직 슬롯이 없으면 새 슬롯을 부여한다.
+     * 슬롯이 초기화되지 않은(마이그레이션 전) 강의라면 아무것도 하지 않는다.
+     */
+    protected void assignCompletionSlot(Lecture lecture) {
+        if (this.nextLectureSlot == null || lecture.getCompletionSlot() != null) {
+            return;
+        }
+        lecture.assignCompletionSlot(this.nextLectureSlot++);
+    }
+
+    /**
+     * 슬롯 도입 이전에 생성된 강의의 렉처들에 (챕터 순서, 렉처 순서) 기준으로 슬롯을 부여한다.
+     * @return 이번 호출로 슬롯이 새로 부여되었으면 true
+     */
+    public boolean initializeCompletionSlots() {
+        if (this.nextLectureSlot != null) {
+            return false;
+        }
+        this.nextLectureSlot = this.chapters.stream()
+                .flatMap(chapter -> chapter.getLectures().stream())
+                .map(Lecture::getCompletionSlot)
+                .filter(Objects::nonNull)
+                .mapToInt(slot -> slot + 1)
+                .max()
+                .orElse(0);
+        this.chapters.stream()
+                .sorted(Comparator.comparingInt(Chapter::getOrder).thenComparing(Chapter::getId))
+                .flatMap(chapter -> chapter.getLectures().stream()
+                        .sorted(Comparator.comparingInt(Lecture::getOrder).thenComparing(Lecture::getId)))
+                .forEach(this::assignCompletionSlot);
+        return true;
     }
 
     public void updateDetails(String title, String description, BigDecimal price) {
@@ -85,6 +136,12 @@ public class Course {
         }
     }
     
+    // 커리큘럼(챕터/렉처/과제) 변경을 강의의 수정 시각에 반영
+    public void markCurriculumUpdated() {
+        // 값을 바꿔 변경 감지 대상이 되게 하면, flush 시점에 @UpdateTimestamp 가 현재 시각으로 다시 채움
+        this.updatedAt = Instant.now();
+    }
+
     // 보관(논리적 삭제) 처리
     public void archive() {
         if (this.status == CourseStatus.ARCHIVED) {
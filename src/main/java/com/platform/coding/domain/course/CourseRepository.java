@@ -2,8 +2,36 @@ package com.platform.coding.domain.course;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
 
 public interface CourseRepository extends JpaRepository<Course, Long> {
-    Page<Course> findByStatus(CourseStatus courseStatus, Pageable pageable);
+    // 강의 목록 페이지용: 강사 이름을 조인하여 목록 DTO 를 한 번의 쿼리로 조회함 (전체 개수 쿼리는 별도)
+    @Query(value = "SELECT new com.platform.coding.domain.course.SimpleCourseResponse(c.id, c.title, a.userName, c.price) " +
+            "FROM Course c JOIN c.admin a WHERE c.status = :status",
+            countQuery = "SELECT COUNT(c) FROM Course c WHERE c.status = :status")
+    Page<SimpleCourseResponse> findCatalogPageByStatus(@Param("status") CourseStatus status, Pageable pageable);
+
+    // 전체 개수가 필요 없는 목록(무한 스크롤 등)용: 다음 페이지 존재 여부만 한 건 더 읽어 판단함
+    @Query("SELECT new com.platform.coding.domain.course.SimpleCourseResponse(c.id, c.title, a.userName, c.price) " +
+            "FROM Course c JOIN c.admin a WHERE c.status = :status")
+    Slice<SimpleCourseResponse> findCatalogSliceByStatus(@Param("status") CourseStatus status, Pageable pageable);
+
+    // 렉처 완료 슬롯이 아직 부여되지 않은(슬롯 도입 이전에 생성된) 강의 ID 목록
+    @Query("SELECT c.id FROM Course c WHERE c.nextLectureSlot IS NULL")
+    List<Long> findIdsWithoutCompletionSlots();
+
+    // 커리큘럼 조회용: 강의와 강사(admin) 정보를 함께 조회함
+    @Query("SELECT c FROM Course c JOIN FETCH c.admin WHERE c.id = :courseId")
+    Optional<Course> findWithAdminById(@Param("courseId") Long courseId);
+
+    // 강의 상세의 버전(수정 시각)만 조회. 엔티티를 읽지 않고 조건부 요청(ETag/Last-Modified)을 판단할 때 사용
+    @Query("SELECT c.updatedAt FROM Course c WHERE c.id = :courseId")
+    Optional<Instant> findUpdatedAtById(@Param("courseId") Long courseId);
 }
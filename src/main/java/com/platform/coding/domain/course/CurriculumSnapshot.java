@@ -0,0 +1,122 @@
+package com.platform.coding.domain.course;
+
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 강의(Course) → 챕터 → 렉처 → 과제 트리의 불변 스냅샷.
+ * CurriculumCache 에 보관되며, 관리자가 커리큘럼을 수정하면 새 버전으로 교체된다.
+ * 챕터와 렉처는 (순서, ID) 기준으로 정렬되어 있다.
+ */
+@Getter
+public final class CurriculumSnapshot {
+    private final Long courseId;
+    // 스냅샷을 만들 당시 강의의 수정 시각 (Course.updatedAt). HTTP ETag/Last-Modified 의 기준
+    private final Instant lastModified;
+    private final String title;
+    private final String description;
+    private final String instructorName;
+    private final BigDecimal price;
+    private final CourseStatus status;
+    private final List<ChapterSnapshot> chapters;
+    // 커리큘럼 순서대로 펼친 전체 렉처 목록
+    private final List<LectureSnapshot> lectures;
+    // 렉처 ID -> lectures 에서의 위치
+    private final Map<Long, Integer> lectureIndex;
+
+    public CurriculumSnapshot(Long courseId, Instant lastModified, String title, String description,
+                              String instructorName, BigDecimal price, CourseStatus status, List<ChapterSnapshot> chapters) {
+        this.courseId = courseId;
+        this.lastModified = lastModified;
+        this.title = title;
+        this.description = description;
+        this.instructorName = instructorName;
+        this.price = price;
+        this.status = status;
+        this.chapters = List.copyOf(chapters);
+        this.lectures = this.chapters.stream()
+                .flatMap(chapter -> chapter.lectures().stream())
+                .toList();
+
+        Map<Long, Integer> index = new HashMap<>();
+        for (int i = 0; i < this.lectures.size(); i++) {
+            index.put(this.lectures.get(i).lectureId(), i);
+        }
+        this.lectureIndex = Map.copyOf(index);
+    }
+
+    public int lectureCount() {
+        return lectures.size();
+    }
+
+    public Optional<LectureSnapshot> findLecture(Long lectureId) {
+        Integer index = lectureIndex.get(lectureId);
+        return index == null ? Optional.empty() : Optional.of(lectures.get(index));
+    }
+
+    // 커리큘럼 순서상 이전 렉처의 ID (첫 렉처이면 null)
+    public Long previousLectureId(Long lectureId) {
+        Integer index = lectureIndex.get(lectureId);
+        return index == null || index == 0 ? null : lectures.get(index - 1).lectureId();
+    }
+
+    // 커리큘럼 순서상 다음 렉처의 ID (마지막 렉처이면 null)
+    public Long nextLectureId(Long lectureId) {
+        Integer index = lectureIndex.get(lectureId);
+        return index == null || index == lectures.size() - 1 ? null : lectures.get(index + 1).lectureId();
+    }
+
+    public record ChapterSnapshot(
+            Long chapterId,
+            int order,
+            String title,
+            List<LectureSnapshot> lectures
+    ) {
+        public ChapterSnapshot {
+            lectures = List.copyOf(lectures);
+        }
+    }
+
+    public record LectureSnapshot(
+            Long lectureId,
+            int order,
+            String title,
+            String videoUrl,
+            Integer durationSeconds,
+            boolean isSample,
+            Integer completionSlot,
+            List<AssignmentSnapshot> assignments
+    ) {
+        public LectureSnapshot {
+            assignments = List.copyOf(assignments);
+        }
+
+        /**
+         * 시청 시간이 재생 시간 범위 안의 값인지 확인한다.
+         */
+        public boolean isValidViewedSeconds(int viewedSeconds) {
+            return durationSeconds != null && viewedSeconds >= 0 && viewedSeconds <= durationSeconds;
+        }
+
+        /**
+         * 주어진 시청 시간이 완료 기준(재생 시간의 95% 이상)을 넘는지 확인한다.
+         */
+        public boolean isCompletedAt(int viewedSeconds) {
+            return durationSeconds != null && durationSeconds > 0
+                    && (double) viewedSeconds / durationSeconds >= 0.95;
+        }
+    }
+
+    public record AssignmentSnapshot(
+            Long assignmentId,
+            String title,
+            Instant deadline
+    ) {
+    }
+}
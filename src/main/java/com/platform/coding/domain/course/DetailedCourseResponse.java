@@ -1,6 +1,6 @@
 package com.platform.coding.domain.course;
 
-import com.platform.coding.domain.submission.Assignment; // Assignment 임포트 추가
+import com.platform.coding.domain.enrollment.Enrollment;
 import com.platform.coding.domain.submission.Submission;
 import lombok.Builder;
 
@@ -35,6 +35,7 @@ public record DetailedCourseResponse(
             Long lectureId,
             String title,
             boolean isSample,
+            boolean completed,
             List<AssignmentDTO> assignments
     ) {
         @Builder
@@ -54,26 +55,28 @@ public record DetailedCourseResponse(
 
 
     /**
-     * 과제 목록을 포함하여 DTO를 생성하도록 로직 변경
+     * 커리큘럼 스냅샷으로부터 DTO를 생성함. (커리큘럼 조회 쿼리 없음)
+     * enrollment 가 주어지면 완료 비트셋으로 렉처별 수강 완료 여부를 함께 표시함. (없으면 null)
      */
-    public static DetailedCourseResponse fromEntity(Course course, Map<Long, List<Assignment>> assignmentsByLecture, Map<Long, Submission> submissionsByAssignment) {
-        List<ChapterDTO> chapterDTOS = course.getChapters().stream()
+    public static DetailedCourseResponse of(CurriculumSnapshot curriculum, Map<Long, Submission> submissionsByAssignment, Enrollment enrollment) {
+        List<ChapterDTO> chapterDTOS = curriculum.getChapters().stream()
                 .map(chapter -> new ChapterDTO(
-                        chapter.getId(),
-                        chapter.getTitle(),
-                        chapter.getLectures().stream()
+                        chapter.chapterId(),
+                        chapter.title(),
+                        chapter.lectures().stream()
                                 .map(lecture -> new LectureDTO(
-                                        lecture.getId(),
-                                        lecture.getTitle(),
+                                        lecture.lectureId(),
+                                        lecture.title(),
                                         lecture.isSample(),
+                                        enrollment != null && enrollment.isLectureCompleted(lecture.completionSlot()),
                                         // 각 렉처에 해당하는 과제 목록을 DTO로 변환
-                                        assignmentsByLecture.getOrDefault(lecture.getId(), List.of()).stream()
+                                        lecture.assignments().stream()
                                                 .map(assignment -> {
                                                     // 해당 과제에 대한 학생의 제출 정보를 조회
-                                                    Submission submission = submissionsByAssignment.get(assignment.getId());
+                                                    Submission submission = submissionsByAssignment.get(assignment.assignmentId());
                                                     return new AssignmentDTO(
-                                                            assignment.getId(),
-                                                            assignment.getTitle(),
+                                                            assignment.assignmentId(),
+                                                            assignment.title(),
                                                             // 제출 정보가 있으면 ID와 상태를, 없으면 null을 DTO에 담음
                                                             submission != null ? submission.getId() : null,
                                                             submission != null ? submission.getStatus().name() : null
@@ -86,12 +89,12 @@ public record DetailedCourseResponse(
                 .toList();
 
         return new DetailedCourseResponse(
-                course.getId(),
-                course.getTitle(),
-                course.getDescription(),
-                course.getAdmin().getUserName(),
-                course.getPrice(),
+                curriculum.getCourseId(),
+                curriculum.getTitle(),
+                curriculum.getDescription(),
+                curriculum.getInstructorName(),
+                curriculum.getPrice(),
                 chapterDTOS
         );
     }
-}
\ No newline at end of file
+}
@@ -5,16 +5,21 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.Instant;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "lectures", schema = "platform")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Lecture {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "lectures_seq")
+    @SequenceGenerator(name = "lectures_seq", sequenceName = "lectures_seq", schema = "platform")
     @Column(name = "lecture_id")
     private Long id;
 
@@ -37,6 +42,11 @@ public class Lecture {
     @Column(name = "is_sample", nullable = false)
     private boolean isSample = false;
 
+    // 수강 정보의 완료 비트셋(Enrollment.completedLectures)에서 이 렉처가 차지하는 위치.
+    // 강의(Course) 안에서 한 번 부여되면 렉처 순서가 바뀌거나 다른 렉처가 삭제되어도 변하지 않는다.
+    @Column(name = "completion_slot")
+    private Integer completionSlot;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private Instant createdAt = Instant.now();
 
@@ -54,6 +64,12 @@ public class Lecture {
         this.chapter = chapter;
     }
 
+    protected void assignCompletionSlot(Integer completionSlot) {
+        if (this.completionSlot == null) {
+            this.completionSlot = completionSlot;
+        }
+    }
+
     public void updateDetails(String title, int order, String videoUrl, boolean isSample, Integer durationSeconds) {
         this.title = title;
         this.order = order;
@@ -1,6 +1,13 @@
 package com.platform.coding.domain.course;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
 
 public interface LectureRepository extends JpaRepository<Lecture, Long> {
+    // 렉처가 속한 강의(Course)의 ID
+    @Query("SELECT l.chapter.course.id FROM Lecture l WHERE l.id = :lectureId")
+    Optional<Long> findCourseIdById(@Param("lectureId") Long lectureId);
 }
@@ -0,0 +1,14 @@
+package com.platform.coding.domain.enrollment;
+
+import java.time.LocalDate;
+
+/**
+ * 인기 강좌 집계용 프로젝션 (강의 ID, 수강 등록일(UTC), 수강 등록 수)
+ * 등록일이 null 이면 최근 기간 이전에 등록된 수강 건의 합계이다.
+ */
+public record CourseEnrollmentCount(
+        Long courseId,
+        LocalDate enrolledDate,
+        long enrollmentCount
+) {
+}
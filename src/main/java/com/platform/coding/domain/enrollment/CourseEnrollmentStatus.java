@@ -0,0 +1,10 @@
+package com.platform.coding.domain.enrollment;
+
+/**
+ * 학생의 수강 권한 확인용 프로젝션 (강의 ID, 수강 상태)
+ */
+public record CourseEnrollmentStatus(
+        Long courseId,
+        EnrollmentStatus status
+) {
+}
@@ -7,19 +7,26 @@ import jakarta.persistence.*;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.Instant;
+import java.util.Arrays;
+import java.util.BitSet;
 
+// 상태 변경(환불 요청 등)이 잠금 없이 읽은 완료 비트셋을 함께 덮어쓰지 않도록 바뀐 컬럼만 UPDATE 함
+@DynamicUpdate
 @Entity
 @Table(name = "enrollments", uniqueConstraints = @UniqueConstraint(columnNames = {"student_id", "course_id"}), schema = "platform")
 @Getter
 @NoArgsConstructor
 public class Enrollment {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "enrollments_seq")
+    @SequenceGenerator(name = "enrollments_seq", sequenceName = "enrollments_seq", schema = "platform")
     @Column(name = "enrollment_id")
     private Long id;
 
@@ -39,6 +46,22 @@ public class Enrollment {
     @Column(name = "progress_rate", nullable = false, precision = 5, scale = 2)
     private BigDecimal progressRate = BigDecimal.ZERO;
 
+    // 완료한 렉처 수. 렉처가 '완료'로 바뀔 때만 증가하며, 이 값이 도입되기 전의 수강 정보는 null 이다.
+    @Column(name = "completed_lecture_count")
+    private Integer completedLectureCount;
+
+    // 완료한 렉처의 슬롯(Lecture.completionSlot) 위치에 비트가 세워진 비트셋.
+    // null 이면 아직 lecture_progress 에서 옮겨오지 않은 수강 정보이다.
+    @Column(name = "completed_lectures")
+    private byte[] completedLectures;
+
+    // 이어보기 위치: 마지막으로 시청한 렉처와 시청 시간(초)
+    @Column(name = "last_viewed_lecture_id")
+    private Long lastViewedLectureId;
+
+    @Column(name = "last_viewed_seconds")
+    private Integer lastViewedSeconds;
+
     @Column(name = "enrolled_at", nullable = false, updatable = false)
     private Instant enrolledAt;
 
@@ -55,6 +78,8 @@ public class Enrollment {
         this.student = student;
         this.course = course;
         this.status = EnrollmentStatus.IN_PROGRESS;
+        this.completedLectureCount = 0;
+        this.completedLectures = new byte[0];
         this.enrolledAt = Instant.now();
     }
 
@@ -76,6 +101,109 @@ public class Enrollment {
         }
     }
 
+    /**
+     * 렉처 완료 정보가 비트셋으로 옮겨진 수강 정보인지 확인합니다.
+     */
+    public boolean isCompletionMigrated() {
+        return this.completedLectures != null;
+    }
+
+    /**
+     * 주어진 슬롯의 렉처를 완료했는지 확인합니다.
+     */
+    public boolean isLectureCompleted(Integer completionSlot) {
+        if (completionSlot == null || this.completedLectures == null) {
+            return false;
+        }
+        int index = completionSlot >>> 3;
+        return index < this.completedLectures.length
+                && (this.completedLectures[index] & (1 << (completionSlot & 7))) != 0;
+    }
+
+    /**
+     * 렉처를 완료 처리하고 완료 렉처 수와 진도율을 갱신합니다.
+     * @param completionSlot 완료한 렉처의 슬롯
+     * @param totalLectureCount 강의의 전체 렉처 수
+     * @return 이번에 처음 완료된 렉처이면 true
+     */
+    public boolean markLectureCompleted(int completionSlot, int totalLectureCount) {
+        if (!isCompletionMigrated()) {
+            throw new IllegalStateException("렉처 완료 정보가 아직 이관되지 않은 수강 정보입니다.");
+        }
+        if (isLectureCompleted(completionSlot)) {
+            return false;
+        }
+        // 배열을 새로 만들어 교체해야 변경 감지(dirty checking)가 확실히 동작함
+        int index = completionSlot >>> 3;
+        byte[] bits = Arrays.copyOf(this.completedLectures, Math.max(this.completedLectures.length, index + 1));
+        bits[index] |= (byte) (1 << (completionSlot & 7));
+        this.completedLectures = bits;
+
+        updateCompletedLectureCount(this.completedLectureCount + 1, totalLectureCount);
+        return true;
+    }
+
+    /**
+     * 이어보기 위치를 기록합니다.
+     */
+    public void recordLastViewed(Long lectureId, int viewedSeconds) {
+        this.lastViewedLectureId = lectureId;
+        this.lastViewedSeconds = viewedSeconds;
+    }
+
+    /**
+     * 특정 렉처의 이어보기 위치(초)를 반환합니다. 마지막으로 본 렉처가 아니면 처음부터 재생합니다.
+     */
+    public int getResumeSecondsOf(Long lectureId) {
+        if (lectureId == null || !lectureId.equals(this.lastViewedLectureId) || this.lastViewedSeconds == null) {
+            return 0;
+        }
+        return this.lastViewedSeconds;
+    }
+
+    /**
+     * 기존 lecture_progress 데이터로부터 완료 비트셋과 이어보기 위치를 채웁니다.
+     * @param completedLectures 완료 비트셋
+     * @param lastViewedLectureId 마지막으로 시청한 렉처 ID (없으면 null)
+     * @param lastViewedSeconds 마지막 시청 시간(초)
+     * @param totalLectureCount 강의의 전체 렉처 수
+     */
+    public void migrateCompletion(byte[] completedLectures, Long lastViewedLectureId, int lastViewedSeconds, int totalLectureCount) {
+        if (isCompletionMigrated()) {
+            return;
+        }
+        this.completedLectures = completedLectures;
+        // 이관 전에 이미 새 이어보기 위치가 기록되었다면 그 값을 유지
+        if (this.lastViewedLectureId == null) {
+            this.lastViewedLectureId = lastViewedLectureId;
+            this.lastViewedSeconds = lastViewedSeconds;
+        }
+        updateCompletedLectureCount(BitSet.valueOf(completedLectures).cardinality(), totalLectureCount);
+    }
+
+    /**
+     * 완료 렉처 수를 주어진 값으로 맞추고 진도율을 다시 계산합니다.
+     * 렉처가 삭제되어 완료 수가 전체 수보다 많아지더라도 진도율은 100%를 넘지 않습니다.
+     * @param completedLectureCount 완료한 렉처 수
+     * @param totalLectureCount 강의의 전체 렉처 수
+     */
+    public void updateCompletedLectureCount(int completedLectureCount, int totalLectureCount) {
+        this.completedLectureCount = completedLectureCount;
+
+        if (totalLectureCount <= 0) {
+            // 렉처가 없으면 진도율 계산 불가
+            return;
+        }
+
+        BigDecimal newProgressRate = BigDecimal.valueOf(Math.min(completedLectureCount, totalLectureCount))
+                .multiply(new BigDecimal(100))
+                .divide(BigDecimal.valueOf(totalLectureCount), 2, RoundingMode.HALF_UP);
+
+        if (newProgressRate.compareTo(this.progressRate) != 0) {
+            updateProgress(newProgressRate);
+        }
+    }
+
     /**
      * 환불을 요청하여 상태를 변경합니다.
      */
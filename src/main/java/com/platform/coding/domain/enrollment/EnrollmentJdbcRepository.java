@@ -0,0 +1,102 @@
+package com.platform.coding.domain.enrollment;
+
+import com.platform.coding.domain.lectureprogress.LectureProgressHeartbeat;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 수강 정보를 JDBC 로 한 번에 읽고 쓰는 저장소. (버퍼에 모인 시청 기록 반영, 수강 등록, 집계)
+ * 엔티티를 하나씩 조회/저장하는 대신 한 문장(또는 배치)으로 한 번의 왕복에 처리한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class EnrollmentJdbcRepository {
+    // 수강 중인 학생의 하트비트만 반영하고, 재생 시간을 벗어난 값은 무시한다. (LectureSnapshot.isValidViewedSeconds 와 동일한 규칙)
+    private static final String UPDATE_LAST_VIEWED_SQL = """
+            UPDATE platform.enrollments e
+            SET last_viewed_lecture_id = l.lecture_id,
+                last_viewed_seconds = ?
+            FROM platform.lectures l
+            JOIN platform.chapters c ON c.chapter_id = l.chapter_id
+            WHERE l.lecture_id = ? AND e.course_id = c.course_id AND e.student_id = ?
+              AND ? <= l.duration_seconds
+            """;
+
+    // 유효한(수강 중/완료) 수강 건을 강의별로 세되, 최근 기간 안의 건은 UTC 등록일별로 나눈다.
+    private static final String COUNT_BY_COURSE_AND_RECENT_DAY_SQL = """
+            SELECT e.course_id,
+                   CASE WHEN e.enrolled_at >= ? THEN CAST(e.enrolled_at AT TIME ZONE 'UTC' AS date) END AS enrolled_date,
+                   COUNT(*) AS enrollment_count
+            FROM platform.enrollments e
+            WHERE e.status IN ('IN_PROGRESS', 'COMPLETED')
+            GROUP BY e.course_id, enrolled_date
+            """;
+
+    // (학생, 강의) 쌍 목록을 한 문장으로 등록하고, 이미 수강 정보가 있는 쌍은 유일 제약에 걸려 건너뜀
+    private static final String INSERT_IF_ABSENT_SQL = """
+            INSERT INTO platform.enrollments
+                (enrollment_id, student_id, course_id, status, progress_rate, completed_lecture_count, completed_lectures, enrolled_at)
+            SELECT nextval('platform.enrollments_seq'), t.student_id, t.course_id, 'IN_PROGRESS', 0, 0, ''::bytea, ?
+            FROM unnest(?::bigint[], ?::bigint[]) AS t(student_id, course_id)
+            ON CONFLICT (student_id, course_id) DO NOTHING
+            RETURNING student_id, course_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 이어보기 위치를 하나의 트랜잭션 안에서 배치로 갱신한다.
+     * @param heartbeats (학생, 렉처)별로 병합된 시청 기록
+     */
+    @Transactional
+    public void batchUpdateLastViewed(List<LectureProgressHeartbeat> heartbeats) {
+        jdbcTemplate.batchUpdate(UPDATE_LAST_VIEWED_SQL, heartbeats, heartbeats.size(), (ps, heartbeat) -> {
+            ps.setInt(1, heartbeat.viewedSeconds());
+            ps.setLong(2, heartbeat.lectureId());
+            ps.setLong(3, heartbeat.studentId());
+            ps.setInt(4, heartbeat.viewedSeconds());
+        });
+    }
+
+    /**
+     * 수강 정보가 없는 (학생, 강의) 쌍만 수강 중 상태로 등록한다. 동시에 같은 쌍을 등록해도 한 건만 생성된다.
+     * @return 새로 등록된 쌍
+     */
+    public List<StudentCourseId> insertIfAbsent(Collection<StudentCourseId> pairs, Instant enrolledAt) {
+        if (pairs.isEmpty()) {
+            return List.of();
+        }
+        Long[] studentIds = pairs.stream().map(StudentCourseId::studentId).toArray(Long[]::new);
+        Long[] courseIds = pairs.stream().map(StudentCourseId::courseId).toArray(Long[]::new);
+        return jdbcTemplate.query(connection -> {
+                    PreparedStatement ps = connection.prepareStatement(INSERT_IF_ABSENT_SQL);
+                    ps.setObject(1, enrolledAt.atOffset(ZoneOffset.UTC));
+                    ps.setArray(2, connection.createArrayOf("bigint", studentIds));
+                    ps.setArray(3, connection.createArrayOf("bigint", courseIds));
+                    return ps;
+                },
+                (rs, rowNum) -> new StudentCourseId(rs.getLong("student_id"), rs.getLong("course_id")));
+    }
+
+    /**
+     * 강의별 수강 등록 수를 한 번의 집계 쿼리로 조회한다.
+     * @param recentSince 이 시각 이후의 등록 건은 등록일별로, 이전 건은 등록일 없이 합산하여 반환
+     */
+    public List<CourseEnrollmentCount> countByCourseAndRecentDay(Instant recentSince) {
+        return jdbcTemplate.query(COUNT_BY_COURSE_AND_RECENT_DAY_SQL,
+                (rs, rowNum) -> new CourseEnrollmentCount(
+                        rs.getLong("course_id"),
+                        rs.getObject("enrolled_date", LocalDate.class),
+                        rs.getLong("enrollment_count")),
+                recentSince.atOffset(ZoneOffset.UTC));
+    }
+}
@@ -2,15 +2,35 @@ package com.platform.coding.domain.enrollment;
 
 import com.platform.coding.domain.course.Course;
 import com.platform.coding.domain.user.User;
+import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
     Optional<Enrollment> findByStudentAndCourse(User student, Course course);
+    Optional<Enrollment> findByStudentAndCourseId(User student, Long courseId);
+
+    /**
+     * 수강 정보를 행 잠금(SELECT ... FOR UPDATE)을 걸고 조회함.
+     * 완료 비트셋은 읽고-고치고-쓰는 방식으로 갱신되므로, 동시에 들어온 시청 기록이 서로의 완료 비트를 덮어쓰지 않도록 함.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM Enrollment e WHERE e.student = :student AND e.course.id = :courseId")
+    Optional<Enrollment> findForUpdateByStudentAndCourseId(@Param("student") User student, @Param("courseId") Long courseId);
+
+    /**
+     * 여러 수강 정보를 ID 순서로 행 잠금을 걸고 조회함. (완료 정보 이관 배치용)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM Enrollment e WHERE e.id IN :ids ORDER BY e.id")
+    List<Enrollment> findAllForUpdateByIdIn(@Param("ids") Collection<Long> ids);
 
     /**
      * N+1 문제 해결을 위해 Fetch Join 적용
@@ -19,4 +39,23 @@ public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
      */
     @Query("SELECT e FROM Enrollment e JOIN FETCH e.course c JOIN FETCH c.admin a WHERE e.student = :student")
     List<Enrollment> findByStudent(@Param("student") User student);
+
+    /**
+     * 여러 학생의 수강 정보를 강의(Course)와 함께 한 번의 쿼리로 조회함. (학부모 대시보드용)
+     */
+    @Query("SELECT e FROM Enrollment e JOIN FETCH e.course c WHERE e.student.id IN :studentIds ORDER BY e.id")
+    List<Enrollment> findWithCourseByStudentIdIn(@Param("studentIds") Collection<Long> studentIds);
+
+    /**
+     * 학생의 모든 수강 강의와 그 상태만 조회함. (수강 권한 캐시 적재용)
+     */
+    @Query("SELECT new com.platform.coding.domain.enrollment.CourseEnrollmentStatus(e.course.id, e.status) " +
+            "FROM Enrollment e WHERE e.student.id = :studentId")
+    List<CourseEnrollmentStatus> findCourseStatusesByStudentId(@Param("studentId") Long studentId);
+
+    /**
+     * 렉처 완료 비트셋이 아직 채워지지 않은 수강 정보 ID를 afterId 이후부터 순서대로 조회함. (이관 배치용)
+     */
+    @Query("SELECT e.id FROM Enrollment e WHERE e.completedLectures IS NULL AND e.id > :afterId ORDER BY e.id")
+    List<Long> findIdsWithoutCompletionBits(@Param("afterId") Long afterId, Pageable pageable);
 }
@@ -0,0 +1,10 @@
+package com.platform.coding.domain.enrollment;
+
+/**
+ * 수강 정보의 (학생 ID, 강의 ID) 쌍. 여러 수강 정보를 한 번에 등록할 때 사용
+ */
+public record StudentCourseId(
+        Long studentId,
+        Long courseId
+) {
+}
@@ -15,7 +15,8 @@ import java.time.Instant;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class LectureProgress {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "lecture_progress_seq")
+    @SequenceGenerator(name = "lecture_progress_seq", sequenceName = "lecture_progress_seq", schema = "platform")
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -44,19 +45,25 @@ public class LectureProgress {
         this.updatedAt = Instant.now();
     }
 
-    public void updateProgress(int newViewedSeconds) {
+    /**
+     * 시청 위치를 갱신한다.
+     * @return 이번 갱신으로 처음 '완료' 상태가 되었으면 true
+     */
+    public boolean updateProgress(int newViewedSeconds) {
         // 비상식적인 값 방어
         if (newViewedSeconds < 0 || newViewedSeconds > this.lecture.getDurationSeconds()) {
-            return;
+            return false;
         }
 
         this.lastViewedSeconds = newViewedSeconds;
         this.updatedAt = Instant.now();
         
         // 시청 시간의 95% 이상을 보면 완료 처리
-        if (this.lecture.getDurationSeconds() > 0 &&
+        if (!this.isCompleted && this.lecture.getDurationSeconds() > 0 &&
                 (double) this.lastViewedSeconds / this.lecture.getDurationSeconds() >= 0.95) {
             this.isCompleted = true;
+            return true;
         }
+        return false;
     }
 }
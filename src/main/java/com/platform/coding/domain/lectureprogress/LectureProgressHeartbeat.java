@@ -0,0 +1,12 @@
+package com.platform.coding.domain.lectureprogress;
+
+/**
+ * 동영상 시청 페이지가 주기적으로 전송하는 시청 위치 정보.
+ * 버퍼링 모드에서는 (학생, 렉처) 단위로 가장 마지막 값만 유지된다.
+ */
+public record LectureProgressHeartbeat(
+        Long studentId,
+        Long lectureId,
+        int viewedSeconds
+) {
+}
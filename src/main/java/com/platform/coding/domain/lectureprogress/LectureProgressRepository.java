@@ -1,11 +1,23 @@
 package com.platform.coding.domain.lectureprogress;
 
+import com.platform.coding.domain.course.Course;
 import com.platform.coding.domain.course.Lecture;
 import com.platform.coding.domain.user.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface LectureProgressRepository extends JpaRepository<LectureProgress, Long> {
     Optional<LectureProgress> findByStudentAndLecture(User student, Lecture lecture);
+
+    /**
+     * 수강 정보의 완료 비트셋 이관용.
+     * 학생이 특정 강의(Course)에서 남긴 모든 시청 기록을 렉처와 함께 조회함.
+     */
+    @Query("SELECT lp FROM LectureProgress lp JOIN FETCH lp.lecture l " +
+            "WHERE lp.student = :student AND l.chapter.course = :course")
+    List<LectureProgress> findByStudentAndCourse(@Param("student") User student, @Param("course") Course course);
 }
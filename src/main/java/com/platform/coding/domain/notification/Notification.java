@@ -8,15 +8,19 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 
 @Entity
-@Table(name = "notifications", schema = "platform")
+// 알림함 커서 조회(user_id, created_at, notification_id 순 정렬)를 인덱스만으로 처리하기 위한 복합 인덱스
+@Table(name = "notifications", schema = "platform",
+        indexes = @Index(name = "idx_notification_user_created", columnList = "user_id, created_at, notification_id"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Notification {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notifications_seq")
+    @SequenceGenerator(name = "notifications_seq", sequenceName = "notifications_seq", schema = "platform")
     @Column(name = "notification_id")
     private Long id;
     
@@ -43,15 +47,19 @@ public class Notification {
         this.user = user;
         this.content = content;
         this.linkUrl = linkUrl;
-        this.createdAt = Instant.now();
+        // DB(timestamp)의 정밀도에 맞춰 저장해 두어야 커서(createdAt, id) 비교가 메모리와 DB에서 같게 동작함
+        this.createdAt = Instant.now().truncatedTo(ChronoUnit.MICROS);
     }
 
     /**
      * 알림을 '읽음' 상태로 변경함.
+     * @return 읽지 않은 알림이 이번 호출로 읽음 처리되었으면 true
      */
-    public void markAsRead() {
-        if (!this.isRead) {
-            this.isRead = true;
+    public boolean markAsRead() {
+        if (this.isRead) {
+            return false;
         }
+        this.isRead = true;
+        return true;
     }
 }
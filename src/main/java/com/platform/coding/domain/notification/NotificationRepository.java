@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.util.List;
 
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
@@ -16,6 +17,23 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
      */
     Page<Notification> findAllByUserOrderByCreatedAtDesc(User user, Pageable pageable);
 
+    /**
+     * 알림함의 첫 페이지를 최신순으로 조회한다. (전체 개수를 세지 않음)
+     */
+    @Query("SELECT n FROM Notification n WHERE n.user.id = :userId ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notification> findInboxFirstPage(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 커서(createdAt, id) 이후의 알림을 최신순으로 조회한다. (키셋 페이지네이션)
+     */
+    @Query("SELECT n FROM Notification n WHERE n.user.id = :userId " +
+            "AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.id < :id)) " +
+            "ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notification> findInboxPageAfter(@Param("userId") Long userId,
+                                          @Param("createdAt") Instant createdAt,
+                                          @Param("id") Long id,
+                                          Pageable pageable);
+
     /**
      * 특정 사용자의 읽지 않은 모든 알림을 찾아 '읽음' 상태로 변경한다.
      * @return 변경된 알림의 수
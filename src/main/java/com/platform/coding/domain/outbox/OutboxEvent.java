@@ -0,0 +1,68 @@
+package com.platform.coding.domain.outbox;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.Instant;
+
+/**
+ * 트랜잭션 아웃박스 이벤트.
+ * 업무 데이터와 같은 트랜잭션에서 저장되어 커밋된 경우에만 남고, 이후 OutboxDispatcher 가 별도 트랜잭션에서 처리한다.
+ */
+@Entity
+@Table(name = "outbox_events", schema = "platform",
+        indexes = @Index(name = "idx_outbox_events_status_next_attempt", columnList = "status, next_attempt_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_events_seq")
+    @SequenceGenerator(name = "outbox_events_seq", sequenceName = "outbox_events_seq", schema = "platform")
+    @Column(name = "outbox_event_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.NAMED_ENUM)
+    @Column(name = "event_type", nullable = false)
+    private OutboxEventType eventType;
+
+    // JSON 직렬화된 이벤트 내용
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.NAMED_ENUM)
+    @Column(nullable = false)
+    private OutboxStatus status;
+
+    // 처리를 시도한 횟수 (처리 대상으로 가져갈 때 증가)
+    @Column(nullable = false)
+    private int attempts;
+
+    // 이 시각 이후에 처리 대상이 됨 (재시도 대기, 처리 중인 이벤트의 임대 만료 시각)
+    @Column(name = "next_attempt_at", nullable = false)
+    private Instant nextAttemptAt;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @Column(name = "processed_at")
+    private Instant processedAt;
+
+    public OutboxEvent(OutboxEventType eventType, String payload) {
+        this.eventType = eventType;
+        this.payload = payload;
+        this.status = OutboxStatus.PENDING;
+        this.attempts = 0;
+        this.createdAt = Instant.now();
+        this.nextAttemptAt = this.createdAt;
+    }
+}
@@ -0,0 +1,6 @@
+package com.platform.coding.domain.outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+}
@@ -0,0 +1,6 @@
+package com.platform.coding.domain.outbox;
+
+public enum OutboxEventType {
+    ENROLLMENT_REQUESTED,   // 결제 완료 후 수강 등록 생성
+    NOTIFICATION_REQUESTED  // 사용자 알림 생성
+}
@@ -0,0 +1,110 @@
+package com.platform.coding.domain.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 아웃박스 이벤트를 가져오고 처리 결과를 기록하는 저장소.
+ * 여러 서버/스레드가 동시에 가져가도 같은 이벤트를 나눠 갖지 않도록 SKIP LOCKED 로 선점한다.
+ * 선점할 때마다 시도 횟수가 올라가므로, 처리 결과는 선점 당시의 시도 횟수가 그대로인 경우에만 기록한다.
+ * (임대가 만료되어 다른 작업자가 다시 선점한 이벤트를 이전 작업자가 덮어쓰지 않음)
+ */
+@Repository
+@RequiredArgsConstructor
+public class OutboxJdbcRepository {
+    // 처리 시각이 된 대기 이벤트를 선점하고, 임대 만료 시각까지 다른 작업자가 가져가지 못하도록 미룸
+    // (처리 도중 서버가 죽으면 임대가 만료된 뒤 다시 처리됨)
+    private static final String CLAIM_SQL = """
+            UPDATE platform.outbox_events o
+            SET next_attempt_at = ?, attempts = o.attempts + 1
+            WHERE o.outbox_event_id IN (
+                SELECT outbox_event_id FROM platform.outbox_events
+                WHERE status = 'PENDING' AND next_attempt_at <= ?
+                ORDER BY outbox_event_id
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED)
+            RETURNING o.outbox_event_id, o.event_type, o.payload, o.attempts
+            """;
+
+    private static final String MARK_PROCESSED_SQL = """
+            UPDATE platform.outbox_events
+            SET status = 'PROCESSED', processed_at = now(), last_error = NULL
+            WHERE outbox_event_id = ? AND status = 'PENDING' AND attempts = ?
+            """;
+
+    private static final String RESCHEDULE_SQL = """
+            UPDATE platform.outbox_events
+            SET next_attempt_at = ?, last_error = ?
+            WHERE outbox_event_id = ? AND status = 'PENDING' AND attempts = ?
+            """;
+
+    private static final String MARK_FAILED_SQL = """
+            UPDATE platform.outbox_events
+            SET status = 'FAILED', last_error = ?
+            WHERE outbox_event_id = ? AND status = 'PENDING' AND attempts = ?
+            """;
+
+    private static final String DELETE_PROCESSED_SQL = """
+            DELETE FROM platform.outbox_events
+            WHERE outbox_event_id IN (
+                SELECT outbox_event_id FROM platform.outbox_events
+                WHERE status = 'PROCESSED' AND processed_at < ?
+                LIMIT ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 처리할 이벤트를 최대 limit 개 선점한다.
+     * @param leaseUntil 이 시각까지 처리 결과가 기록되지 않으면 다시 처리 대상이 됨
+     */
+    public List<OutboxMessage> claim(int limit, Instant leaseUntil) {
+        return jdbcTemplate.query(CLAIM_SQL,
+                (rs, rowNum) -> new OutboxMessage(
+                        rs.getLong("outbox_event_id"),
+                        OutboxEventType.valueOf(rs.getString("event_type")),
+                        rs.getString("payload"),
+                        rs.getInt("attempts")),
+                leaseUntil.atOffset(ZoneOffset.UTC), Instant.now().atOffset(ZoneOffset.UTC), limit);
+    }
+
+    /**
+     * 선점한 이벤트들을 처리 완료로 기록한다.
+     * @return 기록된 개수 (다른 작업자가 다시 선점한 이벤트는 제외)
+     */
+    public int markProcessed(List<OutboxMessage> messages) {
+        int[][] counts = jdbcTemplate.batchUpdate(MARK_PROCESSED_SQL, messages, messages.size(), (ps, message) -> {
+            ps.setLong(1, message.id());
+            ps.setInt(2, message.attempts());
+        });
+        return Arrays.stream(counts).flatMapToInt(Arrays::stream).sum();
+    }
+
+    /**
+     * @return 다른 작업자가 다시 선점하여 기록하지 못했으면 false
+     */
+    public boolean reschedule(OutboxMessage message, Instant nextAttemptAt, String error) {
+        return jdbcTemplate.update(RESCHEDULE_SQL, nextAttemptAt.atOffset(ZoneOffset.UTC), error, message.id(), message.attempts()) > 0;
+    }
+
+    /**
+     * @return 다른 작업자가 다시 선점하여 기록하지 못했으면 false
+     */
+    public boolean markFailed(OutboxMessage message, String error) {
+        return jdbcTemplate.update(MARK_FAILED_SQL, error, message.id(), message.attempts()) > 0;
+    }
+
+    /**
+     * 처리 완료 후 보관 기간이 지난 이벤트를 최대 limit 개 삭제한다.
+     * @return 삭제된 개수
+     */
+    public int deleteProcessedBefore(Instant before, int limit) {
+        return jdbcTemplate.update(DELETE_PROCESSED_SQL, before.atOffset(ZoneOffset.UTC), limit);
+    }
+}
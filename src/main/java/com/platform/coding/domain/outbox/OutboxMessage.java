@@ -0,0 +1,12 @@
+package com.platform.coding.domain.outbox;
+
+/**
+ * 처리 대상으로 가져온 아웃박스 이벤트 (ID, 종류, JSON 내용, 이번을 포함한 시도 횟수)
+ */
+public record OutboxMessage(
+        Long id,
+        OutboxEventType eventType,
+        String payload,
+        int attempts
+) {
+}
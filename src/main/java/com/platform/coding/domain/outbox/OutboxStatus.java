@@ -0,0 +1,7 @@
+package com.platform.coding.domain.outbox;
+
+public enum OutboxStatus {
+    PENDING,    // 처리 대기 중 (재시도 대기 포함)
+    PROCESSED,  // 처리 완료
+    FAILED      // 최대 시도 횟수를 넘겨 처리를 포기함
+}
@@ -0,0 +1,101 @@
+package com.platform.coding.domain.payment;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+/**
+ * 결제 멱등 키 저장소.
+ * 키 선점은 유일 제약에 기대는 INSERT ... ON CONFLICT 한 문장으로 처리하여 동시에 들어온 요청 중 하나만 성공한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PaymentIdempotencyJdbcRepository {
+    // 새 키를 선점하거나, 처리 중인 채로 임대가 만료된 키를 넘겨받음
+    // 넘겨받을 때는 저장된 요청 해시를 유지하며, 같은 내용의 요청만 넘겨받을 수 있음
+    private static final String RESERVE_SQL = """
+            INSERT INTO platform.payment_idempotency_keys
+                (user_id, idempotency_key, request_hash, status, locked_until, created_at)
+            VALUES (?, ?, ?, 'IN_PROGRESS', ?, ?)
+            ON CONFLICT (user_id, idempotency_key) DO UPDATE
+            SET locked_until = EXCLUDED.locked_until
+            WHERE payment_idempotency_keys.status = 'IN_PROGRESS'
+              AND payment_idempotency_keys.locked_until < EXCLUDED.created_at
+              AND payment_idempotency_keys.request_hash = EXCLUDED.request_hash
+            RETURNING payment_idempotency_key_id
+            """;
+
+    private static final String FIND_SQL = """
+            SELECT request_hash, status, payment_id
+            FROM platform.payment_idempotency_keys
+            WHERE user_id = ? AND idempotency_key = ?
+            """;
+
+    private static final String COMPLETE_SQL = """
+            UPDATE platform.payment_idempotency_keys
+            SET status = 'COMPLETED', payment_id = ?
+            WHERE payment_idempotency_key_id = ? AND status = 'IN_PROGRESS' AND locked_until = ?
+            """;
+
+    private static final String RELEASE_SQL = """
+            DELETE FROM platform.payment_idempotency_keys
+            WHERE payment_idempotency_key_id = ? AND status = 'IN_PROGRESS' AND locked_until = ?
+            """;
+
+    private static final String DELETE_CREATED_BEFORE_SQL = """
+            DELETE FROM platform.payment_idempotency_keys
+            WHERE created_at < ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 키를 선점한다. 이미 다른 요청이 선점했거나 완료된 키, 또는 다른 내용의 요청으로 선점된 키이면 빈 값을 반환한다.
+     * lockedUntil 은 선점의 식별자로도 쓰이므로 complete/release 에 같은 값을 전달해야 한다. (DB 정밀도인 마이크로초 단위여야 함)
+     * @return 선점한 키의 ID
+     */
+    public Optional<Long> reserve(Long userId, String idempotencyKey, String requestHash, Instant lockedUntil, Instant now) {
+        return jdbcTemplate.query(RESERVE_SQL,
+                        (rs, rowNum) -> rs.getLong(1),
+                        userId, idempotencyKey, requestHash,
+                        lockedUntil.atOffset(ZoneOffset.UTC), now.atOffset(ZoneOffset.UTC))
+                .stream()
+                .findFirst();
+    }
+
+    public Optional<PaymentIdempotencyRecord> find(Long userId, String idempotencyKey) {
+        return jdbcTemplate.query(FIND_SQL,
+                        (rs, rowNum) -> new PaymentIdempotencyRecord(
+                                rs.getString("request_hash"),
+                                PaymentIdempotencyStatus.valueOf(rs.getString("status")),
+                                rs.getObject("payment_id", Long.class)),
+                        userId, idempotencyKey)
+                .stream()
+                .findFirst();
+    }
+
+    /**
+     * 선점한 키를 완료 처리한다.
+     * @param lockedUntil 선점할 때 사용한 임대 만료 시각. 그 사이 다른 요청이 넘겨받았다면 갱신하지 않음
+     * @return 완료 처리되었으면 true
+     */
+    public boolean complete(Long id, Instant lockedUntil, Long paymentId) {
+        return jdbcTemplate.update(COMPLETE_SQL, paymentId, id, lockedUntil.atOffset(ZoneOffset.UTC)) == 1;
+    }
+
+    /**
+     * 결제가 실패했을 때 선점을 풀어 같은 키로 다시 시도할 수 있게 한다.
+     * 그 사이 다른 요청이 넘겨받은 선점은 지우지 않는다.
+     */
+    public void release(Long id, Instant lockedUntil) {
+        jdbcTemplate.update(RELEASE_SQL, id, lockedUntil.atOffset(ZoneOffset.UTC));
+    }
+
+    public int deleteCreatedBefore(Instant before) {
+        return jdbcTemplate.update(DELETE_CREATED_BEFORE_SQL, before.atOffset(ZoneOffset.UTC));
+    }
+}
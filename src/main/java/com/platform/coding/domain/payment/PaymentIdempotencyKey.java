@@ -0,0 +1,54 @@
+package com.platform.coding.domain.payment;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.Instant;
+
+/**
+ * 결제 요청의 멱등 키.
+ * (사용자, 키) 유일 제약으로 같은 키의 결제가 여러 서버에서 동시에 처리되지 않도록 하고, 완료된 결제 ID를 보관하여 재요청에 그대로 돌려준다.
+ * 행은 PaymentIdempotencyJdbcRepository 로만 읽고 쓴다.
+ */
+@Entity
+@Table(name = "payment_idempotency_keys", schema = "platform",
+        uniqueConstraints = @UniqueConstraint(name = "uk_payment_idempotency_keys_user_key", columnNames = {"user_id", "idempotency_key"}),
+        indexes = @Index(name = "idx_payment_idempotency_keys_created_at", columnList = "created_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PaymentIdempotencyKey {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "payment_idempotency_key_id")
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "idempotency_key", nullable = false, length = 100)
+    private String idempotencyKey;
+
+    // 같은 키로 다른 내용의 결제를 요청했는지 확인하기 위한 요청 내용의 SHA-256 해시
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.NAMED_ENUM)
+    @Column(nullable = false)
+    private PaymentIdempotencyStatus status;
+
+    @Column(name = "payment_id")
+    private Long paymentId;
+
+    // 처리 중인 서버가 죽은 경우 이 시각이 지나면 다른 요청이 처리를 넘겨받음
+    @Column(name = "locked_until", nullable = false)
+    private Instant lockedUntil;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+}
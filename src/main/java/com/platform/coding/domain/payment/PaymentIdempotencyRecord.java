@@ -0,0 +1,11 @@
+package com.platform.coding.domain.payment;
+
+/**
+ * 저장된 멱등 키의 처리 상태와 결과
+ */
+public record PaymentIdempotencyRecord(
+        String requestHash,
+        PaymentIdempotencyStatus status,
+        Long paymentId
+) {
+}
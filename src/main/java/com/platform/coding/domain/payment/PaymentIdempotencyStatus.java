@@ -0,0 +1,6 @@
+package com.platform.coding.domain.payment;
+
+public enum PaymentIdempotencyStatus {
+    IN_PROGRESS,    // 결제 처리 중 (다른 요청은 결과를 기다림)
+    COMPLETED       // 결제 완료 (같은 키의 요청에는 저장된 결과를 돌려줌)
+}
@@ -13,12 +13,15 @@ import java.math.BigDecimal;
 import java.time.Instant;
 
 @Entity
-@Table(name = "rewards", schema = "platform")
+@Table(name = "rewards", schema = "platform",
+        // 만료 보상 정리 작업의 조건 (is_used = false AND expires_at < ?)
+        indexes = @Index(name = "idx_rewards_is_used_expires_at", columnList = "is_used, expires_at"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Reward {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "rewards_seq")
+    @SequenceGenerator(name = "rewards_seq", sequenceName = "rewards_seq", schema = "platform")
     @Column(name = "reward_id")
     private Long id;
 
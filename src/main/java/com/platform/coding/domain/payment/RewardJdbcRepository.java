@@ -0,0 +1,38 @@
+package com.platform.coding.domain.payment;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class RewardJdbcRepository {
+    // ID 순으로 다음 묶음을 골라 삭제 (이전 묶음의 마지막 ID 이후만 보므로 이미 훑은 구간을 다시 읽지 않음)
+    // 결제 중인 보상처럼 다른 트랜잭션이 잠근 행은 기다리지 않고 건너뜀
+    private static final String DELETE_EXPIRED_UNUSED_SQL = """
+            DELETE FROM platform.rewards
+            WHERE reward_id IN (
+                SELECT reward_id FROM platform.rewards
+                WHERE is_used = false AND expires_at < ? AND reward_id > ?
+                ORDER BY reward_id
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED)
+            RETURNING reward_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 만료되고 사용되지 않은 보상을 afterId 다음부터 ID 순으로 최대 limit 개 삭제한다.
+     * 트랜잭션 밖에서 호출하면 문장 하나가 곧 트랜잭션이므로 잠금은 이 묶음을 지우는 동안만 유지된다.
+     * @return 삭제된 보상 ID 목록
+     */
+    public List<Long> deleteExpiredUnused(Instant now, long afterId, int limit) {
+        return jdbcTemplate.queryForList(DELETE_EXPIRED_UNUSED_SQL, Long.class,
+                now.atOffset(ZoneOffset.UTC), afterId, limit);
+    }
+}
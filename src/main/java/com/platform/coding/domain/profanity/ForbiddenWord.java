@@ -0,0 +1,44 @@
+package com.platform.coding.domain.profanity;
+
+import com.platform.coding.domain.user.User;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.Instant;
+
+/**
+ * 리뷰 등 사용자 입력을 검사할 때 사용하는 금지어.
+ * 검사 규칙과 같게 공백을 제거하고 소문자로 바꾼 형태로 저장한다.
+ */
+@Entity
+@Table(name = "forbidden_words", schema = "platform")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ForbiddenWord {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "forbidden_words_seq")
+    @SequenceGenerator(name = "forbidden_words_seq", sequenceName = "forbidden_words_seq", schema = "platform")
+    @Column(name = "word_id")
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 100)
+    private String word;
+
+    // 금지어를 등록한 관리자 (기본 금지어는 null)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "admin_id")
+    private User admin;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    public ForbiddenWord(String word, User admin) {
+        this.word = word;
+        this.admin = admin;
+    }
+}
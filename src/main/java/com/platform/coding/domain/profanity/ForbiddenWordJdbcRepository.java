@@ -0,0 +1,48 @@
+package com.platform.coding.domain.profanity;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 기본 금지어를 등록하는 저장소.
+ * 여러 서버가 동시에 기동해도 비어 있는 테이블을 한 곳에서만 채우도록 트랜잭션 단위 잠금을 잡은 뒤 확인한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ForbiddenWordJdbcRepository {
+    private static final String LOCK_SQL = "SELECT pg_advisory_xact_lock(hashtext('forbidden-word-seed'))";
+
+    private static final String EXISTS_SQL = "SELECT EXISTS (SELECT 1 FROM platform.forbidden_words)";
+
+    // ID 는 엔티티와 같은 시퀀스에서 받음 (시퀀스 값 하나는 JPA 가 할당하는 ID 범위와 겹치지 않음)
+    // 잠금 없이 관리자가 같은 금지어를 먼저 등록했으면 건너뜀
+    private static final String INSERT_IF_ABSENT_SQL = """
+            INSERT INTO platform.forbidden_words (word_id, word, admin_id, created_at)
+            VALUES (nextval('platform.forbidden_words_seq'), ?, NULL, now())
+            ON CONFLICT (word) DO NOTHING
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 금지어 테이블이 비어 있을 때만 주어진 금지어를 등록한다.
+     * @param words 정규화된(공백 제거, 소문자) 금지어
+     * @return 등록한 금지어 수 (이미 금지어가 있으면 0)
+     */
+    @Transactional
+    public int insertAllIfEmpty(List<String> words) {
+        jdbcTemplate.execute(LOCK_SQL);
+        if (Boolean.TRUE.equals(jdbcTemplate.queryForObject(EXISTS_SQL, Boolean.class))) {
+            return 0;
+        }
+        int[] counts = jdbcTemplate.batchUpdate(INSERT_IF_ABSENT_SQL, words.stream()
+                .map(word -> new Object[]{word})
+                .toList());
+        return Arrays.stream(counts).sum();
+    }
+}
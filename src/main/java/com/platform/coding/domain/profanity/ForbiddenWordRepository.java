@@ -0,0 +1,18 @@
+package com.platform.coding.domain.profanity;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface ForbiddenWordRepository extends JpaRepository<ForbiddenWord, Long> {
+    boolean existsByWord(String word);
+
+    List<ForbiddenWord> findAllByOrderByWordAsc();
+
+    /**
+     * 금지어 문자열만 조회한다. (금지어 검사기 생성용)
+     */
+    @Query("SELECT w.word FROM ForbiddenWord w")
+    List<String> findAllWords();
+}
@@ -16,7 +16,8 @@ import java.time.Instant;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Refund {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "refunds_seq")
+    @SequenceGenerator(name = "refunds_seq", sequenceName = "refunds_seq", schema = "platform")
     @Column(name = "refund_id")
     private Long id;
 
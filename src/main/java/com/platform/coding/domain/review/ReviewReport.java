@@ -16,7 +16,8 @@ import java.time.Instant;
 public class ReviewReport {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "review_reports_seq")
+    @SequenceGenerator(name = "review_reports_seq", sequenceName = "review_reports_seq", schema = "platform")
     @Column(name = "report_id")
     private Long id;
 
@@ -5,6 +5,8 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.UpdateTimestamp;
 import org.hibernate.type.SqlTypes;
@@ -12,13 +14,16 @@ import org.hibernate.type.SqlTypes;
 import java.time.Instant;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "reward_policies", schema = "platform")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class RewardPolicy {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reward_policies_seq")
+    @SequenceGenerator(name = "reward_policies_seq", sequenceName = "reward_policies_seq", schema = "platform")
     @Column(name = "policy_id")
     private Long id;
 
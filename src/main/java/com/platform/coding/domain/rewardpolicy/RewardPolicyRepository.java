@@ -1,9 +1,14 @@
 package com.platform.coding.domain.rewardpolicy;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.Optional;
 
 public interface RewardPolicyRepository extends JpaRepository<RewardPolicy, Long> {
+    // 후기 작성마다 조회되지만 관리자 화면에서만 바뀌므로 쿼리 캐시를 사용함
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<RewardPolicy> findByPolicyKey(PolicyKey key);
 }
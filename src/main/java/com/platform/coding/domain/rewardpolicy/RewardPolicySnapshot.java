@@ -0,0 +1,65 @@
+package com.platform.coding.domain.rewardpolicy;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * 모든 보상 정책(PolicyKey)을 타입이 정해진 값으로 담은 불변 스냅샷.
+ * 정책 값 문자열은 스냅샷을 만들 때 한 번만 해석하며, DB에 없는 정책은 기본값을 사용한다.
+ *
+ * @param reviewRewardMinLength 포인트를 받을 수 있는 후기 최소 글자 수
+ * @param reviewRewardPointAmount 후기 작성 시 지급 포인트 (0 이면 지급하지 않음)
+ */
+public record RewardPolicySnapshot(
+        int reviewRewardMinLength,
+        BigDecimal reviewRewardPointAmount
+) {
+    public static final RewardPolicySnapshot DEFAULTS = new RewardPolicySnapshot(50, BigDecimal.ZERO);
+
+    /**
+     * 정책 키 -> 정책 값 문자열로 스냅샷을 만든다.
+     * @throws IllegalArgumentException 형식에 맞지 않는 값이 있는 경우
+     */
+    public static RewardPolicySnapshot from(Map<PolicyKey, String> values) {
+        RewardPolicySnapshot snapshot = DEFAULTS;
+        for (Map.Entry<PolicyKey, String> entry : values.entrySet()) {
+            snapshot = snapshot.with(entry.getKey(), entry.getValue());
+        }
+        return snapshot;
+    }
+
+    /**
+     * 정책 하나의 값만 바꾼 스냅샷을 반환한다.
+     * @throws IllegalArgumentException 형식에 맞지 않는 값인 경우
+     */
+    public RewardPolicySnapshot with(PolicyKey key, String value) {
+        return switch (key) {
+            case REVIEW_REWARD_MIN_LENGTH -> new RewardPolicySnapshot(parseCount(key, value), reviewRewardPointAmount);
+            case REVIEW_REWARD_POINT_AMOUNT -> new RewardPolicySnapshot(reviewRewardMinLength, parseAmount(key, value));
+        };
+    }
+
+    private static int parseCount(PolicyKey key, String value) {
+        try {
+            int count = Integer.parseInt(value.trim());
+            if (count >= 0) {
+                return count;
+            }
+        } catch (NumberFormatException e) {
+            // 아래에서 같은 메시지로 처리
+        }
+        throw new IllegalArgumentException("정책 값은 0 이상의 정수여야 합니다: " + key + "=" + value);
+    }
+
+    private static BigDecimal parseAmount(PolicyKey key, String value) {
+        try {
+            BigDecimal amount = new BigDecimal(value.trim());
+            if (amount.signum() >= 0) {
+                return amount;
+            }
+        } catch (NumberFormatException e) {
+            // 아래에서 같은 메시지로 처리
+        }
+        throw new IllegalArgumentException("정책 값은 0 이상의 숫자여야 합니다: " + key + "=" + value);
+    }
+}
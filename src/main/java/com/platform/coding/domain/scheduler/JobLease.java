@@ -0,0 +1,38 @@
+package com.platform.coding.domain.scheduler;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 스케줄 작업의 실행 임대.
+ * 여러 서버 중 임대를 잡은 한 곳만 작업을 실행하며, 임대를 새로 잡을 때마다 fencingToken 이 1씩 증가한다.
+ * 행은 JobLeaseJdbcRepository 로만 읽고 쓴다.
+ */
+@Entity
+@Table(name = "job_leases", schema = "platform")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class JobLease {
+
+    @Id
+    @Column(name = "job_name", length = 100)
+    private String jobName;
+
+    // 임대를 잡은 서버 (프로세스) 식별자
+    @Column(nullable = false, length = 200)
+    private String owner;
+
+    @Column(name = "fencing_token", nullable = false)
+    private long fencingToken;
+
+    // 이 시각이 지나면 다른 서버가 임대를 넘겨받을 수 있음
+    @Column(name = "leased_until", nullable = false)
+    private Instant leasedUntil;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+}
@@ -0,0 +1,74 @@
+package com.platform.coding.domain.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.OptionalLong;
+
+/**
+ * 스케줄 작업 임대 저장소.
+ * 임대 획득은 INSERT ... ON CONFLICT 한 문장으로 처리하여, 여러 서버가 동시에 시도해도 만료된 임대는 한 곳만 넘겨받는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JobLeaseJdbcRepository {
+    // 처음 실행하는 작업이면 임대를 만들고, 기존 임대가 만료되었으면 펜싱 토큰을 올려 넘겨받음
+    private static final String ACQUIRE_SQL = """
+            INSERT INTO platform.job_leases (job_name, owner, fencing_token, leased_until, updated_at)
+            VALUES (?, ?, 1, ?, ?)
+            ON CONFLICT (job_name) DO UPDATE
+            SET owner = EXCLUDED.owner,
+                fencing_token = job_leases.fencing_token + 1,
+                leased_until = EXCLUDED.leased_until,
+                updated_at = EXCLUDED.updated_at
+            WHERE job_leases.leased_until < EXCLUDED.updated_at
+            RETURNING fencing_token
+            """;
+
+    private static final String RENEW_SQL = """
+            UPDATE platform.job_leases
+            SET leased_until = ?, updated_at = ?
+            WHERE job_name = ? AND fencing_token = ? AND leased_until >= ?
+            """;
+
+    private static final String RELEASE_SQL = """
+            UPDATE platform.job_leases
+            SET leased_until = ?, updated_at = ?
+            WHERE job_name = ? AND fencing_token = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 임대를 잡는다. 다른 서버가 유효한 임대를 가지고 있으면 빈 값을 반환한다.
+     * @return 새로 발급된 펜싱 토큰
+     */
+    public OptionalLong acquire(String jobName, String owner, Instant leasedUntil, Instant now) {
+        return jdbcTemplate.query(ACQUIRE_SQL,
+                        (rs, rowNum) -> rs.getLong(1),
+                        jobName, owner, leasedUntil.atOffset(ZoneOffset.UTC), now.atOffset(ZoneOffset.UTC))
+                .stream()
+                .mapToLong(Long::longValue)
+                .findFirst();
+    }
+
+    /**
+     * 임대 기간을 늘린다. 임대가 이미 만료되었거나 다른 서버가 넘겨받았으면(토큰 불일치) false 를 반환한다.
+     */
+    public boolean renew(String jobName, long fencingToken, Instant leasedUntil, Instant now) {
+        return jdbcTemplate.update(RENEW_SQL,
+                leasedUntil.atOffset(ZoneOffset.UTC), now.atOffset(ZoneOffset.UTC),
+                jobName, fencingToken, now.atOffset(ZoneOffset.UTC)) > 0;
+    }
+
+    /**
+     * 작업이 끝나면 임대 만료 시각을 leasedUntil 로 당긴다. (최소 유지 시간이 지났으면 현재 시각)
+     * 다른 서버가 넘겨받은 임대는 건드리지 않는다.
+     */
+    public void release(String jobName, long fencingToken, Instant leasedUntil, Instant now) {
+        jdbcTemplate.update(RELEASE_SQL, leasedUntil.atOffset(ZoneOffset.UTC), now.atOffset(ZoneOffset.UTC), jobName, fencingToken);
+    }
+}
@@ -0,0 +1,86 @@
+package com.platform.coding.domain.scheduler;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 스케줄 작업의 실행 이력 한 건
+ */
+@Entity
+@Table(name = "job_runs", schema = "platform",
+        indexes = @Index(name = "idx_job_runs_job_name", columnList = "job_name, job_run_id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class JobRun {
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "job_runs_seq")
+    @SequenceGenerator(name = "job_runs_seq", sequenceName = "job_runs_seq", schema = "platform")
+    @Column(name = "job_run_id")
+    private Long id;
+
+    @Column(name = "job_name", nullable = false, length = 100)
+    private String jobName;
+
+    @Column(nullable = false, length = 200)
+    private String owner;
+
+    // 이 실행이 잡은 임대의 펜싱 토큰
+    @Column(name = "fencing_token", nullable = false)
+    private long fencingToken;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.NAMED_ENUM)
+    @Column(nullable = false)
+    private JobRunStatus status;
+
+    @Column(name = "started_at", nullable = false, updatable = false)
+    private Instant startedAt;
+
+    @Column(name = "finished_at")
+    private Instant finishedAt;
+
+    // 작업이 처리(삭제/갱신)한 행 수
+    @Column(name = "rows_affected")
+    private Long rowsAffected;
+
+    @Column(name = "error_message", length = MAX_ERROR_LENGTH)
+    private String errorMessage;
+
+    public JobRun(String jobName, String owner, long fencingToken) {
+        this.jobName = jobName;
+        this.owner = owner;
+        this.fencingToken = fencingToken;
+        this.status = JobRunStatus.RUNNING;
+        this.startedAt = Instant.now();
+    }
+
+    public void succeed(long rowsAffected) {
+        this.status = JobRunStatus.SUCCEEDED;
+        this.rowsAffected = rowsAffected;
+        this.finishedAt = Instant.now();
+    }
+
+    public void fail(String errorMessage) {
+        this.status = JobRunStatus.FAILED;
+        this.errorMessage = errorMessage != null && errorMessage.length() > MAX_ERROR_LENGTH
+                ? errorMessage.substring(0, MAX_ERROR_LENGTH)
+                : errorMessage;
+        this.finishedAt = Instant.now();
+    }
+
+    /**
+     * 실행 시간. 아직 끝나지 않았으면 null
+     */
+    public Duration getDuration() {
+        return finishedAt == null ? null : Duration.between(startedAt, finishedAt);
+    }
+}
@@ -0,0 +1,23 @@
+package com.platform.coding.domain.scheduler;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface JobRunRepository extends JpaRepository<JobRun, Long> {
+    /**
+     * 작업별 가장 최근 실행 이력을 작업 이름 순으로 조회함.
+     */
+    @Query("SELECT r FROM JobRun r WHERE r.id IN " +
+            "(SELECT MAX(r2.id) FROM JobRun r2 GROUP BY r2.jobName) " +
+            "ORDER BY r.jobName")
+    List<JobRun> findLatestRuns();
+
+    /**
+     * 전체 작업의 최근 실행 이력을 최신순으로 조회함.
+     */
+    @Query("SELECT r FROM JobRun r ORDER BY r.id DESC")
+    List<JobRun> findRecentRuns(Pageable pageable);
+}
@@ -0,0 +1,7 @@
+package com.platform.coding.domain.scheduler;
+
+public enum JobRunStatus {
+    RUNNING,    // 실행 중 (서버가 죽으면 이 상태로 남음)
+    SUCCEEDED,  // 정상 완료
+    FAILED      // 예외로 중단
+}
@@ -0,0 +1,58 @@
+package com.platform.coding.domain.stats;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+/**
+ * 관리자 대시보드용 일별 집계 행.
+ * 결제/가입/환불 시점에 같은 트랜잭션 안에서 증분 반영되고(DailyStatsJdbcRepository), 매일 밤 원본 데이터로 다시 계산된다.
+ * 하루의 경계는 UTC 기준이다.
+ */
+@Entity
+@Table(name = "daily_stats", schema = "platform")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DailyStats {
+    public static final ZoneOffset ZONE = ZoneOffset.UTC;
+
+    @Id
+    @Column(name = "stat_date")
+    private LocalDate statDate;
+
+    // 결제 금액 합계 (환불 차감 전)
+    @Column(nullable = false, precision = 14, scale = 2)
+    private BigDecimal revenue;
+
+    @Column(name = "payment_count", nullable = false)
+    private long paymentCount;
+
+    @Column(name = "signup_count", nullable = false)
+    private long signupCount;
+
+    @Column(name = "enrollment_count", nullable = false)
+    private long enrollmentCount;
+
+    @Column(name = "refund_count", nullable = false)
+    private long refundCount;
+
+    @Column(name = "refund_amount", nullable = false, precision = 14, scale = 2)
+    private BigDecimal refundAmount;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    public static LocalDate dateOf(Instant instant) {
+        return LocalDate.ofInstant(instant, ZONE);
+    }
+
+    public static Instant startOf(LocalDate date) {
+        return date.atStartOfDay().toInstant(ZONE);
+    }
+}
@@ -0,0 +1,115 @@
+package com.platform.coding.domain.stats;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * 일별 집계 테이블을 갱신하는 저장소.
+ * 증분 반영은 호출한 서비스의 트랜잭션 안에서 UPSERT 한 번으로 처리되어, 결제/가입/환불과 함께 커밋되거나 롤백된다.
+ * 원본 데이터로 하루치를 다시 계산하는 기능은 누락된 날의 채우기와 야간 보정에 사용된다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class DailyStatsJdbcRepository {
+    private static final String ADD_SQL = """
+            INSERT INTO platform.daily_stats AS s
+                (stat_date, revenue, payment_count, signup_count, enrollment_count, refund_count, refund_amount, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, now())
+            ON CONFLICT (stat_date) DO UPDATE
+            SET revenue = s.revenue + EXCLUDED.revenue,
+                payment_count = s.payment_count + EXCLUDED.payment_count,
+                signup_count = s.signup_count + EXCLUDED.signup_count,
+                enrollment_count = s.enrollment_count + EXCLUDED.enrollment_count,
+                refund_count = s.refund_count + EXCLUDED.refund_count,
+                refund_amount = s.refund_amount + EXCLUDED.refund_amount,
+                updated_at = now()
+            """;
+
+    // 하루치 [from_ts, to_ts) 범위를 원본 테이블에서 집계
+    private static final String COMPUTE_DAY_SQL = """
+            INSERT INTO platform.daily_stats
+                (stat_date, revenue, payment_count, signup_count, enrollment_count, refund_count, refund_amount, updated_at)
+            SELECT b.stat_date,
+                   (SELECT COALESCE(SUM(p.amount), 0) FROM platform.payments p WHERE p.paid_at >= b.from_ts AND p.paid_at < b.to_ts),
+                   (SELECT COUNT(*) FROM platform.payments p WHERE p.paid_at >= b.from_ts AND p.paid_at < b.to_ts),
+                   (SELECT COUNT(*) FROM platform.users u WHERE u.created_at >= b.from_ts AND u.created_at < b.to_ts),
+                   (SELECT COUNT(*) FROM platform.enrollments e WHERE e.enrolled_at >= b.from_ts AND e.enrolled_at < b.to_ts),
+                   (SELECT COUNT(*) FROM platform.refunds r WHERE r.refunded_at >= b.from_ts AND r.refunded_at < b.to_ts),
+                   (SELECT COALESCE(SUM(r.refund_amount), 0) FROM platform.refunds r WHERE r.refunded_at >= b.from_ts AND r.refunded_at < b.to_ts),
+                   now()
+            FROM (VALUES (CAST(? AS date), CAST(? AS timestamptz), CAST(? AS timestamptz))) AS b(stat_date, from_ts, to_ts)
+            """;
+
+    private static final String FILL_DAY_SQL = COMPUTE_DAY_SQL + """
+            ON CONFLICT (stat_date) DO NOTHING
+            """;
+
+    private static final String RECOMPUTE_DAY_SQL = COMPUTE_DAY_SQL + """
+            ON CONFLICT (stat_date) DO UPDATE
+            SET revenue = EXCLUDED.revenue,
+                payment_count = EXCLUDED.payment_count,
+                signup_count = EXCLUDED.signup_count,
+                enrollment_count = EXCLUDED.enrollment_count,
+                refund_count = EXCLUDED.refund_count,
+                refund_amount = EXCLUDED.refund_amount,
+                updated_at = now()
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void addPayment(Instant paidAt, BigDecimal amount) {
+        add(paidAt, amount, 1, 0, 0, 0, BigDecimal.ZERO);
+    }
+
+    public void addSignup(Instant createdAt) {
+        add(createdAt, BigDecimal.ZERO, 0, 1, 0, 0, BigDecimal.ZERO);
+    }
+
+    public void addRefund(Instant refundedAt, BigDecimal refundAmount) {
+        add(refundedAt, BigDecimal.ZERO, 0, 0, 0, 1, refundAmount);
+    }
+
+    /**
+     * 새로 생성된 수강 등록 수를 집계에 반영한다.
+     */
+    public void addEnrollments(Instant enrolledAt, int count) {
+        if (count == 0) {
+            return;
+        }
+        add(enrolledAt, BigDecimal.ZERO, 0, 0, count, 0, BigDecimal.ZERO);
+    }
+
+    /**
+     * 해당 날짜의 집계가 없으면 원본 데이터로 계산해 채운다. 이미 있으면 아무것도 하지 않는다.
+     * @return 새로 채웠으면 true
+     */
+    public boolean fillIfAbsent(LocalDate statDate) {
+        return jdbcTemplate.update(FILL_DAY_SQL, dayArgs(statDate)) > 0;
+    }
+
+    /**
+     * 해당 날짜의 집계를 원본 데이터로 다시 계산해 덮어쓴다.
+     * 증분 반영이 아직 진행 중인 날(오늘)에 호출하면 커밋되지 않은 증분을 덮어쓸 수 있으므로, 지난 날짜에만 사용한다.
+     * @return 새로 기록된 집계 행 수
+     */
+    public int recompute(LocalDate statDate) {
+        return jdbcTemplate.update(RECOMPUTE_DAY_SQL, dayArgs(statDate));
+    }
+
+    private void add(Instant at, BigDecimal revenue, long payments, long signups, long enrollments, long refunds, BigDecimal refundAmount) {
+        jdbcTemplate.update(ADD_SQL, DailyStats.dateOf(at), revenue, payments, signups, enrollments, refunds, refundAmount);
+    }
+
+    private Object[] dayArgs(LocalDate statDate) {
+        return new Object[]{
+                statDate,
+                DailyStats.startOf(statDate).atOffset(DailyStats.ZONE),
+                DailyStats.startOf(statDate.plusDays(1)).atOffset(DailyStats.ZONE)
+        };
+    }
+}
@@ -0,0 +1,10 @@
+package com.platform.coding.domain.stats;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface DailyStatsRepository extends JpaRepository<DailyStats, LocalDate> {
+    List<DailyStats> findByStatDateBetween(LocalDate from, LocalDate to);
+}
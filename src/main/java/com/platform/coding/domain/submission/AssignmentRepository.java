@@ -3,11 +3,25 @@ package com.platform.coding.domain.submission;
 import com.platform.coding.domain.course.Course;
 import com.platform.coding.domain.course.Lecture;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface AssignmentRepository extends JpaRepository<Assignment, Long> {
     // 특정 강의(Course)에 포함된 모든 과제(Assignment)를 조회
     List<Assignment> findAllByLecture_Chapter_Course(Course course);
     List<Assignment> findByLecture(Lecture lecture);
+
+    // 커리큘럼 조회용: 렉처마다 조회하지 않고 강의(Course)에 속한 모든 과제를 한 번의 쿼리로 조회
+    @Query("SELECT a FROM Assignment a WHERE a.lecture.chapter.course.id = :courseId")
+    List<Assignment> findAllByCourseId(@Param("courseId") Long courseId);
+
+    // 학부모 대시보드용: 여러 강의의 과제를 커리큘럼 순서대로 한 번의 쿼리로 조회 (렉처/챕터 엔티티는 읽지 않음)
+    @Query("SELECT new com.platform.coding.domain.submission.CourseAssignmentSummary(c.id, a.id, a.title) " +
+            "FROM Assignment a JOIN a.lecture l JOIN l.chapter ch JOIN ch.course c " +
+            "WHERE c.id IN :courseIds " +
+            "ORDER BY ch.order, l.order, a.id")
+    List<CourseAssignmentSummary> findSummariesByCourseIdIn(@Param("courseIds") Collection<Long> courseIds);
 }
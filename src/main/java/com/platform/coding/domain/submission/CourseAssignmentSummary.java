@@ -0,0 +1,11 @@
+package com.platform.coding.domain.submission;
+
+/**
+ * 학부모 대시보드용 과제 프로젝션 (강의 ID, 과제 ID, 과제명)
+ */
+public record CourseAssignmentSummary(
+        Long courseId,
+        Long assignmentId,
+        String title
+) {
+}
@@ -17,7 +17,8 @@ import java.time.Instant;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Submission {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "submissions_seq")
+    @SequenceGenerator(name = "submissions_seq", sequenceName = "submissions_seq", schema = "platform")
     @Column(name = "submission_id")
     private Long id;
 
@@ -0,0 +1,59 @@
+package com.platform.coding.domain.submission;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class SubmissionJdbcRepository {
+    // 최초 제출이면 새로 만들고, 재제출이면 (학생, 과제) 유일 제약에 걸린 기존 제출물의 내용을 바꾼 뒤 받은 피드백을 지움
+    // (Submission.updateContent 와 동일한 규칙, 최초 제출 시각은 유지)
+    private static final String UPSERT_SQL = """
+            WITH upserted AS (
+                INSERT INTO platform.submissions (submission_id, assignment_id, student_id, text_content, status, submitted_at)
+                VALUES (nextval('platform.submissions_seq'), ?, ?, ?, 'SUBMITTED', ?)
+                ON CONFLICT (student_id, assignment_id) DO UPDATE
+                SET text_content = EXCLUDED.text_content, status = 'SUBMITTED'
+                RETURNING submission_id
+            ), removed_feedback AS (
+                DELETE FROM platform.feedbacks f
+                USING upserted u
+                WHERE f.submission_id = u.submission_id
+            )
+            SELECT submission_id FROM upserted
+            """;
+
+    private static final String INSERT_IF_ABSENT_SQL = """
+            INSERT INTO platform.submissions (submission_id, assignment_id, student_id, text_content, status, submitted_at)
+            VALUES (nextval('platform.submissions_seq'), ?, ?, ?, 'SUBMITTED', ?)
+            ON CONFLICT (student_id, assignment_id) DO NOTHING
+            RETURNING submission_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 아직 제출하지 않은 과제일 때만 제출물을 만든다.
+     * @return 새로 만든 제출물 ID. 이미 제출한 과제이면 빈 값
+     */
+    public Optional<Long> insertIfAbsent(Long assignmentId, Long studentId, String textContent, Instant submittedAt) {
+        return jdbcTemplate.queryForList(INSERT_IF_ABSENT_SQL, Long.class,
+                        assignmentId, studentId, textContent, submittedAt.atOffset(ZoneOffset.UTC))
+                .stream()
+                .findFirst();
+    }
+
+    /**
+     * 과제를 제출하거나 재제출한다. 동시에 같은 과제를 제출해도 제출물은 하나만 남는다.
+     * @return 제출물 ID
+     */
+    public Long upsert(Long assignmentId, Long studentId, String textContent, Instant submittedAt) {
+        return jdbcTemplate.queryForObject(UPSERT_SQL, Long.class,
+                assignmentId, studentId, textContent, submittedAt.atOffset(ZoneOffset.UTC));
+    }
+}
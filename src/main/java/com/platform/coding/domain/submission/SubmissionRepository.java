@@ -4,7 +4,10 @@ import com.platform.coding.domain.user.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,4 +17,12 @@ public interface SubmissionRepository extends JpaRepository<Submission, Long> {
 
     // 특정 학생과 여러 과제 목록을 기반으로 제출물 목록을 한 번에 조회한다.
     List<Submission> findByStudentAndAssignmentIn(User student, List<Assignment> allAssignments);
+
+    // 과제 엔티티 없이 ID 목록만으로 제출물 목록을 한 번에 조회한다. (커리큘럼 스냅샷 사용 시)
+    List<Submission> findByStudentAndAssignmentIdIn(User student, Collection<Long> assignmentIds);
+
+    // 학생이 여러 강의에서 제출한 과제 ID 목록을 한 번에 조회한다. (학부모 대시보드용)
+    @Query("SELECT s.assignment.id FROM Submission s " +
+            "WHERE s.student.id = :studentId AND s.assignment.lecture.chapter.course.id IN :courseIds")
+    List<Long> findSubmittedAssignmentIds(@Param("studentId") Long studentId, @Param("courseIds") Collection<Long> courseIds);
 }
@@ -21,7 +21,8 @@ import java.util.List;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class User {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", schema = "platform")
     @Column(name="user_id")
     private Long id;
 
@@ -71,6 +72,17 @@ public class User {
         this.isActive = isActive;
     }
 
+    /**
+     * JWT 클레임만으로 인증 주체(Principal)를 만든다.
+     * 영속성 컨텍스트에 속하지 않으며 id, email, userName, userType 외의 필드(부모, 자녀, 비밀번호 등)는 채워지지 않는다.
+     * 연관관계를 따라가거나 값을 변경해야 하는 서비스는 id로 엔티티를 다시 조회해야 한다.
+     */
+    public static User fromClaims(Long id, String email, String userName, UserType userType) {
+        User user = new User(email, null, userName, userType, null, true);
+        user.id = id;
+        return user;
+    }
+
     // 연관관계 편의 메소드
     public void addChild(User child) {
         this.children.add(child);
@@ -0,0 +1,48 @@
+package com.platform.coding.domain.user;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.SqlParameterValue;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Types;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class UserJdbcRepository {
+    // 이메일 유일 제약에 걸리면 아무것도 하지 않음 (중복 확인과 저장을 한 문장으로)
+    // ID 는 엔티티와 같은 시퀀스에서 받음 (시퀀스 값 하나는 JPA 가 할당하는 ID 범위와 겹치지 않음)
+    private static final String INSERT_IF_EMAIL_ABSENT_SQL = """
+            INSERT INTO platform.users
+                (user_id, email, password_hash, user_name, user_type, parent_id, is_active, created_at, updated_at)
+            VALUES (nextval('platform.users_seq'), ?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (email) DO NOTHING
+            RETURNING user_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 아직 가입되지 않은 이메일일 때만 회원을 저장한다. 같은 이메일로 동시에 가입해도 한 건만 저장된다.
+     * @param user 저장할 값을 담은 (저장되지 않은) 엔티티
+     * @return 새로 저장된 회원 ID. 이미 가입된 이메일이면 빈 값
+     */
+    public Optional<Long> insertIfEmailAbsent(User user, Instant createdAt) {
+        OffsetDateTime now = createdAt.atOffset(ZoneOffset.UTC);
+        return jdbcTemplate.queryForList(INSERT_IF_EMAIL_ABSENT_SQL, Long.class,
+                        user.getEmail(),
+                        user.getPasswordHash(),
+                        user.getUserName(),
+                        // 문자열을 DB 열거형(user_type)으로 넘기도록 타입을 지정하지 않음
+                        new SqlParameterValue(Types.OTHER, user.getUserType().name()),
+                        user.getParent() != null ? user.getParent().getId() : null,
+                        user.isActive(),
+                        now, now)
+                .stream()
+                .findFirst();
+    }
+}
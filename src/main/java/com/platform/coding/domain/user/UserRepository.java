@@ -3,6 +3,7 @@ package com.platform.coding.domain.user;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.Instant;
@@ -27,4 +28,10 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * 사용자 이름(대소문자 무시)으로 사용자를 검색하고 페이지네이션하여 반환한다.
      */
     Page<User> findByUserNameContainingIgnoreCase(String userName, Pageable pageable);
+
+    /**
+     * 비활성화된 사용자 ID 목록을 조회한다. (토큰 폐기 목록 초기화용)
+     */
+    @Query("SELECT u.id FROM User u WHERE u.isActive = false")
+    List<Long> findInactiveUserIds();
 }
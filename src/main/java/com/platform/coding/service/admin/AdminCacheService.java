@@ -0,0 +1,52 @@
+package com.platform.coding.service.admin;
+
+import com.platform.coding.service.admin.dto.CacheRegionStatsResponse;
+import com.platform.coding.service.admin.dto.CacheStatsResponse;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Hibernate 2차 캐시 진단. 통계는 애플리케이션이 시작된(또는 초기화된) 뒤로 이 서버에서 누적된 값이다.
+ */
+@Service
+public class AdminCacheService {
+    private final Statistics statistics;
+
+    public AdminCacheService(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    public CacheStatsResponse getStats() {
+        List<CacheRegionStatsResponse> regions = Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+                .map(statistics::getCacheRegionStatistics)
+                .filter(Objects::nonNull)
+                .map(CacheRegionStatsResponse::fromStatistics)
+                .sorted(Comparator.comparing(CacheRegionStatsResponse::regionName))
+                .toList();
+
+        return new CacheStatsResponse(
+                CacheRegionStatsResponse.of("entity", statistics.getSecondLevelCacheHitCount(),
+                        statistics.getSecondLevelCacheMissCount(), statistics.getSecondLevelCachePutCount(),
+                        CacheRegionStatistics.NO_EXTENDED_STAT_SUPPORT_RETURN),
+                CacheRegionStatsResponse.of("query", statistics.getQueryCacheHitCount(),
+                        statistics.getQueryCacheMissCount(), statistics.getQueryCachePutCount(),
+                        CacheRegionStatistics.NO_EXTENDED_STAT_SUPPORT_RETURN),
+                regions
+        );
+    }
+
+    /**
+     * 누적된 통계를 초기화한다. (캐시 내용은 그대로 둠)
+     */
+    public void resetStats() {
+        statistics.clear();
+    }
+}
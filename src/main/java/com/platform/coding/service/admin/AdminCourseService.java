@@ -5,6 +5,8 @@ import com.platform.coding.domain.submission.*;
 import com.platform.coding.domain.user.User;
 import com.platform.coding.domain.user.UserType;
 import com.platform.coding.service.admin.dto.*;
+import com.platform.coding.service.course.CatalogPageCache;
+import com.platform.coding.service.course.CurriculumCache;
 import com.platform.coding.service.course.dto.CourseCurriculumResponse;
 import com.platform.coding.service.notification.NotificationService;
 import com.platform.coding.service.submission.dto.SubmissionResponse;
@@ -15,9 +17,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.ZoneOffset;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -29,6 +28,9 @@ public class AdminCourseService {
     private final FeedbackRepository feedbackRepository;
     private final NotificationService notificationService;
     private final AssignmentRepository assignmentRepository;
+    private final CurriculumCache curriculumCache;
+    private final CatalogCacheEvictor catalogCacheEvictor;
+    private final CatalogPageCache catalogPageCache;
 
     // 강의 생성
     @Transactional
@@ -48,6 +50,8 @@ public class AdminCourseService {
         // 여기서는 간단하게 모든 관리자가 수정 가능하다고 가정함.
 
         course.updateDetails(request.title(), request.description(), request.price());
+        invalidateCaches(courseId);
+        catalogPageCache.invalidate();
         return SimpleCourseResponse.fromEntity(course);
     }
 
@@ -62,6 +66,8 @@ public class AdminCourseService {
             throw new IllegalArgumentException("초안 상태의 강의만 게시할 수 있습니다.");
         }
         course.setStatus(CourseStatus.PUBLISHED);
+        invalidateCaches(courseId);
+        catalogPageCache.invalidate();
     }
 
     /**
@@ -76,6 +82,8 @@ public class AdminCourseService {
         }
 
         course.setStatus(CourseStatus.DRAFT);
+        invalidateCaches(courseId);
+        catalogPageCache.invalidate();
     }
 
     /**
@@ -89,6 +97,8 @@ public class AdminCourseService {
             throw new IllegalArgumentException("보관된 상태의 강의만  재게시할 수 있습니다.");
         }
         course.setStatus(CourseStatus.PUBLISHED);
+        invalidateCaches(courseId);
+        catalogPageCache.invalidate();
     }
 
     // 강의 논리적 삭제 (PUBLISHED -> ARCHIVED)
@@ -101,6 +111,8 @@ public class AdminCourseService {
         }
 
         course.archive();
+        invalidateCaches(courseId);
+        catalogPageCache.invalidate();
     }
     
     // 챕터 관리
@@ -115,6 +127,7 @@ public class AdminCourseService {
                 .build();
 
         course.addChapter(chapter);
+        curriculumChanged(course);
     }
 
     @Transactional
@@ -123,6 +136,7 @@ public class AdminCourseService {
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 챕터입니다."));
         // TODO: 권한 검증 로직
         chapter.updateDetails(request.title(), request.order());
+        curriculumChanged(chapter.getCourse());
     }
 
     @Transactional
@@ -131,6 +145,9 @@ public class AdminCourseService {
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 챕터입니다."));
         // TODO: 권한 검증 로직
         chapter.getCourse().getChapters().remove(chapter);
+        // 챕터에 속한 렉처도 함께 삭제되므로 렉처 -> 강의 매핑도 제거
+        chapter.getLectures().forEach(lecture -> curriculumCache.invalidateLecture(lecture.getId(), chapter.getCourse().getId()));
+        curriculumChanged(chapter.getCourse());
     }
 
     @Transactional
@@ -147,6 +164,7 @@ public class AdminCourseService {
                 .build();
 
         chapter.addLecture(newLecture);
+        curriculumChanged(chapter.getCourse());
     }
 
     @Transactional
@@ -155,6 +173,7 @@ public class AdminCourseService {
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 강의입니다."));
 
         lecture.updateDetails(request.title(), request.order(), request.videoUrl(), request.sample(), request.durationSeconds());
+        curriculumChanged(lecture.getChapter().getCourse());
     }
 
     @Transactional
@@ -163,6 +182,8 @@ public class AdminCourseService {
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 강의입니다."));
         // TODO: 권한 검증 로직
         lecture.getChapter().getLectures().remove(lecture);
+        curriculumCache.invalidateLecture(lecture.getId(), lecture.getChapter().getCourse().getId());
+        curriculumChanged(lecture.getChapter().getCourse());
     }
 
     @Transactional
@@ -204,18 +225,8 @@ public class AdminCourseService {
 
     @Transactional(readOnly = true)
     public CourseCurriculumResponse getCourseCurriculum(Long courseId) {
-        Course course = courseRepository.findById(courseId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 강의입니다."));
-
-        Map<Long, List<Assignment>> assignmentsByLecture = new HashMap<>();
-        // 이 로직 전체가 하나의 트랜잭션 안에서 실행됨.
-        course.getChapters().forEach(chapter ->
-                chapter.getLectures().forEach(lecture -> {
-                    List<Assignment> assignments = assignmentRepository.findByLecture(lecture);
-                    assignmentsByLecture.put(lecture.getId(), assignments);
-                }));
-
-        return CourseCurriculumResponse.of(course, assignmentsByLecture);
+        // 커리큘럼 스냅샷은 이 클래스의 변경 메소드들이 무효화하므로 항상 최신 상태가 보장됨
+        return CourseCurriculumResponse.of(curriculumCache.get(courseId));
     }
 
     @Transactional
@@ -233,6 +244,7 @@ public class AdminCourseService {
                 .build();
 
         Assignment savedAssignment = assignmentRepository.save(newAssignment);
+        curriculumChanged(lecture.getChapter().getCourse());
         return savedAssignment.getId();
     }
 
@@ -250,6 +262,7 @@ public class AdminCourseService {
                 request.content(),
                 request.deadline() != null ? request.deadline().toInstant(ZoneOffset.UTC) : null
         );
+        curriculumChanged(assignment.getLecture().getChapter().getCourse());
     }
 
     /**
@@ -261,6 +274,7 @@ public class AdminCourseService {
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 과제입니다."));
         // TODO: 권한 검증 로직
         assignmentRepository.delete(assignment);
+        curriculumChanged(assignment.getLecture().getChapter().getCourse());
     }
 
     /**
@@ -285,6 +299,18 @@ public class AdminCourseService {
         return SubmissionResponse.fromEntity(submission);
     }
 
+    // 챕터/렉처/과제 변경을 강의의 수정 시각에 반영하여 강의 상세의 ETag 가 바뀌도록 하고 캐시를 비움
+    private void curriculumChanged(Course course) {
+        course.markCurriculumUpdated();
+        invalidateCaches(course.getId());
+    }
+
+    // 커리큘럼 스냅샷과 2차 캐시의 카탈로그 영역을 함께 비움
+    private void invalidateCaches(Long courseId) {
+        curriculumCache.invalidate(courseId);
+        catalogCacheEvictor.evictCourseCatalog();
+    }
+
     private Course findCourseById(Long courseId) {
         return courseRepository.findById(courseId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 강의입니다."));
@@ -1,8 +1,12 @@
 package com.platform.coding.service.admin;
 
-import com.platform.coding.domain.payment.PaymentRepository;
-import com.platform.coding.domain.user.UserRepository;
+import com.platform.coding.domain.stats.DailyStats;
+import com.platform.coding.domain.stats.DailyStatsJdbcRepository;
+import com.platform.coding.domain.stats.DailyStatsRepository;
 import com.platform.coding.service.admin.dto.DashboardStatsResponse;
+import com.platform.coding.service.course.CurriculumCache;
+import com.platform.coding.service.course.PopularCourseTracker;
+import com.platform.coding.service.course.PopularityWindow;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -10,39 +14,55 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.LocalDate;
-import java.time.ZoneOffset;
-import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
+/**
+ * 관리자 대시보드 통계.
+ * 원본 테이블을 매번 집계하지 않고 일별 집계 테이블(daily_stats)의 최근 7일치 행만 읽는다.
+ */
 @Service
 @RequiredArgsConstructor
 public class AdminDashboardService {
-    private final PaymentRepository paymentRepository;
-    private final UserRepository userRepository;
+    // 오늘을 포함한 최근 7일
+    private static final int WEEK_DAYS = 7;
+    private static final int POPULAR_COURSE_LIMIT = 5;
 
-    @Transactional(readOnly = true)
+    private final DailyStatsRepository dailyStatsRepository;
+    private final DailyStatsJdbcRepository dailyStatsJdbcRepository;
+    private final PopularCourseTracker popularCourseTracker;
+    private final CurriculumCache curriculumCache;
+
+    @Transactional
     public DashboardStatsResponse getDashboardStats() {
-        Instant todayStart = LocalDate.now().atStartOfDay().toInstant(ZoneOffset.UTC);
-        Instant now = Instant.now();
-        // 오늘을 포함한 최근 7일
-        Instant weekStart = todayStart.minus(6, ChronoUnit.DAYS);
-
-        BigDecimal dailyRevenue = paymentRepository.findTotalAmountByPaidAtBetween(todayStart, now)
-                .orElse(BigDecimal.ZERO);
-
-        BigDecimal weeklyRevenue = paymentRepository.findTotalAmountByPaidAtBetween(weekStart, now)
-                .orElse(BigDecimal.ZERO);
-
-        long newUsersToday = userRepository.countByCreatedAtBetween(todayStart, now);
-
-        // 인기 강좌 목록 조회 (JPQL 쿼리 결과)
-        List<Object[]> popularCourseResult = paymentRepository.findPopularCoursesByEnrollment(5);
-        List<DashboardStatsResponse.PopularCourseDto> popularCourses = popularCourseResult.stream()
-                .map(result -> DashboardStatsResponse.PopularCourseDto.builder()
-                        .courseId((Long) result[0])
-                        .courseTitle((String) result[1])
-                        .enrollmentCount((Long) result[2])
-                        .build())
+        LocalDate today = DailyStats.dateOf(Instant.now());
+        LocalDate weekStart = today.minusDays(WEEK_DAYS - 1);
+
+        List<DailyStats> weeklyStats = dailyStatsRepository.findByStatDateBetween(weekStart, today);
+        if (weeklyStats.size() < WEEK_DAYS && fillMissingDays(weeklyStats, weekStart, today)) {
+            weeklyStats = dailyStatsRepository.findByStatDateBetween(weekStart, today);
+        }
+
+        DailyStats todayStats = weeklyStats.stream()
+                .filter(stats -> stats.getStatDate().equals(today))
+                .findFirst()
+                .orElse(null);
+        BigDecimal dailyRevenue = todayStats != null ? todayStats.getRevenue() : BigDecimal.ZERO;
+        long newUsersToday = todayStats != null ? todayStats.getSignupCount() : 0;
+
+        BigDecimal weeklyRevenue = weeklyStats.stream()
+                .map(DailyStats::getRevenue)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        // 인기 강좌 목록 조회 (전체 기간 수강 등록 기준, 메모리의 순위와 커리큘럼 캐시에서 조회)
+        List<DashboardStatsResponse.PopularCourseDto> popularCourses = popularCourseTracker.top(PopularityWindow.ALL_TIME, POPULAR_COURSE_LIMIT).stream()
+                .flatMap(rank -> curriculumCache.find(rank.courseId()).stream()
+                        .map(course -> DashboardStatsResponse.PopularCourseDto.builder()
+                                .courseId(rank.courseId())
+                                .courseTitle(course.getTitle())
+                                .enrollmentCount(rank.enrollmentCount())
+                                .build()))
                 .toList();
 
         return DashboardStatsResponse.builder()
@@ -52,4 +72,21 @@ public class AdminDashboardService {
                 .popularCourses(popularCourses)
                 .build();
     }
+
+    /**
+     * 집계 행이 없는 날(집계 도입 이전이거나 아무 일도 없던 날)을 원본 데이터로 한 번 채운다.
+     * 한 번 채워진 날은 이후 증분 반영과 야간 보정으로만 갱신된다.
+     */
+    private boolean fillMissingDays(List<DailyStats> existing, LocalDate from, LocalDate to) {
+        Set<LocalDate> existingDates = existing.stream()
+                .map(DailyStats::getStatDate)
+                .collect(Collectors.toSet());
+        boolean filled = false;
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            if (!existingDates.contains(date)) {
+                filled |= dailyStatsJdbcRepository.fillIfAbsent(date);
+            }
+        }
+        return filled;
+    }
 }
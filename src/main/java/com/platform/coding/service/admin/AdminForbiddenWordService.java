@@ -0,0 +1,58 @@
+package com.platform.coding.service.admin;
+
+import com.platform.coding.domain.profanity.ForbiddenWord;
+import com.platform.coding.domain.profanity.ForbiddenWordRepository;
+import com.platform.coding.domain.user.User;
+import com.platform.coding.service.admin.dto.ForbiddenWordRequest;
+import com.platform.coding.service.admin.dto.ForbiddenWordResponse;
+import com.platform.coding.service.filter.ProfanityFilterService;
+import com.platform.coding.service.filter.ProfanityMatcher;
+import com.platform.coding.util.TransactionUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class AdminForbiddenWordService {
+    private final ForbiddenWordRepository forbiddenWordRepository;
+    private final ProfanityFilterService profanityFilterService;
+
+    @Transactional(readOnly = true)
+    public List<ForbiddenWordResponse> getForbiddenWords() {
+        return forbiddenWordRepository.findAllByOrderByWordAsc().stream()
+                .map(ForbiddenWordResponse::fromEntity)
+                .toList();
+    }
+
+    /**
+     * 금지어를 추가합니다. 커밋되면 금지어 검사기가 즉시 다시 만들어집니다.
+     */
+    @Transactional
+    public Long addForbiddenWord(ForbiddenWordRequest request, User admin) {
+        // 검사 규칙과 같게 공백 제거, 소문자로 저장
+        String word = ProfanityMatcher.normalize(request.word());
+        if (word.isEmpty()) {
+            throw new IllegalArgumentException("금지어는 공백만으로 이루어질 수 없습니다.");
+        }
+        if (forbiddenWordRepository.existsByWord(word)) {
+            throw new IllegalArgumentException("이미 등록된 금지어입니다: " + word);
+        }
+        ForbiddenWord saved = forbiddenWordRepository.save(new ForbiddenWord(word, admin));
+        TransactionUtil.runAfterCommit(profanityFilterService::reload);
+        return saved.getId();
+    }
+
+    /**
+     * 금지어를 삭제합니다. 커밋되면 금지어 검사기가 즉시 다시 만들어집니다.
+     */
+    @Transactional
+    public void deleteForbiddenWord(Long wordId) {
+        ForbiddenWord word = forbiddenWordRepository.findById(wordId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 금지어입니다."));
+        forbiddenWordRepository.delete(word);
+        TransactionUtil.runAfterCommit(profanityFilterService::reload);
+    }
+}
@@ -0,0 +1,37 @@
+package com.platform.coding.service.admin;
+
+import com.platform.coding.domain.scheduler.JobRunRepository;
+import com.platform.coding.service.admin.dto.JobRunResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AdminJobService {
+    private static final int RECENT_RUN_LIMIT = 50;
+
+    private final JobRunRepository jobRunRepository;
+
+    /**
+     * 스케줄 작업별 마지막 실행 결과
+     */
+    public List<JobRunResponse> getLatestRuns() {
+        return jobRunRepository.findLatestRuns().stream()
+                .map(JobRunResponse::fromEntity)
+                .toList();
+    }
+
+    /**
+     * 전체 스케줄 작업의 최근 실행 이력
+     */
+    public List<JobRunResponse> getRecentRuns() {
+        return jobRunRepository.findRecentRuns(PageRequest.of(0, RECENT_RUN_LIMIT)).stream()
+                .map(JobRunResponse::fromEntity)
+                .toList();
+    }
+}
@@ -2,9 +2,12 @@ package com.platform.coding.service.admin;
 
 import com.platform.coding.domain.rewardpolicy.RewardPolicy;
 import com.platform.coding.domain.rewardpolicy.RewardPolicyRepository;
+import com.platform.coding.domain.rewardpolicy.RewardPolicySnapshot;
 import com.platform.coding.domain.user.User;
 import com.platform.coding.service.admin.dto.RewardPolicyResponse;
 import com.platform.coding.service.admin.dto.RewardPolicyUpdateRequest;
+import com.platform.coding.service.reward.RewardPolicyCache;
+import com.platform.coding.util.TransactionUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -16,6 +19,8 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class AdminRewardPolicyService {
     private final RewardPolicyRepository rewardPolicyRepository;
+    private final CatalogCacheEvictor catalogCacheEvictor;
+    private final RewardPolicyCache rewardPolicyCache;
 
     @Transactional(readOnly = true)
     public List<RewardPolicyResponse> getPolicies() {
@@ -30,8 +35,11 @@ public class AdminRewardPolicyService {
             RewardPolicy policy = rewardPolicyRepository.findByPolicyKey(request.key())
                     .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 정책 키입니다: " + request.key()));
 
-            // TODO: 값의 유효성 검증 (예: 숫자인지, 양수인지 등)
+            // 스냅샷으로 해석할 수 없는 값은 저장하지 않음
+            RewardPolicySnapshot.DEFAULTS.with(request.key(), request.value());
             policy.updateValue(request.value(), admin);
         }
+        catalogCacheEvictor.evictRewardPolicies();
+        TransactionUtil.runAfterCommit(rewardPolicyCache::reload);
     }
 }
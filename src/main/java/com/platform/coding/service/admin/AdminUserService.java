@@ -1,8 +1,10 @@
 package com.platform.coding.service.admin;
 
+import com.platform.coding.config.jwt.JwtRevocationRegistry;
 import com.platform.coding.domain.user.User;
 import com.platform.coding.domain.user.UserRepository;
 import com.platform.coding.service.admin.dto.UserManagementResponse;
+import com.platform.coding.util.TransactionUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -15,6 +17,7 @@ import org.springframework.util.StringUtils;
 public class AdminUserService {
 
     private final UserRepository userRepository;
+    private final JwtRevocationRegistry jwtRevocationRegistry;
 
     /**
      * 모든 회원을 페이지네이션하여 조회합니다. 검색 조건이 있을 경우 필터링합니다.
@@ -49,6 +52,8 @@ public class AdminUserService {
             throw new IllegalArgumentException("자기 자신을 비활성화할 수 없습니다.");
         }
         user.updateActiveStatus(false);
+        // 이미 발급된 토큰도 즉시 거절되도록 폐기 목록에 반영 (커밋된 경우에만)
+        TransactionUtil.runAfterCommit(() -> jwtRevocationRegistry.deactivate(userId));
     }
 
     /**
@@ -60,6 +65,7 @@ public class AdminUserService {
     public void activateUser(Long userId, User admin) {
         User user = findUserById(userId);
         user.updateActiveStatus(true);
+        TransactionUtil.runAfterCommit(() -> jwtRevocationRegistry.reactivate(userId));
     }
 
     private User findUserById(Long userId) {
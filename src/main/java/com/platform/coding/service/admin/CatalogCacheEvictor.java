@@ -0,0 +1,76 @@
+package com.platform.coding.service.admin;
+
+import com.platform.coding.config.datasource.ReplicaRoutingDataSource;
+import com.platform.coding.domain.course.Chapter;
+import com.platform.coding.domain.course.Course;
+import com.platform.coding.domain.course.Lecture;
+import com.platform.coding.domain.rewardpolicy.RewardPolicy;
+import com.platform.coding.domain.submission.Assignment;
+import com.platform.coding.util.TransactionUtil;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * 관리자가 카탈로그를 변경했을 때 Hibernate 2차 캐시에서 관련 영역을 비운다.
+ * 관리자 변경은 드물기 때문에 항목을 골라 지우지 않고 영역 전체를 비운다.
+ * 복제본을 사용하는 경우, 비운 영역이 아직 변경을 받지 못한 복제본에서 다시 채워지지 않도록
+ * 커밋 후 복제 지연이 해소될 때까지 읽기 전용 트랜잭션도 원본에서 읽게 한다.
+ */
+@Component
+public class CatalogCacheEvictor {
+    private final Cache cache;
+    // 복제본을 설정하지 않았으면 없음
+    private final ObjectProvider<ReplicaRoutingDataSource> replicaRouting;
+
+    public CatalogCacheEvictor(EntityManagerFactory entityManagerFactory,
+                               ObjectProvider<ReplicaRoutingDataSource> replicaRouting) {
+        this.cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        this.replicaRouting = replicaRouting;
+    }
+
+    /**
+     * 강의, 챕터, 렉처, 과제와 그 컬렉션, 쿼리 결과를 비운다.
+     * 변경 중인 트랜잭션이 커밋되기 전에 다른 요청이 이전 값을 다시 채울 수 있으므로 커밋 후에 한 번 더 비운다.
+     */
+    public void evictCourseCatalog() {
+        evictCourseRegions();
+        TransactionUtil.runAfterCommit(() -> {
+            holdReadsOnPrimary();
+            evictCourseRegions();
+        });
+    }
+
+    /**
+     * 보상 정책과 쿼리 결과를 비운다.
+     */
+    public void evictRewardPolicies() {
+        evictRewardPolicyRegions();
+        TransactionUtil.runAfterCommit(() -> {
+            holdReadsOnPrimary();
+            evictRewardPolicyRegions();
+        });
+    }
+
+    // 원본에서 읽도록 먼저 바꾼 뒤 비워야, 그 사이 복제본에서 다시 채워지지 않음
+    private void holdReadsOnPrimary() {
+        replicaRouting.ifAvailable(ReplicaRoutingDataSource::holdReadsOnPrimary);
+    }
+
+    private void evictCourseRegions() {
+        cache.evictEntityData(Course.class);
+        cache.evictCollectionData(Course.class.getName() + ".chapters");
+        cache.evictEntityData(Chapter.class);
+        cache.evictCollectionData(Chapter.class.getName() + ".lectures");
+        cache.evictEntityData(Lecture.class);
+        cache.evictEntityData(Assignment.class);
+        cache.evictDefaultQueryRegion();
+    }
+
+    private void evictRewardPolicyRegions() {
+        cache.evictEntityData(RewardPolicy.class);
+        cache.evictDefaultQueryRegion();
+    }
+}
@@ -0,0 +1,38 @@
+package com.platform.coding.service.admin.dto;
+
+import lombok.Builder;
+import org.hibernate.stat.CacheRegionStatistics;
+
+/**
+ * Hibernate 2차 캐시 영역별 적중/실패 통계 응답용 DTO
+ */
+public record CacheRegionStatsResponse(
+        String regionName,
+        long hitCount,
+        long missCount,
+        long putCount,
+        // 현재 캐시에 들어 있는 항목 수. 캐시 구현이 지원하지 않으면 음수
+        long elementCount,
+        // 적중률(%). 조회가 없었으면 null
+        Double hitRatio
+) {
+    @Builder
+    public CacheRegionStatsResponse {}
+
+    public static CacheRegionStatsResponse of(String regionName, long hitCount, long missCount, long putCount, long elementCount) {
+        long lookups = hitCount + missCount;
+        return CacheRegionStatsResponse.builder()
+                .regionName(regionName)
+                .hitCount(hitCount)
+                .missCount(missCount)
+                .putCount(putCount)
+                .elementCount(elementCount)
+                .hitRatio(lookups == 0 ? null : hitCount * 100.0 / lookups)
+                .build();
+    }
+
+    public static CacheRegionStatsResponse fromStatistics(CacheRegionStatistics statistics) {
+        return of(statistics.getRegionName(), statistics.getHitCount(), statistics.getMissCount(),
+                statistics.getPutCount(), statistics.getElementCountInMemory());
+    }
+}
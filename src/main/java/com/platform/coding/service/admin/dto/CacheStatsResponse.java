@@ -0,0 +1,16 @@
+package com.platform.coding.service.admin.dto;
+
+import java.util.List;
+
+/**
+ * 2차 캐시 진단 화면 응답용 DTO
+ * @param entityCache 엔티티/컬렉션 캐시 전체 합계
+ * @param queryCache 쿼리 캐시 합계
+ * @param regions 영역별 통계
+ */
+public record CacheStatsResponse(
+        CacheRegionStatsResponse entityCache,
+        CacheRegionStatsResponse queryCache,
+        List<CacheRegionStatsResponse> regions
+) {
+}
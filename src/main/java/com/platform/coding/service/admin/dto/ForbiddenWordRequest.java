@@ -0,0 +1,14 @@
+package com.platform.coding.service.admin.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+
+public record ForbiddenWordRequest(
+        @NotBlank(message = "금지어는 비워둘 수 없습니다.")
+        @Size(max = 100, message = "금지어는 100자를 넘을 수 없습니다.")
+        String word
+) {
+    @Builder
+    public ForbiddenWordRequest {}
+}
@@ -0,0 +1,23 @@
+package com.platform.coding.service.admin.dto;
+
+import com.platform.coding.domain.profanity.ForbiddenWord;
+import lombok.Builder;
+
+import java.time.Instant;
+
+public record ForbiddenWordResponse(
+        Long wordId,
+        String word,
+        Instant createdAt
+) {
+    @Builder
+    public ForbiddenWordResponse {}
+
+    public static ForbiddenWordResponse fromEntity(ForbiddenWord forbiddenWord) {
+        return ForbiddenWordResponse.builder()
+                .wordId(forbiddenWord.getId())
+                .word(forbiddenWord.getWord())
+                .createdAt(forbiddenWord.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,44 @@
+package com.platform.coding.service.admin.dto;
+
+import com.platform.coding.domain.scheduler.JobRun;
+import com.platform.coding.domain.scheduler.JobRunStatus;
+import lombok.Builder;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 스케줄 작업 실행 이력 응답용 DTO
+ */
+public record JobRunResponse(
+        Long runId,
+        String jobName,
+        JobRunStatus status,
+        String owner,
+        long fencingToken,
+        Instant startedAt,
+        Instant finishedAt,
+        // 실행 시간(ms). 실행 중이면 null
+        Long durationMillis,
+        Long rowsAffected,
+        String errorMessage
+) {
+    @Builder
+    public JobRunResponse {}
+
+    public static JobRunResponse fromEntity(JobRun run) {
+        Duration duration = run.getDuration();
+        return JobRunResponse.builder()
+                .runId(run.getId())
+                .jobName(run.getJobName())
+                .status(run.getStatus())
+                .owner(run.getOwner())
+                .fencingToken(run.getFencingToken())
+                .startedAt(run.getStartedAt())
+                .finishedAt(run.getFinishedAt())
+                .durationMillis(duration == null ? null : duration.toMillis())
+                .rowsAffected(run.getRowsAffected())
+                .errorMessage(run.getErrorMessage())
+                .build();
+    }
+}
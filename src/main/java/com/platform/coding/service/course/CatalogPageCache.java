@@ -0,0 +1,130 @@
+package com.platform.coding.service.course;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.platform.coding.config.datasource.PrimaryReadTransaction;
+import com.platform.coding.domain.course.CourseRepository;
+import com.platform.coding.domain.course.CourseStatus;
+import com.platform.coding.domain.course.SimpleCourseResponse;
+import com.platform.coding.util.TransactionUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게시된 강의 목록의 앞쪽 페이지를 보관하는 캐시. (요청한 페이지 번호/크기/정렬 -> 목록 페이지)
+ * 대부분의 방문자가 보는 앞쪽 페이지는 캐시가 채워져 있으면 DB를 조회하지 않는다.
+ * 강의의 게시 상태나 목록에 보이는 정보가 바뀌면 AdminCourseService 가 invalidate 를 호출하며,
+ * 다른 서버에서의 변경은 유지 시간이 지나면 반영된다.
+ */
+@Component
+public class CatalogPageCache {
+    private final CourseRepository courseRepository;
+    private final PrimaryReadTransaction primaryRead;
+    // 이 번호보다 앞의 페이지만 캐시함
+    private final int cachedPages;
+    // 이보다 큰 페이지 크기 요청은 캐시하지 않음 (임의의 크기로 캐시가 채워지는 것을 막음)
+    private final int maxPageSize;
+
+    private final Cache<Pageable, Page<SimpleCourseResponse>> pages;
+    // 무효화 세대. 조회하는 도중에 무효화가 일어나면 그 결과는 캐시에 남기지 않음
+    private final AtomicLong generation = new AtomicLong();
+
+    public CatalogPageCache(CourseRepository courseRepository,
+                            PrimaryReadTransaction primaryRead,
+                            MeterRegistry meterRegistry,
+                            @Value("${app.catalog.cache.pages:3}") int cachedPages,
+                            @Value("${app.catalog.cache.max-page-size:50}") int maxPageSize,
+                            @Value("${app.catalog.cache.ttl-seconds:60}") long ttlSeconds) {
+        this.courseRepository = courseRepository;
+        this.primaryRead = primaryRead;
+        this.cachedPages = cachedPages;
+        this.maxPageSize = maxPageSize;
+        this.pages = Caffeine.newBuilder()
+                .maximumSize(1000)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, pages, "catalog-page");
+    }
+
+    /**
+     * 게시된 강의 목록 페이지를 반환한다. (전체 개수 포함)
+     */
+    public Page<SimpleCourseResponse> getPage(Pageable pageable) {
+        if (!isCacheable(pageable)) {
+            return courseRepository.findCatalogPageByStatus(CourseStatus.PUBLISHED, pageable);
+        }
+        Page<SimpleCourseResponse> cached = pages.getIfPresent(pageable);
+        if (cached != null) {
+            return cached;
+        }
+        long loadGeneration = generation.get();
+        // 무효화 직후 복제본의 이전 목록으로 다시 채워지지 않도록 캐시할 페이지는 원본에서 읽음
+        Page<SimpleCourseResponse> loaded = primaryRead.execute(() ->
+                courseRepository.findCatalogPageByStatus(CourseStatus.PUBLISHED, pageable));
+        Page<SimpleCourseResponse> page = new PageImpl<>(List.copyOf(loaded.getContent()), pageable, loaded.getTotalElements());
+        // 조회한 트랜잭션이 롤백되면 그 결과는 캐시하지 않음
+        TransactionUtil.runAfterCompletion(committed -> {
+            if (committed) {
+                put(pageable, page, loadGeneration);
+            }
+        });
+        return page;
+    }
+
+    /**
+     * 게시된 강의 목록을 전체 개수 없이 반환한다.
+     * 같은 페이지가 캐시되어 있으면 그 내용을 사용하고, 없으면 전체 개수 쿼리 없이 조회한다.
+     */
+    public Slice<SimpleCourseResponse> getSlice(Pageable pageable) {
+        if (isCacheable(pageable)) {
+            Page<SimpleCourseResponse> cached = pages.getIfPresent(pageable);
+            if (cached != null) {
+                return new SliceImpl<>(cached.getContent(), pageable, cached.hasNext());
+            }
+        }
+        return courseRepository.findCatalogSliceByStatus(CourseStatus.PUBLISHED, pageable);
+    }
+
+    /**
+     * 강의 목록에 보이는 내용이 바뀌었을 때 호출한다. (게시, 게시 취소, 보관, 목록 정보 수정)
+     * 변경 중인 트랜잭션에서 다시 채워진 페이지가 남지 않도록 즉시 한 번, 커밋 후에 한 번 더 비운다.
+     */
+    public void invalidate() {
+        evictAll();
+        TransactionUtil.runAfterCommit(this::evictAll);
+    }
+
+    private boolean isCacheable(Pageable pageable) {
+        return pageable.isPaged()
+                && pageable.getPageNumber() < cachedPages
+                && pageable.getPageSize() <= maxPageSize;
+    }
+
+    private void put(Pageable pageable, Page<SimpleCourseResponse> page, long loadGeneration) {
+        if (loadGeneration != generation.get()) {
+            return;
+        }
+        pages.put(pageable, page);
+        if (loadGeneration != generation.get()) {
+            // 넣는 사이에 무효화되었으면 다시 제거
+            pages.asMap().remove(pageable, page);
+        }
+    }
+
+    private void evictAll() {
+        generation.incrementAndGet();
+        pages.invalidateAll();
+    }
+}
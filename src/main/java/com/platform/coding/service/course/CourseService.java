@@ -1,25 +1,28 @@
 package com.platform.coding.service.course;
 
 import com.platform.coding.domain.course.*;
+import com.platform.coding.domain.enrollment.Enrollment;
 import com.platform.coding.domain.enrollment.EnrollmentRepository;
 import com.platform.coding.domain.enrollment.EnrollmentStatus;
 import com.platform.coding.domain.review.ReviewRepository;
-import com.platform.coding.domain.submission.Assignment;
-import com.platform.coding.domain.submission.AssignmentRepository;
 import com.platform.coding.domain.submission.Submission;
 import com.platform.coding.domain.submission.SubmissionRepository;
 import com.platform.coding.domain.user.User;
+import com.platform.coding.service.course.dto.PopularCourseResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -29,32 +32,72 @@ import java.util.stream.Collectors;
 public class CourseService {
     private final CourseRepository courseRepository;
     private final EnrollmentRepository enrollmentRepository;
-    private final AssignmentRepository assignmentRepository;
     private final ReviewRepository reviewRepository;
     private final SubmissionRepository submissionRepository;
+    private final CurriculumCache curriculumCache;
+    private final EntitlementCache entitlementCache;
+    private final PopularCourseTracker popularCourseTracker;
+    private final CatalogPageCache catalogPageCache;
 
-    // 전체 강의 목록 조회 (페이지네이션 적용)
-    @Transactional(readOnly = true)
+    /**
+     * 전체 강의 목록 조회 (페이지네이션 적용)
+     * 앞쪽 페이지는 목록 캐시에서 반환하므로, 캐시에 있으면 DB 연결을 잡지 않도록 트랜잭션을 열지 않는다.
+     */
     public Page<SimpleCourseResponse> getAllPublishedCourses(Pageable pageable) {
-        return courseRepository.findByStatus(CourseStatus.PUBLISHED, pageable)
-                .map(SimpleCourseResponse::fromEntity);
+        return catalogPageCache.getPage(pageable);
+    }
+
+    /**
+     * 전체 개수 없이 강의 목록을 조회한다. (다음 페이지 존재 여부만 포함)
+     * 무한 스크롤처럼 전체 페이지 수가 필요 없는 화면에서 COUNT 쿼리를 생략하기 위해 사용한다.
+     */
+    public Slice<SimpleCourseResponse> getPublishedCourseSlice(Pageable pageable) {
+        return catalogPageCache.getSlice(pageable);
     }
     
+    /**
+     * 기간 내 수강 등록이 많은 게시된 강의 목록을 조회한다.
+     * 순위는 메모리의 인기 강좌 추적기에서, 강의 정보는 커리큘럼 캐시에서 가져오므로 DB를 조회하지 않는다.
+     * @param limit 조회할 개수 (인기 강좌 추적기가 유지하는 개수를 넘을 수 없음)
+     */
+    public List<PopularCourseResponse> getPopularCourses(PopularityWindow window, int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("조회 개수는 1 이상이어야 합니다.");
+        }
+        List<PopularCourseResponse> popularCourses = new ArrayList<>();
+        // 게시되지 않은 강의는 건너뛰어야 하므로 유지 중인 순위 전체를 후보로 사용
+        for (PopularCourseTracker.Rank rank : popularCourseTracker.top(window, popularCourseTracker.getRankSize())) {
+            if (popularCourses.size() >= limit) {
+                break;
+            }
+            curriculumCache.find(rank.courseId())
+                    .filter(course -> course.getStatus() == CourseStatus.PUBLISHED)
+                    .ifPresent(course -> popularCourses.add(PopularCourseResponse.of(course, rank.enrollmentCount())));
+        }
+        return popularCourses;
+    }
+
+    /**
+     * 강의 상세 정보의 버전(강의와 커리큘럼의 마지막 수정 시각)을 조회한다.
+     * 조건부 요청(ETag/Last-Modified)을 강의나 커리큘럼을 읽기 전에 판단하기 위해 사용한다.
+     * @return 존재하지 않는 강의이면 빈 값
+     */
+    public Optional<Instant> findCourseLastModified(Long courseId) {
+        return curriculumCache.findLastModified(courseId);
+    }
+
     // 강의 상세 정보 조회
     @Transactional(readOnly = true)
     public DetailedCourseResponse getCourseDetails(Long courseId) {
-        // ID로 강의를 찾고, PUBLISHED가 아니면 예외 발생
-        Course course = courseRepository.findById(courseId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 강의입니다."));
+        // 커리큘럼 스냅샷으로 조회하고, PUBLISHED가 아니면 예외 발생
+        CurriculumSnapshot curriculum = curriculumCache.get(courseId);
 
-        if (course.getStatus() != CourseStatus.PUBLISHED) {
+        if (curriculum.getStatus() != CourseStatus.PUBLISHED) {
             // TODO: 관리자나 구매한 사용자는 볼 수 있도록 예외 처리 필요
             throw new IllegalArgumentException("현재 판매 중인 강의가 아닙니다.");
         }
 
-        Map<Long, List<Assignment>> assignmentsByLecture = getAssignmentsMapForCourse(course);
-
-        return DetailedCourseResponse.fromEntity(course, assignmentsByLecture, Collections.emptyMap());
+        return DetailedCourseResponse.of(curriculum, Collections.emptyMap(), null);
     }
 
     /**
@@ -63,26 +106,29 @@ public class CourseService {
      */
     @Transactional(readOnly = true)
     public DetailedCourseResponse getEnrolledCourseDetails(Long courseId, User student) {
-        Course course = courseRepository.findById(courseId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 강의입니다."));
+        CurriculumSnapshot curriculum = curriculumCache.get(courseId);
         
-        // 이 학생이 이 강의를 수강 중인지 확인
-        enrollmentRepository.findByStudentAndCourse(student, course)
+        // 이 학생이 이 강의를 수강 중인지 확인 (수강하지 않은 학생은 DB 조회 없이 거절)
+        if (!entitlementCache.isEnrolled(student.getId(), courseId)) {
+            throw new AccessDeniedException("이 강의를 수강하고 있지 않습니다.");
+        }
+        // 렉처별 완료 여부(비트셋)가 필요하므로 수강 정보 행은 직접 조회
+        Enrollment enrollment = enrollmentRepository.findByStudentAndCourseId(student, courseId)
                 .orElseThrow(() -> new AccessDeniedException("이 강의를 수강하고 있지 않습니다."));
 
-        // 강의에 속한 모든 과제를 Lecture ID 기준으로 그룹화
-        Map<Long, List<Assignment>> assignmentsByLecture = getAssignmentsMapForCourse(course);
-
         // 강의에 속한 모든 과제에 대한 학생의 제출 정보를 조회하여 Map으로 변환 (과제 ID -> Submission)
-        List<Assignment> allAssignments = assignmentsByLecture.values().stream()
-                .flatMap(List::stream)
+        List<Long> assignmentIds = curriculum.getLectures().stream()
+                .flatMap(lecture -> lecture.assignments().stream())
+                .map(CurriculumSnapshot.AssignmentSnapshot::assignmentId)
                 .toList();
-        Map<Long, Submission> submissionsByAssignment = submissionRepository.findByStudentAndAssignmentIn(student, allAssignments).stream()
-                .collect(Collectors.toMap(s -> s.getAssignment().getId(), Function.identity()));
-
+        Map<Long, Submission> submissionsByAssignment = assignmentIds.isEmpty()
+                ? Collections.emptyMap()
+                : submissionRepository.findByStudentAndAssignmentIdIn(student, assignmentIds).stream()
+                        .collect(Collectors.toMap(s -> s.getAssignment().getId(), Function.identity()));
 
         // DTO 생성 시 학생의 제출 정보(submissionsByAssignment)를 함께 전달
-        return DetailedCourseResponse.fromEntity(course, assignmentsByLecture, submissionsByAssignment);
+        // 렉처별 수강 완료 여부는 수강 정보의 완료 비트셋 한 행으로 판단
+        return DetailedCourseResponse.of(curriculum, submissionsByAssignment, enrollment);
     }
 
     @Transactional(readOnly = true)
@@ -91,12 +137,12 @@ public class CourseService {
             return false;
         }
 
-        Course course = courseRepository.findById(courseId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 강의입니다."));
+        // 존재하지 않는 강의라면 예외 발생
+        curriculumCache.get(courseId);
 
-        // 완강했는지 확인
-        boolean isCompleted = enrollmentRepository.findByStudentAndCourse(student, course)
-                .map(enrollment -> enrollment.getStatus() == EnrollmentStatus.COMPLETED)
+        // 완강했는지 확인 (수강 권한 캐시)
+        boolean isCompleted = entitlementCache.statusOf(student.getId(), courseId)
+                .map(status -> status == EnrollmentStatus.COMPLETED)
                 .orElse(false);
 
         if (!isCompleted) {
@@ -104,22 +150,9 @@ public class CourseService {
         }
 
         // 이미 리뷰를 작성했는지 확인
-        boolean alreadyReviewed = reviewRepository.findByStudentAndCourse(student, course).isPresent();
+        boolean alreadyReviewed = reviewRepository
+                .findByStudentAndCourse(student, courseRepository.getReferenceById(courseId)).isPresent();
 
         return !alreadyReviewed;
     }
-
-    /**
-     * 특정 강의에 포함된 모든 과제를 조회하여 Lecture ID를 키로 하는 Map으로 반환하는 헬퍼 메소드
-     */
-    private Map<Long, List<Assignment>> getAssignmentsMapForCourse(Course course) {
-        Map<Long, List<Assignment>> assignmentsByLecture = new HashMap<>();
-        course.getChapters().forEach(chapter ->
-                chapter.getLectures().forEach(lecture -> {
-                    List<Assignment> assignments = assignmentRepository.findByLecture(lecture);
-                    assignmentsByLecture.put(lecture.getId(), assignments);
-                })
-        );
-        return assignmentsByLecture;
-    }
 }
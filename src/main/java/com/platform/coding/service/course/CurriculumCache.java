@@ -0,0 +1,243 @@
+package com.platform.coding.service.course;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.platform.coding.config.datasource.PrimaryReadTransaction;
+import com.platform.coding.domain.course.*;
+import com.platform.coding.domain.course.CurriculumSnapshot.AssignmentSnapshot;
+import com.platform.coding.domain.course.CurriculumSnapshot.ChapterSnapshot;
+import com.platform.coding.domain.course.CurriculumSnapshot.LectureSnapshot;
+import com.platform.coding.domain.submission.Assignment;
+import com.platform.coding.domain.submission.AssignmentRepository;
+import com.platform.coding.util.TransactionUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 강의별 커리큘럼 스냅샷(CurriculumSnapshot)을 보관하는 크기 제한 캐시.
+ * 강의 상세/커리큘럼/동영상 시청 페이지는 캐시가 채워져 있으면 커리큘럼 조회 쿼리 없이 렌더링된다.
+ * AdminCourseService 의 모든 변경 메소드가 invalidate 를 호출하여 스냅샷을 무효화한다.
+ */
+@Component
+public class CurriculumCache {
+    private final CourseRepository courseRepository;
+    private final ChapterRepository chapterRepository;
+    private final LectureRepository lectureRepository;
+    private final AssignmentRepository assignmentRepository;
+    private final PrimaryReadTransaction primaryRead;
+
+    private final Cache<Long, CurriculumSnapshot> snapshots;
+    // 렉처 ID -> 강의 ID. 렉처는 다른 강의로 옮겨지지 않으므로 삭제될 때만 제거함
+    private final Cache<Long, Long> courseIdByLecture;
+    // 무효화 순번. 무효화할 때마다 증가함
+    private final AtomicLong invalidations = new AtomicLong();
+    // 스냅샷을 만드는 중인 강의의 마지막 무효화 순번. 만드는 도중에 무효화가 일어나면 그 스냅샷은 캐시하지 않음
+    // (만드는 요청이 모두 끝나면 제거되므로 동시에 만드는 강의 수 이상으로 커지지 않음)
+    private final Map<Long, LoadStamp> loading = new ConcurrentHashMap<>();
+
+    public CurriculumCache(CourseRepository courseRepository,
+                           ChapterRepository chapterRepository,
+                           LectureRepository lectureRepository,
+                           AssignmentRepository assignmentRepository,
+                           PrimaryReadTransaction primaryRead,
+                           MeterRegistry meterRegistry,
+                           @Value("${app.curriculum.cache.max-size:500}") long maxSize) {
+        this.courseRepository = courseRepository;
+        this.chapterRepository = chapterRepository;
+        this.lectureRepository = lectureRepository;
+        this.assignmentRepository = assignmentRepository;
+        this.primaryRead = primaryRead;
+
+        this.snapshots = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        this.courseIdByLecture = Caffeine.newBuilder()
+                .maximumSize(maxSize * 50)
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, snapshots, "curriculum");
+    }
+
+    /**
+     * 강의의 커리큘럼 스냅샷을 반환한다.
+     * @throws IllegalArgumentException 존재하지 않는 강의인 경우
+     */
+    public CurriculumSnapshot get(Long courseId) {
+        return find(courseId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 강의입니다."));
+    }
+
+    /**
+     * 강의의 커리큘럼 스냅샷을 반환한다. 존재하지 않는 강의이면 빈 값을 반환한다.
+     */
+    public Optional<CurriculumSnapshot> find(Long courseId) {
+        CurriculumSnapshot[] loaded = new CurriculumSnapshot[1];
+        CurriculumSnapshot cached = snapshots.get(courseId, id -> {
+            long sequence = beginLoad(id);
+            boolean stable;
+            try {
+                loaded[0] = load(id);
+            } finally {
+                stable = endLoad(id, sequence);
+            }
+            // 만드는 도중에 무효화된 스냅샷은 캐시에 남기지 않음 (이번 요청에는 그대로 사용)
+            return stable ? loaded[0] : null;
+        });
+        return Optional.ofNullable(cached != null ? cached : loaded[0]);
+    }
+
+    /**
+     * 강의의 수정 시각(커리큘럼 포함)을 반환한다. 존재하지 않는 강의이면 빈 값을 반환한다.
+     * 스냅샷이 캐시되어 있으면 그 시각을, 없으면 수정 시각 컬럼만 조회하므로 커리큘럼을 읽지 않는다.
+     */
+    public Optional<Instant> findLastModified(Long courseId) {
+        CurriculumSnapshot snapshot = snapshots.getIfPresent(courseId);
+        if (snapshot != null) {
+            return Optional.of(snapshot.getLastModified());
+        }
+        // 복제본의 이전 수정 시각으로 응답하면 바뀐 강의에 304 를 돌려줄 수 있으므로 원본에서 읽음
+        return primaryRead.execute(() -> courseRepository.findUpdatedAtById(courseId));
+    }
+
+    /**
+     * 렉처가 속한 강의의 커리큘럼 스냅샷을 반환한다.
+     * @throws IllegalArgumentException 존재하지 않는 렉처인 경우
+     */
+    public CurriculumSnapshot getByLectureId(Long lectureId) {
+        Long courseId = courseIdByLecture.get(lectureId,
+                id -> primaryRead.execute(() -> lectureRepository.findCourseIdById(id).orElse(null)));
+        if (courseId == null) {
+            throw new IllegalArgumentException("존재하지 않는 강의입니다.");
+        }
+        return get(courseId);
+    }
+
+    /**
+     * 커리큘럼이 변경되었을 때 호출한다.
+     * 변경 중인 트랜잭션에서 다시 채워진 스냅샷이 남지 않도록 즉시 한 번, 커밋 후에 한 번 더 제거한다.
+     */
+    public void invalidate(Long courseId) {
+        evict(courseId);
+        TransactionUtil.runAfterCommit(() -> evict(courseId));
+    }
+
+    /**
+     * 렉처가 삭제되었을 때 호출한다.
+     */
+    public void invalidateLecture(Long lectureId, Long courseId) {
+        courseIdByLecture.invalidate(lectureId);
+        invalidate(courseId);
+    }
+
+    private void evict(Long courseId) {
+        long sequence = invalidations.incrementAndGet();
+        loading.computeIfPresent(courseId, (id, stamp) -> {
+            stamp.invalidatedAt = sequence;
+            return stamp;
+        });
+        snapshots.invalidate(courseId);
+    }
+
+    // 스냅샷을 만들기 시작할 때의 무효화 순번을 반환하고, 만드는 동안 기록이 지워지지 않게 함
+    private long beginLoad(Long courseId) {
+        long[] sequence = new long[1];
+        loading.compute(courseId, (id, stamp) -> {
+            LoadStamp current = stamp != null ? stamp : new LoadStamp();
+            current.loaders++;
+            sequence[0] = invalidations.get();
+            return current;
+        });
+        return sequence[0];
+    }
+
+    // 만드는 동안 이 강의가 무효화되지 않았으면 true
+    private boolean endLoad(Long courseId, long sequence) {
+        boolean[] stable = new boolean[1];
+        loading.computeIfPresent(courseId, (id, stamp) -> {
+            stable[0] = stamp.invalidatedAt <= sequence;
+            stamp.loaders--;
+            return stamp.loaders == 0 ? null : stamp;
+        });
+        return stable[0];
+    }
+
+    /**
+     * 렉처 수와 관계없이 항상 3번의 쿼리로 스냅샷을 만든다.
+     * 1. 강의 + 강사, 2. 챕터 + 렉처 (Fetch Join), 3. 강의의 모든 과제
+     * 무효화 직후 복제본의 이전 데이터로 다시 채워지지 않도록 원본에서 읽는다.
+     */
+    private CurriculumSnapshot load(Long courseId) {
+        CurriculumSnapshot snapshot = primaryRead.execute(() -> courseRepository.findWithAdminById(courseId)
+                .map(course -> toSnapshot(course, chapterRepository.findAllWithLecturesByCourseId(courseId)))
+                .orElse(null));
+        if (snapshot != null) {
+            snapshot.getLectures().forEach(lecture -> courseIdByLecture.put(lecture.lectureId(), courseId));
+        }
+        return snapshot;
+    }
+
+    private CurriculumSnapshot toSnapshot(Course course, List<Chapter> courseChapters) {
+        Map<Long, List<Assignment>> assignmentsByLecture = assignmentRepository.findAllByCourseId(course.getId()).stream()
+                .collect(Collectors.groupingBy(assignment -> assignment.getLecture().getId()));
+
+        List<ChapterSnapshot> chapters = courseChapters.stream()
+                .sorted(Comparator.comparingInt(Chapter::getOrder).thenComparing(Chapter::getId))
+                .map(chapter -> new ChapterSnapshot(
+                        chapter.getId(),
+                        chapter.getOrder(),
+                        chapter.getTitle(),
+                        chapter.getLectures().stream()
+                                .sorted(Comparator.comparingInt(Lecture::getOrder).thenComparing(Lecture::getId))
+                                .map(lecture -> toSnapshot(lecture, assignmentsByLecture.getOrDefault(lecture.getId(), List.of())))
+                                .toList()))
+                .toList();
+
+        return new CurriculumSnapshot(
+                course.getId(),
+                course.getUpdatedAt(),
+                course.getTitle(),
+                course.getDescription(),
+                course.getAdmin().getUserName(),
+                course.getPrice(),
+                course.getStatus(),
+                chapters
+        );
+    }
+
+    private LectureSnapshot toSnapshot(Lecture lecture, List<Assignment> assignments) {
+        return new LectureSnapshot(
+                lecture.getId(),
+                lecture.getOrder(),
+                lecture.getTitle(),
+                lecture.getVideoUrl(),
+                lecture.getDurationSeconds(),
+                lecture.isSample(),
+                lecture.getCompletionSlot(),
+                assignments.stream()
+                        .sorted(Comparator.comparing(Assignment::getId))
+                        .map(assignment -> new AssignmentSnapshot(assignment.getId(), assignment.getTitle(), assignment.getDeadline()))
+                        .toList()
+        );
+    }
+
+    /**
+     * 스냅샷을 만드는 중인 강의의 기록. ConcurrentHashMap.compute 안에서만 읽고 바꾼다.
+     */
+    private static class LoadStamp {
+        // 만드는 도중 마지막으로 무효화된 순번 (없으면 0)
+        private long invalidatedAt;
+        // 스냅샷을 만드는 중인 요청 수
+        private int loaders;
+    }
+}
@@ -0,0 +1,66 @@
+package com.platform.coding.service.course;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.platform.coding.config.datasource.PrimaryReadTransaction;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.platform.coding.domain.enrollment.CourseEnrollmentStatus;
+import com.platform.coding.domain.enrollment.EnrollmentRepository;
+import com.platform.coding.domain.enrollment.EnrollmentStatus;
+import com.platform.coding.util.TransactionUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 학생별 수강 권한 캐시 (강의 ID -> 수강 상태).
+ * 학생의 수강 목록을 한 번에 읽어 두고, 결제/환불/완강으로 수강 정보가 바뀌면 무효화된다.
+ * DB를 직접 수정하는 등 무효화를 거치지 않은 변경에 대비해 일정 시간이 지나면 다시 읽는다.
+ * 무효화 직후 복제본의 이전 수강 정보로 다시 채워지지 않도록 원본에서 읽는다.
+ */
+@Component
+public class EntitlementCache {
+    private final LoadingCache<Long, Map<Long, EnrollmentStatus>> entitlements;
+
+    public EntitlementCache(EnrollmentRepository enrollmentRepository,
+                            PrimaryReadTransaction primaryRead,
+                            MeterRegistry meterRegistry,
+                            @Value("${app.entitlement.cache.max-size:10000}") long maxSize,
+                            @Value("${app.entitlement.cache.ttl-minutes:10}") long ttlMinutes) {
+        this.entitlements = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats()
+                .build(studentId -> primaryRead.execute(() -> enrollmentRepository.findCourseStatusesByStudentId(studentId)).stream()
+                        .collect(Collectors.toUnmodifiableMap(CourseEnrollmentStatus::courseId, CourseEnrollmentStatus::status)));
+        CaffeineCacheMetrics.monitor(meterRegistry, entitlements, "entitlement");
+    }
+
+    /**
+     * 학생의 특정 강의 수강 상태를 반환한다. 수강 정보가 없으면 빈 값을 반환한다.
+     */
+    public Optional<EnrollmentStatus> statusOf(Long studentId, Long courseId) {
+        return Optional.ofNullable(entitlements.get(studentId).get(courseId));
+    }
+
+    /**
+     * 학생이 해당 강의의 수강 정보를 가지고 있는지 확인한다. (상태 무관)
+     */
+    public boolean isEnrolled(Long studentId, Long courseId) {
+        return entitlements.get(studentId).containsKey(courseId);
+    }
+
+    /**
+     * 학생의 수강 정보가 바뀌었을 때 호출한다. (결제, 환불, 완강)
+     * 변경 중인 트랜잭션에서 다시 채워진 값이 남지 않도록 즉시 한 번, 커밋 후에 한 번 더 제거한다.
+     */
+    public void invalidate(Long studentId) {
+        entitlements.invalidate(studentId);
+        TransactionUtil.runAfterCommit(() -> entitlements.invalidate(studentId));
+    }
+}
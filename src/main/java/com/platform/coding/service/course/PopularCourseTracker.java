@@ -0,0 +1,236 @@
+package com.platform.coding.service.course;
+
+import com.platform.coding.domain.enrollment.CourseEnrollmentCount;
+import com.platform.coding.domain.enrollment.EnrollmentJdbcRepository;
+import com.platform.coding.util.TransactionUtil;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.*;
+
+/**
+ * 강의별 수강 등록 수 상위 목록을 메모리에서 유지하는 추적기.
+ *
+ * 기동 시 집계 쿼리 한 번으로 채우고, 이후에는 결제(수강 등록)와 환불이 커밋될 때마다 증분 반영한다.
+ * 최근 7일/30일 순위는 UTC 일 단위 버킷으로 유지하며, 날짜가 바뀌면 기간을 벗어난 버킷만큼 빼서 갱신한다.
+ * 변경할 때마다 기간별 상위 목록을 새로 만들어 두므로 조회는 잠금 없이 O(K) 이다.
+ * 다른 서버에서 처리된 결제나 DB 직접 수정은 주기적인 재적재로 반영된다.
+ */
+@Slf4j
+@Component
+public class PopularCourseTracker {
+    private static final int MAX_WINDOW_DAYS = Arrays.stream(PopularityWindow.values())
+            .mapToInt(PopularityWindow::getDays)
+            .max()
+            .orElse(0);
+    private static final Comparator<Rank> RANK_ORDER = Comparator.comparingLong(Rank::enrollmentCount).reversed()
+            .thenComparing(Rank::courseId);
+
+    private final EnrollmentJdbcRepository enrollmentJdbcRepository;
+    private final Clock clock;
+    // 기간별로 미리 만들어 두는 상위 목록의 크기 (조회 가능한 최대 개수)
+    private final int rankSize;
+
+    // 아래 상태는 this 로 동기화하여 변경
+    private final Map<PopularityWindow, Ranking> rankings = new EnumMap<>(PopularityWindow.class);
+    // UTC 날짜 -> (강의 ID -> 그날의 수강 등록 수), 최근 MAX_WINDOW_DAYS 일만 유지
+    private final NavigableMap<LocalDate, Map<Long, Long>> dailyBuckets = new TreeMap<>();
+    private LocalDate today;
+
+    private volatile Snapshot snapshot;
+
+    @Autowired
+    public PopularCourseTracker(EnrollmentJdbcRepository enrollmentJdbcRepository,
+                                @Value("${app.popular-courses.rank-size:20}") int rankSize) {
+        this(enrollmentJdbcRepository, rankSize, Clock.systemUTC());
+    }
+
+    PopularCourseTracker(EnrollmentJdbcRepository enrollmentJdbcRepository, int rankSize, Clock clock) {
+        this.enrollmentJdbcRepository = enrollmentJdbcRepository;
+        this.rankSize = rankSize;
+        this.clock = clock;
+        for (PopularityWindow window : PopularityWindow.values()) {
+            rankings.put(window, new Ranking());
+        }
+        this.today = currentDate();
+        publish();
+    }
+
+    /**
+     * 기간 내 수강 등록이 많은 순으로 최대 limit 개의 강의를 반환한다. (limit 은 rank-size 를 넘을 수 없음)
+     */
+    public List<Rank> top(PopularityWindow window, int limit) {
+        Snapshot current = snapshot;
+        if (!current.date().equals(currentDate())) {
+            // 날짜가 바뀐 뒤 아직 아무 변경이 없었다면 여기서 기간을 옮김
+            rotate();
+            current = snapshot;
+        }
+        List<Rank> ranks = current.ranks().get(window);
+        return ranks.subList(0, Math.min(limit, ranks.size()));
+    }
+
+    public int getRankSize() {
+        return rankSize;
+    }
+
+    /**
+     * 수강 등록을 반영한다. 트랜잭션 안에서 호출되면 커밋된 뒤에 반영된다.
+     */
+    public void enrolled(Long courseId, Instant enrolledAt) {
+        TransactionUtil.runAfterCommit(() -> apply(courseId, enrolledAt, 1));
+    }
+
+    /**
+     * 수강 취소(환불 등)를 반영한다. 해당 수강 건이 등록된 날의 버킷에서 뺀다.
+     */
+    public void cancelled(Long courseId, Instant enrolledAt) {
+        TransactionUtil.runAfterCommit(() -> apply(courseId, enrolledAt, -1));
+    }
+
+    /**
+     * DB 에서 강의별 수강 등록 수를 다시 집계하여 전체 상태를 교체한다.
+     * 집계 쿼리가 실행되는 동안 커밋된 변경은 일부 누락될 수 있으나 다음 재적재 때 바로잡힌다.
+     */
+    @PostConstruct
+    @Scheduled(fixedDelayString = "${app.popular-courses.reload-interval-ms:600000}",
+            initialDelayString = "${app.popular-courses.reload-interval-ms:600000}")
+    public void reload() {
+        LocalDate loadDate = currentDate();
+        LocalDate recentSince = loadDate.minusDays(MAX_WINDOW_DAYS - 1);
+        List<CourseEnrollmentCount> counts = enrollmentJdbcRepository.countByCourseAndRecentDay(
+                recentSince.atStartOfDay().toInstant(ZoneOffset.UTC));
+
+        synchronized (this) {
+            rankings.values().forEach(Ranking::clear);
+            dailyBuckets.clear();
+            today = loadDate;
+            for (CourseEnrollmentCount count : counts) {
+                add(count.courseId(), count.enrolledDate(), count.enrollmentCount());
+            }
+            publish();
+            log.debug("Reloaded popular course tracker with {} courses", rankings.get(PopularityWindow.ALL_TIME).size());
+        }
+    }
+
+    /**
+     * UTC 자정이 지나면 기간을 벗어난 버킷을 순위에서 뺀다.
+     */
+    @Scheduled(cron = "0 0 0 * * *", zone = "UTC")
+    public synchronized void rotate() {
+        advanceTo(currentDate());
+        publish();
+    }
+
+    private synchronized void apply(Long courseId, Instant enrolledAt, long delta) {
+        advanceTo(currentDate());
+        add(courseId, LocalDate.ofInstant(enrolledAt, ZoneOffset.UTC), delta);
+        publish();
+    }
+
+    /**
+     * @param date 수강 등록일. null 이거나 버킷 보관 기간 이전이면 전체 기간 순위에만 반영한다.
+     */
+    private void add(Long courseId, LocalDate date, long delta) {
+        rankings.get(PopularityWindow.ALL_TIME).add(courseId, delta);
+        if (date == null || date.isAfter(today) || date.isBefore(today.minusDays(MAX_WINDOW_DAYS - 1))) {
+            return;
+        }
+        dailyBuckets.computeIfAbsent(date, d -> new HashMap<>()).merge(courseId, delta, Long::sum);
+        for (PopularityWindow window : PopularityWindow.values()) {
+            if (window.isWindowed() && !date.isBefore(today.minusDays(window.getDays() - 1))) {
+                rankings.get(window).add(courseId, delta);
+            }
+        }
+    }
+
+    private void advanceTo(LocalDate date) {
+        if (!date.isAfter(today)) {
+            return;
+        }
+        if (today.plusDays(MAX_WINDOW_DAYS).isBefore(date)) {
+            // 모든 버킷이 기간을 벗어남
+            rankings.forEach((window, ranking) -> {
+                if (window.isWindowed()) {
+                    ranking.clear();
+                }
+            });
+            dailyBuckets.clear();
+            today = date;
+            return;
+        }
+        while (today.isBefore(date)) {
+            today = today.plusDays(1);
+            for (PopularityWindow window : PopularityWindow.values()) {
+                if (!window.isWindowed()) {
+                    continue;
+                }
+                Map<Long, Long> expired = dailyBuckets.get(today.minusDays(window.getDays()));
+                if (expired != null) {
+                    Ranking ranking = rankings.get(window);
+                    expired.forEach((courseId, count) -> ranking.add(courseId, -count));
+                }
+            }
+        }
+        dailyBuckets.headMap(today.minusDays(MAX_WINDOW_DAYS - 1), false).clear();
+    }
+
+    private void publish() {
+        Map<PopularityWindow, List<Rank>> ranks = new EnumMap<>(PopularityWindow.class);
+        rankings.forEach((window, ranking) -> ranks.put(window, ranking.top(rankSize)));
+        this.snapshot = new Snapshot(today, ranks);
+    }
+
+    private LocalDate currentDate() {
+        return LocalDate.now(clock.withZone(ZoneOffset.UTC));
+    }
+
+    public record Rank(Long courseId, long enrollmentCount) {
+    }
+
+    private record Snapshot(LocalDate date, Map<PopularityWindow, List<Rank>> ranks) {
+    }
+
+    /**
+     * 강의별 수강 등록 수와, 같은 내용을 순위대로 정렬한 집합.
+     */
+    private static final class Ranking {
+        private final Map<Long, Long> counts = new HashMap<>();
+        private final NavigableSet<Rank> ordered = new TreeSet<>(RANK_ORDER);
+
+        private void add(Long courseId, long delta) {
+            long before = counts.getOrDefault(courseId, 0L);
+            long after = Math.max(0, before + delta);
+            if (before > 0) {
+                ordered.remove(new Rank(courseId, before));
+            }
+            if (after > 0) {
+                counts.put(courseId, after);
+                ordered.add(new Rank(courseId, after));
+            } else {
+                counts.remove(courseId);
+            }
+        }
+
+        private List<Rank> top(int limit) {
+            return ordered.stream().limit(limit).toList();
+        }
+
+        private int size() {
+            return counts.size();
+        }
+
+        private void clear() {
+            counts.clear();
+            ordered.clear();
+        }
+    }
+}
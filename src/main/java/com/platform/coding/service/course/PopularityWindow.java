@@ -0,0 +1,22 @@
+package com.platform.coding.service.course;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 인기 강좌 순위를 매기는 기간.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum PopularityWindow {
+    ALL_TIME(0),        // 전체 기간
+    LAST_7_DAYS(7),     // 오늘을 포함한 최근 7일 (UTC)
+    LAST_30_DAYS(30);   // 오늘을 포함한 최근 30일 (UTC)
+
+    // 0 이면 기간 제한 없음
+    private final int days;
+
+    public boolean isWindowed() {
+        return days > 0;
+    }
+}
@@ -1,12 +1,12 @@
 package com.platform.coding.service.course.dto;
 
-import com.platform.coding.domain.submission.Assignment;
+import com.platform.coding.domain.course.CurriculumSnapshot.AssignmentSnapshot;
 
 public record AssignmentDto(
         Long assignmentId,
         String title
 ) {
-    public static AssignmentDto of(Assignment assignment) {
-        return new AssignmentDto(assignment.getId(), assignment.getTitle());
+    public static AssignmentDto of(AssignmentSnapshot assignment) {
+        return new AssignmentDto(assignment.assignmentId(), assignment.title());
     }
-}
\ No newline at end of file
+}
@@ -1,10 +1,8 @@
 package com.platform.coding.service.course.dto;
 
-import com.platform.coding.domain.course.Chapter;
-import com.platform.coding.domain.submission.Assignment;
+import com.platform.coding.domain.course.CurriculumSnapshot.ChapterSnapshot;
 
 import java.util.List;
-import java.util.Map;
 
 public record ChapterDto(
         Long chapterId,
@@ -12,10 +10,10 @@ public record ChapterDto(
         String title,
         List<LectureDto> lectures
 ) {
-    public static ChapterDto of(Chapter chapter, Map<Long, List<Assignment>> assignmentsByLecture) {
-        List<LectureDto> lectureDtos = chapter.getLectures().stream()
-                .map(lecture -> LectureDto.of(lecture, assignmentsByLecture.getOrDefault(lecture.getId(), List.of())))
+    public static ChapterDto of(ChapterSnapshot chapter) {
+        List<LectureDto> lectureDtos = chapter.lectures().stream()
+                .map(LectureDto::of)
                 .toList();
-        return new ChapterDto(chapter.getId(), chapter.getOrder(), chapter.getTitle(), lectureDtos);
+        return new ChapterDto(chapter.chapterId(), chapter.order(), chapter.title(), lectureDtos);
     }
 }
@@ -1,20 +1,18 @@
 package com.platform.coding.service.course.dto;
 
-import com.platform.coding.domain.course.Course;
-import com.platform.coding.domain.submission.Assignment;
+import com.platform.coding.domain.course.CurriculumSnapshot;
 
 import java.util.List;
-import java.util.Map;
 
 public record CourseCurriculumResponse(
         Long courseId,
         String courseTitle,
         List<ChapterDto> chapters
 ) {
-    public static CourseCurriculumResponse of(Course course, Map<Long, List<Assignment>> assignmentsByLecture) {
-        List<ChapterDto> chapterDtos = course.getChapters().stream()
-                .map(chapter -> ChapterDto.of(chapter, assignmentsByLecture))
+    public static CourseCurriculumResponse of(CurriculumSnapshot curriculum) {
+        List<ChapterDto> chapterDtos = curriculum.getChapters().stream()
+                .map(ChapterDto::of)
                 .toList();
-        return new CourseCurriculumResponse(course.getId(), course.getTitle(), chapterDtos);
+        return new CourseCurriculumResponse(curriculum.getCourseId(), curriculum.getTitle(), chapterDtos);
     }
-}
\ No newline at end of file
+}
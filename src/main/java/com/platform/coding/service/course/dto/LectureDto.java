@@ -1,7 +1,6 @@
 package com.platform.coding.service.course.dto;
 
-import com.platform.coding.domain.course.Lecture;
-import com.platform.coding.domain.submission.Assignment;
+import com.platform.coding.domain.course.CurriculumSnapshot.LectureSnapshot;
 
 import java.util.List;
 
@@ -12,10 +11,10 @@ public record LectureDto(
         boolean isSample,
         List<AssignmentDto> assignments
 ) {
-    public static LectureDto of(Lecture lecture, List<Assignment> assignments) {
-        List<AssignmentDto> assignmentDtos = assignments.stream()
+    public static LectureDto of(LectureSnapshot lecture) {
+        List<AssignmentDto> assignmentDtos = lecture.assignments().stream()
                 .map(AssignmentDto::of)
                 .toList();
-        return new LectureDto(lecture.getId(), lecture.getOrder(), lecture.getTitle(), lecture.isSample(), assignmentDtos);
+        return new LectureDto(lecture.lectureId(), lecture.order(), lecture.title(), lecture.isSample(), assignmentDtos);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,28 @@
+package com.platform.coding.service.course.dto;
+
+import com.platform.coding.domain.course.CurriculumSnapshot;
+import lombok.Builder;
+
+import java.math.BigDecimal;
+
+// 강의 목록의 인기 강의 섹션용 DTO
+public record PopularCourseResponse(
+        Long courseId,
+        String title,
+        String instructorName,
+        BigDecimal price,
+        long enrollmentCount
+) {
+    @Builder
+    public PopularCourseResponse {}
+
+    public static PopularCourseResponse of(CurriculumSnapshot course, long enrollmentCount) {
+        return PopularCourseResponse.builder()
+                .courseId(course.getCourseId())
+                .title(course.getTitle())
+                .instructorName(course.getInstructorName())
+                .price(course.getPrice())
+                .enrollmentCount(enrollmentCount)
+                .build();
+    }
+}
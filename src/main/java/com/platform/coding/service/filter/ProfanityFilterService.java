@@ -1,25 +1,34 @@
 package com.platform.coding.service.filter;
 
+import com.platform.coding.domain.profanity.ForbiddenWordRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.List;
 
+@Slf4j
 @Service
+@RequiredArgsConstructor
 public class ProfanityFilterService {
     /**
-     * 금지어 목록입니다.
-     * 실제 운영 환경에서는 DB나 외부 설정 파일을 통해 관리하는 것이 좋습니다.
+     * 기본 금지어 목록입니다.
+     * 기동 시 금지어 테이블이 비어 있으면 DB에 등록되며(ForbiddenWordInitializer), 이후에는 관리자가 DB에서 관리합니다.
      */
-    private static final Set<String> FORBIDDEN_WORDS = Stream.of(
+    public static final List<String> DEFAULT_FORBIDDEN_WORDS = List.of(
             "바보", "멍청이", "개새끼", "씨발", "병신", "존나", "졸라", "jonna",
             "광고", "홍보", "판매", "http://", "https://", "www."
-    ).map(String::toLowerCase).collect(Collectors.toSet());
+    );
+
+    private final ForbiddenWordRepository forbiddenWordRepository;
+    // 금지어 목록이 바뀌면 새로 만든 검사기로 통째로 교체됨 (검사 중인 요청은 이전 검사기를 그대로 사용)
+    // DB에서 처음 읽어오기 전까지는 기본 목록을 사용
+    private volatile ProfanityMatcher matcher = ProfanityMatcher.compile(DEFAULT_FORBIDDEN_WORDS);
 
     /**
      * 입력된 텍스트에 금지어가 포함되어 있는지 확인합니다.
-     * 이 검사는 대소문자를 구분하지 않습니다.
+     * 이 검사는 공백을 무시하고 대소문자를 구분하지 않으며, 금지어 개수와 관계없이 텍스트를 한 번만 훑습니다.
      *
      * @param text 검사할 텍스트
      * @return 금지어가 포함되어 있으면 true, 그렇지 않으면 false
@@ -28,17 +37,18 @@ public class ProfanityFilterService {
         if (text == null || text.isBlank()) {
             return false;
         }
+        return matcher.matches(text);
+    }
 
-        // 1. 모든 공백을 제거합니다.
-        String sanitizedText = text.replaceAll("\\s+", "");
-        // 2. 소문자로 변환하여 비교합니다.
-        String lowerCaseText = sanitizedText.toLowerCase();
-
-        for (String forbiddenWord : FORBIDDEN_WORDS) {
-            if (lowerCaseText.contains(forbiddenWord)) {
-                return true;
-            }
-        }
-        return false;
+    /**
+     * DB의 금지어 목록으로 검사기를 다시 만들어 교체합니다.
+     * 관리자가 금지어를 수정하면 즉시 호출되며, 다른 서버에서의 수정을 반영하기 위해 주기적으로도 호출됩니다.
+     */
+    @Scheduled(fixedDelayString = "${app.profanity.reload-interval-ms:60000}",
+            initialDelayString = "${app.profanity.reload-interval-ms:60000}")
+    public void reload() {
+        ProfanityMatcher reloaded = ProfanityMatcher.compile(forbiddenWordRepository.findAllWords());
+        this.matcher = reloaded;
+        log.debug("Reloaded profanity matcher with {} words", reloaded.wordCount());
     }
 }
@@ -0,0 +1,144 @@
+package com.platform.coding.service.filter;
+
+import java.util.*;
+
+/**
+ * 금지어 목록으로 만든 Aho-Corasick 오토마톤.
+ * 텍스트를 한 번만 훑으면서 모든 금지어를 동시에 찾으므로, 검사 비용이 금지어 개수와 무관하게 텍스트 길이에 비례한다.
+ * 공백은 건너뛰고 대소문자는 문자 단위로 소문자로 바꾸며 검사하므로 중간 문자열을 만들지 않는다.
+ * 한 번 만들어진 인스턴스는 변경되지 않으므로 여러 스레드에서 동시에 사용할 수 있다.
+ */
+public final class ProfanityMatcher {
+    private static final int ROOT = 0;
+
+    // 상태별 전이: 정렬된 문자 배열과 같은 위치의 다음 상태 (이진 탐색)
+    private final char[][] transitionChars;
+    private final int[][] transitionTargets;
+    private final int[] failure;
+    // 이 상태에 도달하면 (실패 링크를 따라서라도) 끝나는 금지어가 있는지 여부
+    private final boolean[] matches;
+    private final int wordCount;
+
+    private ProfanityMatcher(char[][] transitionChars, int[][] transitionTargets, int[] failure, boolean[] matches, int wordCount) {
+        this.transitionChars = transitionChars;
+        this.transitionTargets = transitionTargets;
+        this.failure = failure;
+        this.matches = matches;
+        this.wordCount = wordCount;
+    }
+
+    /**
+     * 금지어를 검사 방식과 같은 규칙(공백 제거, 소문자)으로 정규화한다.
+     */
+    public static String normalize(String word) {
+        StringBuilder normalized = new StringBuilder(word.length());
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                normalized.append(Character.toLowerCase(c));
+            }
+        }
+        return normalized.toString();
+    }
+
+    public static ProfanityMatcher compile(Collection<String> words) {
+        // 1. 트라이 구성
+        List<Map<Character, Integer>> trie = new ArrayList<>();
+        List<Boolean> terminal = new ArrayList<>();
+        trie.add(new HashMap<>());
+        terminal.add(false);
+        int wordCount = 0;
+        for (String word : words) {
+            String normalized = normalize(word);
+            if (normalized.isEmpty()) {
+                continue;
+            }
+            int state = ROOT;
+            for (int i = 0; i < normalized.length(); i++) {
+                Integer next = trie.get(state).get(normalized.charAt(i));
+                if (next == null) {
+                    next = trie.size();
+                    trie.get(state).put(normalized.charAt(i), next);
+                    trie.add(new HashMap<>());
+                    terminal.add(false);
+                }
+                state = next;
+            }
+            terminal.set(state, true);
+            wordCount++;
+        }
+
+        int size = trie.size();
+        char[][] transitionChars = new char[size][];
+        int[][] transitionTargets = new int[size][];
+        for (int state = 0; state < size; state++) {
+            List<Character> keys = new ArrayList<>(trie.get(state).keySet());
+            Collections.sort(keys);
+            transitionChars[state] = new char[keys.size()];
+            transitionTargets[state] = new int[keys.size()];
+            for (int i = 0; i < keys.size(); i++) {
+                transitionChars[state][i] = keys.get(i);
+                transitionTargets[state][i] = trie.get(state).get(keys.get(i));
+            }
+        }
+
+        // 2. 너비 우선으로 실패 링크 계산
+        int[] failure = new int[size];
+        boolean[] matches = new boolean[size];
+        for (int state = 0; state < size; state++) {
+            matches[state] = terminal.get(state);
+        }
+        ProfanityMatcher matcher = new ProfanityMatcher(transitionChars, transitionTargets, failure, matches, wordCount);
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int child : transitionTargets[ROOT]) {
+            failure[child] = ROOT;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (int i = 0; i < transitionChars[state].length; i++) {
+                char c = transitionChars[state][i];
+                int child = transitionTargets[state][i];
+                failure[child] = matcher.step(failure[state], c);
+                matches[child] |= matches[failure[child]];
+                queue.add(child);
+            }
+        }
+        return matcher;
+    }
+
+    /**
+     * 텍스트에 금지어가 하나라도 포함되어 있는지 한 번의 순회로 확인한다.
+     */
+    public boolean matches(CharSequence text) {
+        int state = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            state = step(state, Character.toLowerCase(c));
+            if (matches[state]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int wordCount() {
+        return wordCount;
+    }
+
+    private int step(int state, char c) {
+        while (true) {
+            int index = Arrays.binarySearch(transitionChars[state], c);
+            if (index >= 0) {
+                return transitionTargets[state][index];
+            }
+            if (state == ROOT) {
+                return ROOT;
+            }
+            state = failure[state];
+        }
+    }
+}
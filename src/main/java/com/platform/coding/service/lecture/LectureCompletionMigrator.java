@@ -0,0 +1,56 @@
+package com.platform.coding.service.lecture;
+
+import com.platform.coding.domain.enrollment.Enrollment;
+import com.platform.coding.domain.lectureprogress.LectureProgress;
+import com.platform.coding.domain.lectureprogress.LectureProgressRepository;
+import com.platform.coding.service.course.CurriculumCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 렉처별 시청 기록(lecture_progress)을 수강 정보의 완료 비트셋과 이어보기 위치로 옮긴다.
+ * 호출하는 쪽의 트랜잭션 안에서 동작한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LectureCompletionMigrator {
+    private final LectureProgressRepository lectureProgressRepository;
+    private final CurriculumCache curriculumCache;
+
+    public void migrate(Enrollment enrollment) {
+        if (enrollment.isCompletionMigrated()) {
+            return;
+        }
+        // 비트 위치를 정하려면 렉처 슬롯이 먼저 부여되어 있어야 함
+        Long courseId = enrollment.getCourse().getId();
+        if (enrollment.getCourse().initializeCompletionSlots()) {
+            curriculumCache.invalidate(courseId);
+        }
+
+        List<LectureProgress> progresses = lectureProgressRepository.findByStudentAndCourse(enrollment.getStudent(), enrollment.getCourse());
+
+        BitSet completed = new BitSet();
+        progresses.stream()
+                .filter(LectureProgress::isCompleted)
+                .map(progress -> progress.getLecture().getCompletionSlot())
+                .filter(Objects::nonNull)
+                .forEach(completed::set);
+
+        // 가장 최근에 갱신된 시청 기록을 이어보기 위치로 사용
+        LectureProgress lastViewed = progresses.stream()
+                .max(Comparator.comparing(LectureProgress::getUpdatedAt))
+                .orElse(null);
+
+        enrollment.migrateCompletion(
+                completed.toByteArray(),
+                lastViewed != null ? lastViewed.getLecture().getId() : null,
+                lastViewed != null ? lastViewed.getLastViewedSeconds() : 0,
+                curriculumCache.get(courseId).lectureCount()
+        );
+    }
+}
@@ -0,0 +1,82 @@
+package com.platform.coding.service.lecture;
+
+import com.platform.coding.domain.lectureprogress.LectureProgressHeartbeat;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 시청 진도 하트비트를 (학생, 렉처) 단위로 병합해 보관하는 메모리 버퍼.
+ * 같은 키로 여러 번 들어온 하트비트는 마지막 시청 위치만 남기므로,
+ * 버퍼의 크기는 요청 수가 아니라 동시에 시청 중인 (학생, 렉처) 수에 비례한다.
+ * DB 장애로 반영이 밀려도 메모리가 무한히 늘지 않도록 키 수를 max-size 로 제한한다.
+ */
+@Component
+public class LectureProgressBuffer {
+    private final Map<Key, LectureProgressHeartbeat> pending = new ConcurrentHashMap<>();
+    // 보관할 수 있는 최대 (학생, 렉처) 수. 동시에 넣는 경우 약간 넘을 수 있음
+    private final int maxSize;
+
+    public LectureProgressBuffer(MeterRegistry meterRegistry,
+                                 @Value("${app.lecture.progress.buffer.max-size:100000}") int maxSize) {
+        this.maxSize = maxSize;
+        Gauge.builder("lecture.progress.buffer.depth", pending, Map::size)
+                .description("아직 DB에 반영되지 않은 (학생, 렉처) 시청 기록 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 하트비트를 버퍼에 넣는다. 이미 같은 키가 있으면 최신 값으로 덮어쓴다.
+     * @return 버퍼가 가득 차 새 키를 넣지 못했으면 false (호출한 쪽에서 직접 반영해야 함)
+     */
+    public boolean offer(Long studentId, Long lectureId, int viewedSeconds) {
+        Key key = new Key(studentId, lectureId);
+        LectureProgressHeartbeat heartbeat = new LectureProgressHeartbeat(studentId, lectureId, viewedSeconds);
+        if (pending.replace(key, heartbeat) != null) {
+            return true;
+        }
+        if (pending.size() >= maxSize) {
+            return false;
+        }
+        pending.put(key, heartbeat);
+        return true;
+    }
+
+    /**
+     * DB에 반영하지 못한 하트비트를 버퍼에 되돌린다.
+     * 그 사이 같은 키로 더 최신 하트비트가 들어왔으면 그 값을 유지한다.
+     */
+    public void requeue(List<LectureProgressHeartbeat> heartbeats) {
+        for (LectureProgressHeartbeat heartbeat : heartbeats) {
+            pending.putIfAbsent(new Key(heartbeat.studentId(), heartbeat.lectureId()), heartbeat);
+        }
+    }
+
+    /**
+     * 현재 버퍼에 쌓인 하트비트를 모두 꺼낸다.
+     * 키 단위로 제거하므로, 꺼내는 도중에 들어온 하트비트는 유실되지 않고 다음 drain 에 포함된다.
+     */
+    public List<LectureProgressHeartbeat> drain() {
+        List<LectureProgressHeartbeat> drained = new ArrayList<>(pending.size());
+        for (Key key : pending.keySet()) {
+            LectureProgressHeartbeat heartbeat = pending.remove(key);
+            if (heartbeat != null) {
+                drained.add(heartbeat);
+            }
+        }
+        return drained;
+    }
+
+    public int size() {
+        return pending.size();
+    }
+
+    private record Key(Long studentId, Long lectureId) {
+    }
+}
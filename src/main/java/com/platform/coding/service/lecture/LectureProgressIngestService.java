@@ -0,0 +1,42 @@
+package com.platform.coding.service.lecture;
+
+import com.platform.coding.domain.user.User;
+import com.platform.coding.service.course.CurriculumCache;
+import com.platform.coding.service.course.EntitlementCache;
+import com.platform.coding.service.lecture.dto.ProgressUpdateRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 진도율 업데이트 요청의 진입점.
+ * 버퍼링 모드가 켜져 있으면 하트비트를 메모리 버퍼에만 기록하고 즉시 반환하며(트랜잭션/DB 접근 없음),
+ * 꺼져 있으면 기존처럼 LectureService 에서 동기적으로 반영한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class LectureProgressIngestService {
+    private final LectureService lectureService;
+    private final LectureProgressBuffer lectureProgressBuffer;
+    private final CurriculumCache curriculumCache;
+    private final EntitlementCache entitlementCache;
+
+    @Value("${app.lecture.progress.buffered:false}")
+    private boolean buffered;
+
+    public void ingest(Long lectureId, ProgressUpdateRequest request, User student) {
+        if (buffered) {
+            // 수강하지 않은 학생의 하트비트는 버퍼에 넣지 않고 즉시 거절 (캐시만 조회)
+            Long courseId = curriculumCache.getByLectureId(lectureId).getCourseId();
+            if (!entitlementCache.isEnrolled(student.getId(), courseId)) {
+                throw new IllegalArgumentException("수강 정보가 존재하지 않습니다.");
+            }
+            // 실제 반영은 LectureProgressFlushScheduler 가 주기적으로 일괄 처리함
+            if (lectureProgressBuffer.offer(student.getId(), lectureId, request.currentViewedSeconds())) {
+                return;
+            }
+            // 버퍼가 가득 찼으면(반영이 밀리는 중) 이 요청은 동기적으로 반영함
+        }
+        lectureService.updateLectureProgress(lectureId, request, student);
+    }
+}
@@ -1,13 +1,16 @@
 package com.platform.coding.service.lecture;
 
 import com.platform.coding.domain.course.Course;
-import com.platform.coding.domain.course.Lecture;
-import com.platform.coding.domain.course.LectureRepository;
+import com.platform.coding.domain.course.CourseRepository;
+import com.platform.coding.domain.course.CurriculumSnapshot;
+import com.platform.coding.domain.course.CurriculumSnapshot.LectureSnapshot;
 import com.platform.coding.domain.enrollment.Enrollment;
 import com.platform.coding.domain.enrollment.EnrollmentRepository;
-import com.platform.coding.domain.lectureprogress.LectureProgress;
-import com.platform.coding.domain.lectureprogress.LectureProgressRepository;
+import com.platform.coding.domain.enrollment.EnrollmentStatus;
 import com.platform.coding.domain.user.User;
+import com.platform.coding.domain.user.UserRepository;
+import com.platform.coding.service.course.CurriculumCache;
+import com.platform.coding.service.course.EntitlementCache;
 import com.platform.coding.service.lecture.dto.LectureViewResponse;
 import com.platform.coding.service.lecture.dto.LectureWebResponse;
 import com.platform.coding.service.lecture.dto.ProgressUpdateRequest;
@@ -16,29 +19,30 @@ import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
-import java.util.List;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 public class LectureService {
-    private final LectureRepository lectureRepository;
+    private final CourseRepository courseRepository;
     private final EnrollmentRepository enrollmentRepository;
-    private final LectureProgressRepository lectureProgressRepository;
+    private final UserRepository userRepository;
+    private final CurriculumCache curriculumCache;
+    private final EntitlementCache entitlementCache;
+    private final LectureCompletionMigrator lectureCompletionMigrator;
 
     @Transactional(readOnly = true)
     public LectureViewResponse getLectureForViewing(Long lectureId, User student) {
-        Lecture lecture = lectureRepository.findById(lectureId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 강의입니다."));
+        CurriculumSnapshot curriculum = curriculumCache.getByLectureId(lectureId);
+        LectureSnapshot lecture = findLecture(curriculum, lectureId);
 
         // 맛보기 강의일 경우, 인증/수강 여부와 관계 없이 반환
         if (lecture.isSample()) {
             int lastViewedSeconds = 0;
-            // 만약 로그인한 사용자라면, 시청 기록을 가져옴
-            if (student != null) {
-                lastViewedSeconds = lectureProgressRepository.findByStudentAndLecture(student, lecture)
-                        .map(LectureProgress::getLastViewedSeconds)
+            // 만약 수강 중인 사용자라면, 시청 기록을 가져옴
+            if (student != null && entitlementCache.isEnrolled(student.getId(), curriculum.getCourseId())) {
+                lastViewedSeconds = enrollmentRepository.findByStudentAndCourseId(student, curriculum.getCourseId())
+                        .map(enrollment -> enrollment.getResumeSecondsOf(lectureId))
                         .orElse(0);
             }
             return LectureViewResponse.of(lecture, lastViewedSeconds);
@@ -50,114 +54,114 @@ public class LectureService {
             throw new IllegalArgumentException("로그인이 필요한 서비스입니다.");
         }
 
-        // 이 강의를 수강 중인지 확인
-        enrollmentRepository.findByStudentAndCourse(student, lecture.getChapter().getCourse())
+        // 이 강의를 수강 중인지 확인 (수강하지 않은 학생은 DB 조회 없이 거절)
+        if (!entitlementCache.isEnrolled(student.getId(), curriculum.getCourseId())) {
+            throw new IllegalArgumentException("수강 중인 강의가 아닙니다.");
+        }
+        Enrollment enrollment = enrollmentRepository.findByStudentAndCourseId(student, curriculum.getCourseId())
                 .orElseThrow(() -> new IllegalArgumentException("수강 중인 강의가 아닙니다."));
 
-        int lastViewedSeconds = lectureProgressRepository.findByStudentAndLecture(student, lecture)
-                .map(LectureProgress::getLastViewedSeconds)
-                .orElse(0);
-
-        return LectureViewResponse.of(lecture, lastViewedSeconds);
+        return LectureViewResponse.of(lecture, enrollment.getResumeSecondsOf(lectureId));
     }
 
     @Transactional
     public void updateLectureProgress(Long lectureId, ProgressUpdateRequest request, User student) {
-        Lecture lecture = lectureRepository.findById(lectureId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 강의입니다."));
+        CurriculumSnapshot curriculum = curriculumCache.getByLectureId(lectureId);
+        LectureSnapshot lecture = findLecture(curriculum, lectureId);
+        if (!entitlementCache.isEnrolled(student.getId(), curriculum.getCourseId())) {
+            throw new IllegalArgumentException("수강 정보가 존재하지 않습니다.");
+        }
+        // 완료 비트셋을 갱신할 수 있으므로 행 잠금을 걸고 조회 (동시에 다른 렉처를 완료한 요청의 비트를 덮어쓰지 않도록)
+        Enrollment enrollment = enrollmentRepository.findForUpdateByStudentAndCourseId(student, curriculum.getCourseId())
+                .orElseThrow(() -> new IllegalArgumentException("수강 정보가 존재하지 않습니다."));
 
-        // 개별 렉처 진행률 업데이트 또는 생성
-        LectureProgress progress = lectureProgressRepository.findByStudentAndLecture(student, lecture)
-                .orElseGet(() -> new LectureProgress(student, lecture));
-        progress.updateProgress(request.currentViewedSeconds());
-        lectureProgressRepository.save(progress);
+        // 비상식적인 값 방어
+        if (!lecture.isValidViewedSeconds(request.currentViewedSeconds())) {
+            return;
+        }
+
+        // 이어보기 위치와 완료 여부는 모두 수강 정보 한 행에 기록됨
+        lectureCompletionMigrator.migrate(enrollment);
+        enrollment.recordLastViewed(lectureId, request.currentViewedSeconds());
 
-        // 전체 강의 진도율 재계산 및 업데이트
-        updateOverallCourseProgress(lecture.getChapter().getCourse(), student);
+        // 렉처가 새로 '완료'된 경우에만 전체 강의 진도율이 갱신됨 (대부분의 하트비트는 여기서 끝남)
+        if (lecture.isCompletedAt(request.currentViewedSeconds())) {
+            markLectureCompleted(enrollment, curriculum, lecture);
+        }
     }
 
-    private void updateOverallCourseProgress(Course course, User student) {
-        Enrollment enrollment = enrollmentRepository.findByStudentAndCourse(student, course)
-                .orElseThrow(() -> new IllegalArgumentException("수강 정보가 존재하지 않습니다."));
-        
-        // 해당 강의의 모든 렉처 목록을 가져옴
-        List<Lecture> allLecturesInCourse = course.getChapters().stream()
-                .flatMap(chapter -> chapter.getLectures().stream())
-                .toList();
-
-        if (allLecturesInCourse.isEmpty()) {
-            // 강의가 없으면 진도율 계산 불가
+    /**
+     * 버퍼링된 시청 기록의 이어보기 위치가 일괄 반영된 뒤, 완료 기준을 넘은 렉처를 완료 처리한다.
+     * 수강 정보가 없는 경우(시청 기록도 반영되지 않은 경우)는 조용히 건너뛴다.
+     */
+    @Transactional
+    public void applyBufferedCompletion(Long studentId, Long lectureId, int viewedSeconds) {
+        CurriculumSnapshot curriculum = curriculumCache.getByLectureId(lectureId);
+        LectureSnapshot lecture = curriculum.findLecture(lectureId).orElse(null);
+        if (lecture == null || !lecture.isValidViewedSeconds(viewedSeconds) || !lecture.isCompletedAt(viewedSeconds)) {
             return;
         }
+        User student = userRepository.getReferenceById(studentId);
+        enrollmentRepository.findForUpdateByStudentAndCourseId(student, curriculum.getCourseId())
+                .ifPresent(enrollment -> {
+                    lectureCompletionMigrator.migrate(enrollment);
+                    markLectureCompleted(enrollment, curriculum, lecture);
+                });
+    }
 
-        // 학생이 완료한 렉처의 수를 셈
-        long completedLectureCount = allLecturesInCourse.stream()
-                .filter(lec -> lectureProgressRepository.findByStudentAndLecture(student, lec)
-                    .map(LectureProgress::isCompleted)
-                    .orElse(false))
-                .count();
-
-        // 진도율 계산
-        BigDecimal newProgressRate = BigDecimal.valueOf(completedLectureCount)
-                .multiply(new BigDecimal(100))
-                .divide(BigDecimal.valueOf(allLecturesInCourse.size()), 2, RoundingMode.HALF_UP);
-
-        enrollment.updateProgress(newProgressRate);
+    private void markLectureCompleted(Enrollment enrollment, CurriculumSnapshot curriculum, LectureSnapshot lecture) {
+        if (lecture.completionSlot() == null) {
+            // 슬롯 도입 이전에 생성된 강의라면 이 시점에 슬롯을 부여하고 스냅샷을 다시 만듦
+            courseRepository.findById(curriculum.getCourseId())
+                    .filter(Course::initializeCompletionSlots)
+                    .ifPresent(course -> curriculumCache.invalidate(course.getId()));
+            curriculum = curriculumCache.get(curriculum.getCourseId());
+            lecture = findLecture(curriculum, lecture.lectureId());
+        }
+        EnrollmentStatus before = enrollment.getStatus();
+        enrollment.markLectureCompleted(lecture.completionSlot(), curriculum.lectureCount());
+        if (enrollment.getStatus() != before) {
+            // 완강으로 상태가 바뀌면 리뷰 작성 권한 등이 달라지므로 수강 권한 캐시를 무효화
+            entitlementCache.invalidate(enrollment.getStudent().getId());
+        }
     }
 
     @Transactional(readOnly = true)
     public LectureWebResponse getLectureForWeb(Long lectureId, User student) {
-        Lecture lecture = lectureRepository.findById(lectureId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 강의입니다."));
+        CurriculumSnapshot curriculum = curriculumCache.getByLectureId(lectureId);
+        LectureSnapshot lecture = findLecture(curriculum, lectureId);
 
         // SecurityConfig에서 인증을 보장하므로, student 객체는 null이 아님이 보장됨.
         // 따라서 '맛보기 강의'가 아닐 경우, '수강 중'인지 여부만 확인하면 됨.
-        boolean isEnrolled = enrollmentRepository.findByStudentAndCourse(student, lecture.getChapter().getCourse()).isPresent();
-        
-        if (!lecture.isSample() && !isEnrolled) {
+        // 수강 권한 캐시로 먼저 걸러내고, 이어보기 위치가 필요한 수강생만 수강 정보 행을 조회함.
+        Optional<Enrollment> enrollment = entitlementCache.isEnrolled(student.getId(), curriculum.getCourseId())
+                ? enrollmentRepository.findByStudentAndCourseId(student, curriculum.getCourseId())
+                : Optional.empty();
+
+        if (!lecture.isSample() && enrollment.isEmpty()) {
             throw new AccessDeniedException("이 강의를 수강하고 있지 않습니다.");
         }
 
-        // 시청 기록은 로그인한 사용자에게만 조회
-        int lastViewedSeconds = 0;
-        if (student != null) {
-            lastViewedSeconds= lectureProgressRepository.findByStudentAndLecture(student, lecture)
-                    .map(LectureProgress::getLastViewedSeconds)
-                    .orElse(0);
-        }
-        
-        // 이전/다음 강의 ID 조회
-        Course course = lecture.getChapter().getCourse();
-        List<Lecture> allLectures = course.getChapters().stream()
-                .flatMap(chapter -> chapter.getLectures().stream())
-                .toList();
-
-        Long previousLectureId = null;
-        Long nextLectureId = null;
-
-        for (int i = 0; i < allLectures.size(); i++) {
-            if (allLectures.get(i).getId().equals(lectureId)) {
-                if (i > 0) {
-                    previousLectureId = allLectures.get(i - 1).getId();
-                }
-
-                if (i < allLectures.size() - 1) {
-                    nextLectureId = allLectures.get(i + 1).getId();
-                }
-                break;
-            }
-        }
+        // 시청 기록은 수강 중인 사용자에게만 조회
+        int lastViewedSeconds = enrollment
+                .map(e -> e.getResumeSecondsOf(lectureId))
+                .orElse(0);
 
+        // 이전/다음 강의 ID는 커리큘럼 스냅샷에서 바로 계산
         return LectureWebResponse.builder()
-                .lectureId(lecture.getId())
-                .lectureTitle(lecture.getTitle())
-                .videoUrl(lecture.getVideoUrl())
+                .lectureId(lecture.lectureId())
+                .lectureTitle(lecture.title())
+                .videoUrl(lecture.videoUrl())
                 .lastViewedSeconds(lastViewedSeconds)
-                .courseId(lecture.getChapter().getCourse().getId())
-                .courseTitle(lecture.getChapter().getCourse().getTitle())
-                .previousLectureId(previousLectureId)
-                .nextLectureId(nextLectureId)
+                .courseId(curriculum.getCourseId())
+                .courseTitle(curriculum.getTitle())
+                .previousLectureId(curriculum.previousLectureId(lectureId))
+                .nextLectureId(curriculum.nextLectureId(lectureId))
                 .build();
+    }
 
+    private LectureSnapshot findLecture(CurriculumSnapshot curriculum, Long lectureId) {
+        return curriculum.findLecture(lectureId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 강의입니다."));
     }
 }
@@ -1,6 +1,6 @@
 package com.platform.coding.service.lecture.dto;
 
-import com.platform.coding.domain.course.Lecture;
+import com.platform.coding.domain.course.CurriculumSnapshot.LectureSnapshot;
 import lombok.Builder;
 
 public record LectureViewResponse(
@@ -13,10 +13,10 @@ public record LectureViewResponse(
     @Builder
     public LectureViewResponse {}
 
-    public static LectureViewResponse of(Lecture lecture, int lastViewedSeconds) {
-        return new LectureViewResponse(lecture.getId(),
-                lecture.getTitle(),
-                lecture.getVideoUrl(),
+    public static LectureViewResponse of(LectureSnapshot lecture, int lastViewedSeconds) {
+        return new LectureViewResponse(lecture.lectureId(),
+                lecture.title(),
+                lecture.videoUrl(),
                 lastViewedSeconds);
     }
 }
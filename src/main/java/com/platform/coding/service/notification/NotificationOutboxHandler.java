@@ -0,0 +1,51 @@
+package com.platform.coding.service.notification;
+
+import com.platform.coding.domain.outbox.OutboxEventType;
+import com.platform.coding.domain.user.User;
+import com.platform.coding.domain.user.UserRepository;
+import com.platform.coding.service.outbox.OutboxEventHandler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 아웃박스로 요청된 알림을 일괄 생성한다.
+ * 알림 생성과 처리 완료 기록이 같은 트랜잭션에서 커밋되므로, 임대가 만료되어 다시 처리되는 경우가 아니면 알림은 한 번만 생성된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationOutboxHandler implements OutboxEventHandler<NotificationRequestedEvent> {
+    private final UserRepository userRepository;
+    private final NotificationService notificationService;
+
+    @Override
+    public OutboxEventType getEventType() {
+        return OutboxEventType.NOTIFICATION_REQUESTED;
+    }
+
+    @Override
+    public Class<NotificationRequestedEvent> getPayloadType() {
+        return NotificationRequestedEvent.class;
+    }
+
+    @Override
+    public void handle(List<NotificationRequestedEvent> events) {
+        Map<Long, User> users = userRepository.findAllById(events.stream().map(NotificationRequestedEvent::userId).distinct().toList())
+                .stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        for (NotificationRequestedEvent event : events) {
+            User user = users.get(event.userId());
+            if (user == null) {
+                log.warn("Skipping notification for unknown user {}", event.userId());
+                continue;
+            }
+            notificationService.createNotification(user, event.content(), event.linkUrl());
+        }
+    }
+}
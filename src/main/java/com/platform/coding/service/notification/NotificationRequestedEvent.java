@@ -0,0 +1,11 @@
+package com.platform.coding.service.notification;
+
+/**
+ * 사용자에게 알림을 보내야 함을 나타내는 아웃박스 이벤트 내용
+ */
+public record NotificationRequestedEvent(
+        Long userId,
+        String content,
+        String linkUrl
+) {
+}
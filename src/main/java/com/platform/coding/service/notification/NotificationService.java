@@ -3,12 +3,18 @@ package com.platform.coding.service.notification;
 import com.platform.coding.domain.notification.Notification;
 import com.platform.coding.domain.notification.NotificationRepository;
 import com.platform.coding.domain.user.User;
+import com.platform.coding.service.notification.dto.NotificationCursor;
+import com.platform.coding.service.notification.dto.NotificationInboxResponse;
 import com.platform.coding.service.notification.dto.NotificationResponse;
+import com.platform.coding.util.TransactionUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -16,7 +22,12 @@ import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 public class NotificationService {
+    // 알림함 커서 조회의 최대 페이지 크기
+    private static final int MAX_INBOX_PAGE_SIZE = 50;
+
     private final NotificationRepository notificationRepository;
+    private final UnreadNotificationCounter unreadNotificationCounter;
+    private final NotificationStreamHub notificationStreamHub;
 
     /**
      * 현재 로그인한 사용자의 알림 목록을 조회합니다.
@@ -30,6 +41,37 @@ public class NotificationService {
                 .map(NotificationResponse::fromEntity);
     }
 
+    /**
+     * 현재 로그인한 사용자의 알림함을 커서 기반(키셋)으로 최신순 조회합니다.
+     * 전체 개수를 세지 않으며, 오래된 알림으로 갈수록 느려지는 OFFSET 을 사용하지 않습니다.
+     * @param user 현재 사용자
+     * @param cursor 이전 응답의 nextCursor (첫 페이지이면 null)
+     * @param size 페이지 크기
+     * @return 알림 목록과 다음 페이지 커서
+     */
+    @Transactional(readOnly = true)
+    public NotificationInboxResponse getMyInbox(User user, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_INBOX_PAGE_SIZE);
+        // 다음 페이지 존재 여부를 알기 위해 한 건 더 조회
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<Notification> notifications;
+        if (StringUtils.hasText(cursor)) {
+            NotificationCursor after = NotificationCursor.decode(cursor);
+            notifications = notificationRepository.findInboxPageAfter(user.getId(), after.createdAt(), after.id(), limit);
+        } else {
+            notifications = notificationRepository.findInboxFirstPage(user.getId(), limit);
+        }
+
+        boolean hasNext = notifications.size() > pageSize;
+        List<Notification> page = hasNext ? notifications.subList(0, pageSize) : notifications;
+        String nextCursor = hasNext ? NotificationCursor.of(page.get(page.size() - 1)).encode() : null;
+
+        return new NotificationInboxResponse(
+                page.stream().map(NotificationResponse::fromEntity).toList(),
+                nextCursor);
+    }
+
     @Transactional
     public void markAsRead(Long notificationId, User user) {
         Notification notification = notificationRepository.findById(notificationId)
@@ -40,7 +82,10 @@ public class NotificationService {
             throw new IllegalArgumentException("자신의 알림만 읽음 처리할 수 있습니다.");
         }
 
-        notification.markAsRead();
+        if (notification.markAsRead()) {
+            unreadNotificationCounter.add(user.getId(), -1);
+            publishUnreadCount(user);
+        }
     }
 
     /**
@@ -49,7 +94,9 @@ public class NotificationService {
      */
     @Transactional
     public void markAllAsRead(User user) {
-        notificationRepository.markAllAsReadByUser(user);
+        int updated = notificationRepository.markAllAsReadByUser(user);
+        unreadNotificationCounter.add(user.getId(), -updated);
+        publishUnreadCount(user);
     }
 
     @Transactional
@@ -60,16 +107,52 @@ public class NotificationService {
                 .linkUrl(linkUrl)
                 .build();
         notificationRepository.save(notification);
+        unreadNotificationCounter.add(user.getId(), 1);
+
+        // 접속 중인 사용자에게는 새 알림과 개수를 바로 전달
+        NotificationResponse response = NotificationResponse.fromEntity(notification);
+        TransactionUtil.runAfterCompletion(committed -> {
+            if (committed) {
+                notificationStreamHub.publish(user.getId(), NotificationStreamHub.EVENT_NOTIFICATION, response);
+            }
+        });
+        publishUnreadCount(user);
+    }
+
+    /**
+     * 알림 스트림(SSE)에 접속한다. 첫 이벤트로 현재 읽지 않은 알림 개수를 받는다.
+     */
+    public SseEmitter subscribe(User user) {
+        return notificationStreamHub.connect(user.getId(), unreadNotificationCounter.get(user));
+    }
+
+    /**
+     * 사용자가 알림 스트림에 접속해 있는지 확인한다. (접속 중이면 개수를 스트림으로 받으므로 페이지마다 조회할 필요 없음)
+     */
+    public boolean isStreaming(User user) {
+        return user != null && notificationStreamHub.isConnected(user.getId());
+    }
+
+    /**
+     * 트랜잭션이 커밋되면 접속 중인 사용자에게 읽지 않은 알림 개수를 보낸다.
+     * 개수 캐시 반영(UnreadNotificationCounter.add)보다 나중에 등록되어야 반영된 값을 보낼 수 있다.
+     */
+    private void publishUnreadCount(User user) {
+        TransactionUtil.runAfterCompletion(committed -> {
+            if (committed && notificationStreamHub.isConnected(user.getId())) {
+                notificationStreamHub.publish(user.getId(), NotificationStreamHub.EVENT_UNREAD_COUNT, unreadNotificationCounter.get(user));
+            }
+        });
     }
 
     /**
      * 사용자의 읽지 않은 알림 개수를 조회한다.
+     * 모든 페이지에서 호출되므로 캐시된 개수를 사용하고, 캐시에 없을 때만 DB에서 센다.
      * @param user 현재 사용자
      * @return 읽지 않은 알림 개수
      */
-    @Transactional(readOnly = true)
     public long getUnreadNotificationCount(User user) {
         if (user == null) return 0;
-        return notificationRepository.countByUserAndIsReadFalse(user);
+        return unreadNotificationCounter.get(user);
     }
 }
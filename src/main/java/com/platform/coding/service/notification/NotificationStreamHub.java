@@ -0,0 +1,244 @@
+package com.platform.coding.service.notification;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 접속 중인 사용자에게 알림 이벤트를 SSE로 전달하는 허브.
+ *
+ * SseEmitter 는 서블릿 비동기 요청이므로 대기 중인 연결이 스레드를 점유하지 않는다.
+ * 이벤트는 연결마다 크기가 제한된 큐에 쌓이고, 소수의 전송 스레드가 연결 단위로 하나씩 비워 보낸다.
+ * 큐가 가득 찰 만큼 느린 연결은 끊으며, 클라이언트(EventSource)는 재접속 시 최신 개수를 다시 받는다.
+ * 읽지 않는 클라이언트에 대한 send 는 소켓 쓰기에서 막히므로, write-timeout 을 넘긴 전송은
+ * 전송 스레드를 인터럽트하고 연결을 끊어 한 연결이 공유 전송 스레드를 붙잡고 있지 않게 한다.
+ */
+@Slf4j
+@Component
+public class NotificationStreamHub {
+    public static final String EVENT_NOTIFICATION = "notification";
+    public static final String EVENT_UNREAD_COUNT = "unread-count";
+
+    private final Map<Long, Set<Connection>> connections = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final ExecutorService sender;
+    private final Counter droppedConnections;
+    private final long timeoutMillis;
+    private final int maxPendingEvents;
+    private final long writeTimeoutNanos;
+
+    public NotificationStreamHub(MeterRegistry meterRegistry,
+                                 @Value("${app.notification.stream.timeout-ms:1800000}") long timeoutMillis,
+                                 @Value("${app.notification.stream.max-pending-events:32}") int maxPendingEvents,
+                                 @Value("${app.notification.stream.sender-threads:4}") int senderThreads,
+                                 @Value("${app.notification.stream.write-timeout-ms:5000}") long writeTimeoutMillis) {
+        this.timeoutMillis = timeoutMillis;
+        this.maxPendingEvents = maxPendingEvents;
+        this.writeTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(writeTimeoutMillis);
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.sender = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "notification-stream-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        Gauge.builder("notification.stream.connections", connectionCount, AtomicInteger::get)
+                .description("알림 SSE 에 접속 중인 연결 수")
+                .register(meterRegistry);
+        this.droppedConnections = Counter.builder("notification.stream.dropped")
+                .description("전송 대기 이벤트가 가득 차거나 전송이 제한 시간을 넘겨 끊어진 느린 연결 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 새 연결을 등록하고, 현재 읽지 않은 알림 개수를 첫 이벤트로 보낸다.
+     */
+    public SseEmitter connect(Long userId, long unreadCount) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Connection connection = new Connection(userId, emitter);
+        emitter.onCompletion(() -> remove(connection));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> remove(connection));
+
+        connections.computeIfAbsent(userId, id -> ConcurrentHashMap.newKeySet()).add(connection);
+        connectionCount.incrementAndGet();
+        connection.enqueue(event(EVENT_UNREAD_COUNT, unreadCount));
+        return emitter;
+    }
+
+    public boolean isConnected(Long userId) {
+        Set<Connection> userConnections = connections.get(userId);
+        return userConnections != null && !userConnections.isEmpty();
+    }
+
+    /**
+     * 사용자의 모든 연결에 이벤트를 보낸다. 접속 중이 아니면 아무것도 하지 않는다.
+     */
+    public void publish(Long userId, String eventName, Object data) {
+        Set<Connection> userConnections = connections.get(userId);
+        if (userConnections == null) {
+            return;
+        }
+        userConnections.forEach(connection -> connection.enqueue(event(eventName, data)));
+    }
+
+    /**
+     * 프록시/로드밸런서가 유휴 연결을 끊지 않도록 주기적으로 주석 이벤트를 보낸다.
+     * 끊어진 연결은 이 전송이 실패하면서 정리된다.
+     */
+    @Scheduled(fixedDelayString = "${app.notification.stream.heartbeat-ms:15000}")
+    public void heartbeat() {
+        connections.values().forEach(userConnections ->
+                userConnections.forEach(connection -> connection.enqueue(SseEmitter.event().comment("heartbeat"))));
+    }
+
+    /**
+     * 한 이벤트를 write-timeout 넘게 보내고 있는 연결을 끊는다.
+     * 전송 스레드를 인터럽트하면 막혀 있던 소켓 쓰기가 예외로 끝나고, 그 스레드는 다른 연결의 전송으로 돌아간다.
+     */
+    @Scheduled(fixedDelayString = "${app.notification.stream.write-check-ms:1000}")
+    public void dropStalledConnections() {
+        long now = System.nanoTime();
+        connections.values().forEach(userConnections ->
+                userConnections.forEach(connection -> connection.abortIfStalled(now)));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        connections.values().forEach(userConnections -> userConnections.forEach(connection -> connection.emitter.complete()));
+        sender.shutdown();
+    }
+
+    private SseEventBuilder event(String eventName, Object data) {
+        return SseEmitter.event().name(eventName).data(data, MediaType.APPLICATION_JSON);
+    }
+
+    private void remove(Connection connection) {
+        if (!connection.closed.compareAndSet(false, true)) {
+            return;
+        }
+        connectionCount.decrementAndGet();
+        connections.computeIfPresent(connection.userId, (id, userConnections) -> {
+            userConnections.remove(connection);
+            return userConnections.isEmpty() ? null : userConnections;
+        });
+    }
+
+    private final class Connection {
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEventBuilder> pending;
+        // 한 연결에 대해 동시에 하나의 전송 작업만 돌도록 보장 (이벤트 순서 유지)
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        // 현재 send 중인 전송 스레드와 그 send 를 시작한 시각. 둘 다 이 객체의 락 안에서 바꿈
+        private Thread sendingThread;
+        private long sendStartedNanos;
+        // 느린 연결로 판단되어 전송 스레드에서 닫아야 하는 연결
+        // (emitter 는 send 중에 락을 잡으므로, 이벤트를 넣는 스레드나 감시 스레드가 직접 닫으면 그 send 가 끝날 때까지 막힘)
+        private final AtomicBoolean closeRequested = new AtomicBoolean();
+
+        private Connection(Long userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.pending = new ArrayBlockingQueue<>(maxPendingEvents);
+        }
+
+        private void enqueue(SseEventBuilder event) {
+            if (closed.get()) {
+                return;
+            }
+            if (!pending.offer(event)) {
+                // 소비가 따라오지 못하는 느린 연결은 끊음
+                log.debug("Dropping slow notification stream for user {}", userId);
+                drop();
+                return;
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    sender.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    // 종료 중
+                    draining.set(false);
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                SseEventBuilder event;
+                while (!closed.get() && (event = pending.poll()) != null) {
+                    send(event);
+                }
+                if (closeRequested.compareAndSet(true, false)) {
+                    emitter.complete();
+                }
+            } catch (Exception e) {
+                // 클라이언트가 연결을 끊었거나, 제한 시간을 넘긴 send 가 인터럽트된 경우 등
+                remove(this);
+                closeRequested.set(false);
+                emitter.completeWithError(e);
+            } finally {
+                draining.set(false);
+            }
+            // 비우는 사이에 새로 들어온 이벤트나 닫기 요청이 있으면 이어서 처리
+            if (closed.get() ? closeRequested.get() : !pending.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        private void send(SseEventBuilder event) throws Exception {
+            synchronized (this) {
+                sendingThread = Thread.currentThread();
+                sendStartedNanos = System.nanoTime();
+            }
+            try {
+                emitter.send(event);
+            } finally {
+                synchronized (this) {
+                    sendingThread = null;
+                    // send 가 끝난 직후 들어온 인터럽트가 이 스레드의 다음 작업에 남지 않도록 지움
+                    Thread.interrupted();
+                }
+            }
+        }
+
+        private synchronized void abortIfStalled(long now) {
+            if (sendingThread == null || now - sendStartedNanos < writeTimeoutNanos) {
+                return;
+            }
+            log.debug("Dropping stalled notification stream for user {}", userId);
+            sendingThread.interrupt();
+            sendingThread = null;
+            drop();
+        }
+
+        // 연결을 목록에서 빼고, 전송 스레드에서 닫도록 요청함
+        private void drop() {
+            if (closed.get()) {
+                return;
+            }
+            droppedConnections.increment();
+            remove(this);
+            closeRequested.set(true);
+            scheduleDrain();
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.platform.coding.service.notification;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.platform.coding.domain.notification.NotificationRepository;
+import com.platform.coding.domain.user.User;
+import com.platform.coding.util.TransactionUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 읽지 않은 알림 개수 캐시 (사용자 ID -> 개수).
+ * 처음 조회할 때 DB에서 개수를 세어 채우고, 이후에는 알림 생성/읽음 처리가 커밋될 때마다 증감만 반영한다.
+ *
+ * 개수를 세는 동안 커밋된 변경이 두 번 반영되지 않도록,
+ * 그 사용자에게 진행 중인 변경이 있거나 세는 도중 새 변경이 시작되었다면 센 값을 캐시에 남기지 않는다.
+ * 다른 사용자의 변경은 영향을 주지 않는다.
+ */
+@Component
+public class UnreadNotificationCounter {
+    private final NotificationRepository notificationRepository;
+    private final Cache<Long, Long> counts;
+    // 사용자별 변경 기록. 개수를 세는 중이거나 끝나지 않은 변경이 있는 동안만 남아 있음
+    private final ConcurrentHashMap<Long, ChangeStamp> stamps = new ConcurrentHashMap<>();
+
+    public UnreadNotificationCounter(NotificationRepository notificationRepository,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${app.notification.unread-cache.max-size:10000}") long maxSize,
+                                     @Value("${app.notification.unread-cache.ttl-minutes:30}") long ttlMinutes) {
+        this.notificationRepository = notificationRepository;
+        this.counts = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, counts, "notification.unread");
+    }
+
+    /**
+     * 사용자의 읽지 않은 알림 개수를 반환한다. 캐시에 없으면 DB에서 센다.
+     */
+    public long get(User user) {
+        long[] loaded = new long[1];
+        Long cached = counts.get(user.getId(), userId -> {
+            long sequence = beginLoad(userId);
+            try {
+                loaded[0] = notificationRepository.countByUserAndIsReadFalse(user);
+            } catch (RuntimeException e) {
+                endLoad(userId, sequence);
+                throw e;
+            }
+            // 세는 도중 변경이 있었다면 이번 요청에만 사용하고 캐시에는 남기지 않음
+            return endLoad(userId, sequence) ? loaded[0] : null;
+        });
+        return cached != null ? cached : loaded[0];
+    }
+
+    /**
+     * 현재 트랜잭션에서 사용자의 읽지 않은 알림 개수가 delta 만큼 바뀌었음을 기록한다.
+     * 커밋된 경우에만 캐시된 개수에 반영한다.
+     */
+    public void add(Long userId, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        stamps.compute(userId, (id, stamp) -> {
+            ChangeStamp current = stamp != null ? stamp : new ChangeStamp();
+            current.pending++;
+            current.sequence++;
+            return current;
+        });
+        TransactionUtil.runAfterCompletion(committed -> {
+            try {
+                if (committed) {
+                    counts.asMap().computeIfPresent(userId, (id, count) -> Math.max(0, count + delta));
+                }
+            } finally {
+                stamps.computeIfPresent(userId, (id, stamp) -> {
+                    stamp.pending--;
+                    return stamp.isIdle() ? null : stamp;
+                });
+            }
+        });
+    }
+
+    // 개수를 세기 시작할 때의 변경 순번을 반환하고, 세는 동안 기록이 지워지지 않게 함
+    private long beginLoad(Long userId) {
+        long[] sequence = new long[1];
+        stamps.compute(userId, (id, stamp) -> {
+            ChangeStamp current = stamp != null ? stamp : new ChangeStamp();
+            current.loaders++;
+            sequence[0] = current.sequence;
+            return current;
+        });
+        return sequence[0];
+    }
+
+    // 세는 동안 진행 중인 변경도, 새로 시작된 변경도 없었으면 true
+    private boolean endLoad(Long userId, long sequence) {
+        boolean[] stable = new boolean[1];
+        stamps.computeIfPresent(userId, (id, stamp) -> {
+            stable[0] = stamp.pending == 0 && stamp.sequence == sequence;
+            stamp.loaders--;
+            return stamp.isIdle() ? null : stamp;
+        });
+        return stable[0];
+    }
+
+    /**
+     * 한 사용자의 변경 기록. ConcurrentHashMap.compute 안에서만 읽고 바꾼다.
+     */
+    private static class ChangeStamp {
+        // 아직 끝나지 않은(커밋/롤백 전) 변경 수
+        private int pending;
+        // 지금까지 시작된 변경의 순번
+        private long sequence;
+        // 개수를 세는 중인 요청 수
+        private int loaders;
+
+        private boolean isIdle() {
+            return pending == 0 && loaders == 0;
+        }
+    }
+}
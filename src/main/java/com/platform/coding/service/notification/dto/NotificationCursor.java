@@ -0,0 +1,39 @@
+package com.platform.coding.service.notification.dto;
+
+import com.platform.coding.domain.notification.Notification;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * 알림함 키셋 페이지네이션의 위치 (마지막으로 본 알림의 생성 시각과 ID).
+ * 클라이언트에는 내부 구조를 알 수 없는 문자열 토큰으로만 전달된다.
+ */
+public record NotificationCursor(Instant createdAt, Long id) {
+
+    public static NotificationCursor of(Notification notification) {
+        return new NotificationCursor(notification.getCreatedAt(), notification.getId());
+    }
+
+    public String encode() {
+        String raw = createdAt.getEpochSecond() + ":" + createdAt.getNano() + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static NotificationCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":");
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+            }
+            Instant createdAt = Instant.ofEpochSecond(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+            return new NotificationCursor(createdAt, Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException | DateTimeException e) {
+            // NumberFormatException 도 IllegalArgumentException 에 포함됨
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+    }
+}
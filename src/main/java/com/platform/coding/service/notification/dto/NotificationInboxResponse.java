@@ -0,0 +1,17 @@
+package com.platform.coding.service.notification.dto;
+
+import java.util.List;
+
+/**
+ * 알림함 커서 조회 결과. 전체 개수 없이 다음 페이지를 위한 커서만 반환한다.
+ * @param notifications 최신순 알림 목록
+ * @param nextCursor 다음(더 오래된) 페이지를 조회할 커서, 마지막 페이지이면 null
+ */
+public record NotificationInboxResponse(
+        List<NotificationResponse> notifications,
+        String nextCursor
+) {
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
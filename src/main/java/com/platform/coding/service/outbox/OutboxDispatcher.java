@@ -0,0 +1,236 @@
+package com.platform.coding.service.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.platform.coding.domain.outbox.OutboxEventType;
+import com.platform.coding.domain.outbox.OutboxJdbcRepository;
+import com.platform.coding.domain.outbox.OutboxMessage;
+import com.platform.coding.service.scheduler.ClusterJobRunner;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 아웃박스 이벤트를 백그라운드에서 처리하는 디스패처.
+ *
+ * 크기가 고정된 작업자 풀의 각 작업자가 이벤트를 묶음 단위로 선점하여, 종류별로 한 트랜잭션 안에서 핸들러를 호출하고 처리 완료를 기록한다.
+ * 묶음 처리가 실패하면 이벤트를 하나씩 다시 처리하여 실패한 이벤트만 지수 백오프로 재시도하고,
+ * 최대 시도 횟수를 넘긴 이벤트는 FAILED 로 남긴다. 처리 도중 서버가 죽으면 임대가 만료된 뒤 다시 처리된다. (최소 한 번 전달)
+ * 임대가 만료되어 다른 작업자가 다시 선점한 이벤트가 묶음에 있으면, 처리 완료 기록이 모자라므로 묶음 전체를 롤백한다.
+ * 이벤트가 기록된 트랜잭션이 커밋되면 바로 깨어나며, 놓친 이벤트는 주기적인 조회로 처리한다.
+ */
+@Slf4j
+@Component
+public class OutboxDispatcher {
+    private static final int MAX_ERROR_LENGTH = 1000;
+    private static final int PURGE_CHUNK_SIZE = 1000;
+
+    private final OutboxJdbcRepository outboxJdbcRepository;
+    private final ClusterJobRunner clusterJobRunner;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<OutboxEventType, OutboxEventHandler<?>> handlers;
+    private final ThreadPoolExecutor workers;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration lease;
+    private final Duration retryBaseDelay;
+    private final Duration retentionPeriod;
+    private final Counter processedEvents;
+    private final Counter retriedEvents;
+    private final Counter failedEvents;
+
+    public OutboxDispatcher(List<OutboxEventHandler<?>> handlers,
+                            OutboxJdbcRepository outboxJdbcRepository,
+                            ClusterJobRunner clusterJobRunner,
+                            ObjectMapper objectMapper,
+                            PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry,
+                            @Value("${app.outbox.batch-size:100}") int batchSize,
+                            @Value("${app.outbox.worker-threads:4}") int workerThreads,
+                            @Value("${app.outbox.max-attempts:10}") int maxAttempts,
+                            @Value("${app.outbox.lease-seconds:60}") long leaseSeconds,
+                            @Value("${app.outbox.retry-base-delay-ms:1000}") long retryBaseDelayMillis,
+                            @Value("${app.outbox.retention-days:7}") long retentionDays) {
+        this.outboxJdbcRepository = outboxJdbcRepository;
+        this.clusterJobRunner = clusterJobRunner;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.handlers = handlers.stream()
+                .collect(Collectors.toMap(OutboxEventHandler::getEventType, Function.identity(),
+                        (a, b) -> {
+                            throw new IllegalStateException("아웃박스 이벤트 핸들러가 중복되었습니다: " + a.getEventType());
+                        },
+                        () -> new EnumMap<>(OutboxEventType.class)));
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.lease = Duration.ofSeconds(leaseSeconds);
+        this.retryBaseDelay = Duration.ofMillis(retryBaseDelayMillis);
+        this.retentionPeriod = Duration.ofDays(retentionDays);
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        // 작업자 수만큼만 대기시키고 나머지 요청은 버림 (대기 중인 작업자가 남은 이벤트를 모두 처리하므로)
+        this.workers = new ThreadPoolExecutor(workerThreads, workerThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(workerThreads),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "outbox-dispatcher-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.DiscardPolicy());
+
+        this.processedEvents = Counter.builder("outbox.events.processed")
+                .description("처리 완료된 아웃박스 이벤트 수")
+                .register(meterRegistry);
+        this.retriedEvents = Counter.builder("outbox.events.retried")
+                .description("처리에 실패하여 재시도가 예약된 아웃박스 이벤트 수")
+                .register(meterRegistry);
+        this.failedEvents = Counter.builder("outbox.events.failed")
+                .description("최대 시도 횟수를 넘겨 처리를 포기한 아웃박스 이벤트 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 작업자에게 대기 중인 이벤트 처리를 요청한다. 모든 작업자가 이미 바쁘면 아무것도 하지 않는다.
+     */
+    public void requestDispatch() {
+        workers.execute(this::drain);
+    }
+
+    /**
+     * 커밋 직후의 알림을 놓친 이벤트(다른 서버에서 기록, 재시도 예약, 임대 만료)를 주기적으로 처리한다.
+     */
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval-ms:5000}")
+    public void poll() {
+        requestDispatch();
+    }
+
+    /**
+     * 이벤트를 한 묶음 선점하여 처리한다.
+     * @return 선점한 이벤트 수 (0이면 처리할 이벤트가 없음)
+     */
+    public int dispatchBatch() {
+        List<OutboxMessage> messages = outboxJdbcRepository.claim(batchSize, Instant.now().plus(lease));
+        if (messages.isEmpty()) {
+            return 0;
+        }
+        messages.stream()
+                .collect(Collectors.groupingBy(OutboxMessage::eventType, () -> new EnumMap<>(OutboxEventType.class), Collectors.toList()))
+                .forEach(this::handle);
+        return messages.size();
+    }
+
+    /**
+     * 보관 기간이 지난 처리 완료 이벤트를 조금씩 나눠 삭제한다. (여러 서버 중 한 곳에서만 실행)
+     */
+    @Scheduled(cron = "0 30 3 * * *")
+    public void purgeProcessed() {
+        clusterJobRunner.run("outbox-purge", execution -> {
+            Instant before = Instant.now().minus(retentionPeriod);
+            int deleted;
+            long total = 0;
+            do {
+                deleted = outboxJdbcRepository.deleteProcessedBefore(before, PURGE_CHUNK_SIZE);
+                total += deleted;
+                execution.extendLease();
+            } while (deleted == PURGE_CHUNK_SIZE);
+            log.info("처리 완료된 아웃박스 이벤트 {}건을 삭제했습니다.", total);
+            return total;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        workers.shutdown();
+        workers.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    private void drain() {
+        try {
+            // 묶음이 가득 차 있으면 남은 이벤트가 더 있을 수 있으므로 다른 작업자도 깨워 함께 처리
+            while (dispatchBatch() == batchSize) {
+                requestDispatch();
+            }
+        } catch (Exception e) {
+            log.error("Failed to dispatch outbox events", e);
+        }
+    }
+
+    private void handle(OutboxEventType eventType, List<OutboxMessage> messages) {
+        OutboxEventHandler<?> handler = handlers.get(eventType);
+        if (handler == null) {
+            messages.forEach(message -> retryLater(message, "이벤트 핸들러가 없습니다: " + eventType));
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                invoke(handler, messages);
+                if (outboxJdbcRepository.markProcessed(messages) < messages.size()) {
+                    // 처리하는 사이 임대가 만료되어 다른 작업자가 가져간 이벤트가 있음 (핸들러의 변경도 함께 롤백)
+                    throw new IllegalStateException("임대가 만료되어 다른 작업자가 처리 중인 아웃박스 이벤트가 있습니다.");
+                }
+            });
+            processedEvents.increment(messages.size());
+        } catch (Exception e) {
+            if (messages.size() > 1) {
+                // 묶음 중 어떤 이벤트가 실패했는지 알 수 없으므로 하나씩 다시 처리하여 실패한 이벤트만 재시도
+                log.debug("Outbox batch of {} {} events failed, retrying one by one", messages.size(), eventType, e);
+                messages.forEach(message -> handle(eventType, List.of(message)));
+            } else {
+                retryLater(messages.get(0), e.toString());
+            }
+        }
+    }
+
+    private <T> void invoke(OutboxEventHandler<T> handler, List<OutboxMessage> messages) {
+        List<T> payloads = new ArrayList<>(messages.size());
+        for (OutboxMessage message : messages) {
+            try {
+                payloads.add(objectMapper.readValue(message.payload(), handler.getPayloadType()));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("아웃박스 이벤트를 읽을 수 없습니다: " + message.id(), e);
+            }
+        }
+        handler.handle(payloads);
+    }
+
+    private void retryLater(OutboxMessage message, String error) {
+        String truncatedError = error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        if (message.attempts() >= maxAttempts) {
+            if (!outboxJdbcRepository.markFailed(message, truncatedError)) {
+                log.debug("Outbox event {} was claimed by another worker", message.id());
+                return;
+            }
+            log.error("Giving up outbox event {} ({}) after {} attempts: {}", message.id(), message.eventType(), message.attempts(), error);
+            failedEvents.increment();
+            return;
+        }
+        // 1, 2, 4, 8 ... 배로 늘어나는 대기 시간 (최대 1시간)
+        Duration delay = retryBaseDelay.multipliedBy(1L << Math.min(message.attempts() - 1, 12));
+        if (delay.compareTo(Duration.ofHours(1)) > 0) {
+            delay = Duration.ofHours(1);
+        }
+        if (!outboxJdbcRepository.reschedule(message, Instant.now().plus(delay), truncatedError)) {
+            log.debug("Outbox event {} was claimed by another worker", message.id());
+            return;
+        }
+        log.warn("Outbox event {} ({}) failed on attempt {}, retrying in {}: {}", message.id(), message.eventType(), message.attempts(), delay, error);
+        retriedEvents.increment();
+    }
+}
@@ -0,0 +1,20 @@
+package com.platform.coding.service.outbox;
+
+import com.platform.coding.domain.outbox.OutboxEventType;
+
+import java.util.List;
+
+/**
+ * 한 종류의 아웃박스 이벤트를 처리하는 핸들러.
+ * 같은 종류의 이벤트는 묶음으로 전달되며, 하나의 트랜잭션 안에서 호출된다.
+ * 이벤트는 최소 한 번 이상 전달되므로(재시도, 임대 만료 후 재처리) 처리 결과는 멱등해야 한다.
+ *
+ * @param <T> JSON 으로 저장된 이벤트 내용의 타입
+ */
+public interface OutboxEventHandler<T> {
+    OutboxEventType getEventType();
+
+    Class<T> getPayloadType();
+
+    void handle(List<T> payloads);
+}
@@ -0,0 +1,37 @@
+package com.platform.coding.service.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.platform.coding.domain.outbox.OutboxEvent;
+import com.platform.coding.domain.outbox.OutboxEventRepository;
+import com.platform.coding.domain.outbox.OutboxEventType;
+import com.platform.coding.util.TransactionUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 업무 트랜잭션 안에서 아웃박스 이벤트를 기록한다.
+ * 기록된 이벤트는 트랜잭션이 커밋된 뒤 OutboxDispatcher 가 처리하므로, 후속 작업이 늘어나도 업무 트랜잭션은 길어지지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxWriter {
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final OutboxDispatcher outboxDispatcher;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(OutboxEventType eventType, Object payload) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("아웃박스 이벤트를 직렬화할 수 없습니다: " + eventType, e);
+        }
+        outboxEventRepository.save(new OutboxEvent(eventType, json));
+        // 주기적인 조회를 기다리지 않고 커밋 직후 바로 처리를 시작
+        TransactionUtil.runAfterCommit(outboxDispatcher::requestDispatch);
+    }
+}
@@ -0,0 +1,80 @@
+package com.platform.coding.service.payment;
+
+import com.platform.coding.domain.enrollment.EnrollmentJdbcRepository;
+import com.platform.coding.domain.enrollment.StudentCourseId;
+import com.platform.coding.domain.outbox.OutboxEventType;
+import com.platform.coding.domain.stats.DailyStatsJdbcRepository;
+import com.platform.coding.domain.user.User;
+import com.platform.coding.domain.user.UserRepository;
+import com.platform.coding.domain.user.UserType;
+import com.platform.coding.service.course.EntitlementCache;
+import com.platform.coding.service.course.PopularCourseTracker;
+import com.platform.coding.service.outbox.OutboxEventHandler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 결제 완료 후의 수강 등록을 일괄 처리한다.
+ * 묶음 안의 학생을 한 번에 조회하고 수강 정보는 INSERT ... ON CONFLICT 한 문장으로 등록하며,
+ * 이미 수강 중인 강의는 건너뛰므로 같은 이벤트가 다시 전달되거나 동시에 처리되어도 안전하다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EnrollmentOutboxHandler implements OutboxEventHandler<EnrollmentRequestedEvent> {
+    private final UserRepository userRepository;
+    private final EnrollmentJdbcRepository enrollmentJdbcRepository;
+    private final EntitlementCache entitlementCache;
+    private final PopularCourseTracker popularCourseTracker;
+    private final DailyStatsJdbcRepository dailyStatsJdbcRepository;
+
+    @Override
+    public OutboxEventType getEventType() {
+        return OutboxEventType.ENROLLMENT_REQUESTED;
+    }
+
+    @Override
+    public Class<EnrollmentRequestedEvent> getPayloadType() {
+        return EnrollmentRequestedEvent.class;
+    }
+
+    @Override
+    public void handle(List<EnrollmentRequestedEvent> events) {
+        Set<Long> studentIds = events.stream().map(EnrollmentRequestedEvent::studentId).collect(Collectors.toSet());
+        Map<Long, User> students = userRepository.findAllById(studentIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        // 묶음 안의 중복 요청은 여기서, 이미 수강 중인 쌍은 INSERT ... ON CONFLICT 에서 걸러냄
+        Set<StudentCourseId> requested = new LinkedHashSet<>();
+        for (EnrollmentRequestedEvent event : events) {
+            User student = students.get(event.studentId());
+            if (student == null) {
+                throw new IllegalArgumentException("존재하지 않는 학생 ID입니다: " + event.studentId());
+            }
+            if (student.getUserType() != UserType.STUDENT) {
+                throw new IllegalArgumentException("수강 신청은 학생 계정으로만 가능합니다.");
+            }
+            event.courseIds().forEach(courseId -> requested.add(new StudentCourseId(student.getId(), courseId)));
+        }
+
+        Instant enrolledAt = Instant.now();
+        List<StudentCourseId> enrolled = enrollmentJdbcRepository.insertIfAbsent(requested, enrolledAt);
+        if (enrolled.size() < requested.size()) {
+            log.info("Skipped {} already enrolled (student, course) pairs", requested.size() - enrolled.size());
+        }
+        if (enrolled.isEmpty()) {
+            return;
+        }
+
+        // 새 수강 정보가 바로 권한 검사에 반영되도록 캐시 무효화, 인기 강좌 순위와 대시보드 일별 집계 반영
+        enrolled.forEach(pair -> popularCourseTracker.enrolled(pair.courseId(), enrolledAt));
+        enrolled.stream().map(StudentCourseId::studentId).distinct().forEach(entitlementCache::invalidate);
+        dailyStatsJdbcRepository.addEnrollments(enrolledAt, enrolled.size());
+    }
+}
@@ -0,0 +1,13 @@
+package com.platform.coding.service.payment;
+
+import java.util.List;
+
+/**
+ * 결제가 완료되어 학생의 수강 등록이 필요함을 나타내는 아웃박스 이벤트 내용
+ */
+public record EnrollmentRequestedEvent(
+        Long paymentId,
+        Long studentId,
+        List<Long> courseIds
+) {
+}
@@ -0,0 +1,229 @@
+package com.platform.coding.service.payment;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.platform.coding.domain.payment.PaymentIdempotencyJdbcRepository;
+import com.platform.coding.domain.payment.PaymentIdempotencyRecord;
+import com.platform.coding.domain.payment.PaymentIdempotencyStatus;
+import com.platform.coding.domain.user.User;
+import com.platform.coding.service.payment.dto.PaymentRequest;
+import com.platform.coding.service.scheduler.ClusterJobRunner;
+import com.platform.coding.util.TransactionUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.*;
+
+/**
+ * Idempotency-Key 헤더가 붙은 결제 요청을 한 번만 처리한다.
+ *
+ * 완료된 결제는 메모리 캐시와 payment_idempotency_keys 테이블에 남겨, 같은 키의 재요청에는 결제를 다시 하지 않고 저장된 결제 ID를 돌려준다.
+ * 같은 서버에 동시에 들어온 중복 요청은 먼저 들어온 요청의 처리 결과를 기다리고,
+ * 다른 서버의 중복 요청은 키의 유일 제약으로 막힌 뒤 완료될 때까지 테이블을 확인하며 기다린다.
+ * 결제와 키의 완료 기록은 같은 트랜잭션에서 커밋되며, 결제가 실패하면 키를 풀어 다시 시도할 수 있게 한다.
+ * 완료 기록과 선점 해제는 선점할 때의 임대 만료 시각과 일치할 때만 반영되므로,
+ * 임대가 만료되어 다른 요청이 넘겨받은 뒤에는 먼저 시작한 결제가 롤백된다.
+ */
+@Slf4j
+@Service
+public class PaymentIdempotencyService {
+    private static final int MAX_KEY_LENGTH = 100;
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(100);
+
+    private final PaymentService paymentService;
+    private final PaymentIdempotencyJdbcRepository idempotencyRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ClusterJobRunner clusterJobRunner;
+    // 완료된 결제 결과 (사용자 ID:키 -> 결과)
+    private final Cache<String, CompletedPayment> completed;
+    // 이 서버에서 처리 중인 결제 (사용자 ID:키 -> 처리 결과)
+    private final ConcurrentMap<String, CompletableFuture<CompletedPayment>> inFlight = new ConcurrentHashMap<>();
+    private final Duration lease;
+    private final Duration waitTimeout;
+    private final Duration retention;
+
+    public PaymentIdempotencyService(PaymentService paymentService,
+                                     PaymentIdempotencyJdbcRepository idempotencyRepository,
+                                     PlatformTransactionManager transactionManager,
+                                     ClusterJobRunner clusterJobRunner,
+                                     @Value("${app.payment.idempotency.cache-max-size:10000}") long cacheMaxSize,
+                                     @Value("${app.payment.idempotency.cache-ttl-minutes:10}") long cacheTtlMinutes,
+                                     @Value("${app.payment.idempotency.lease-seconds:30}") long leaseSeconds,
+                                     @Value("${app.payment.idempotency.wait-timeout-ms:10000}") long waitTimeoutMillis,
+                                     @Value("${app.payment.idempotency.retention-hours:24}") long retentionHours) {
+        this.paymentService = paymentService;
+        this.idempotencyRepository = idempotencyRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.clusterJobRunner = clusterJobRunner;
+        this.completed = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(Duration.ofMinutes(cacheTtlMinutes))
+                .build();
+        this.lease = Duration.ofSeconds(leaseSeconds);
+        this.waitTimeout = Duration.ofMillis(waitTimeoutMillis);
+        this.retention = Duration.ofHours(retentionHours);
+    }
+
+    /**
+     * 멱등 키 단위로 결제를 한 번만 처리하고, 결제 ID를 반환한다.
+     */
+    public Long processPayment(String idempotencyKey, PaymentRequest request, User parent) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("멱등 키는 1자 이상 " + MAX_KEY_LENGTH + "자 이하여야 합니다.");
+        }
+        String requestHash = hash(request);
+        String cacheKey = parent.getId() + ":" + idempotencyKey;
+
+        CompletedPayment cached = completed.getIfPresent(cacheKey);
+        if (cached != null) {
+            return cached.replay(requestHash);
+        }
+
+        CompletableFuture<CompletedPayment> execution = new CompletableFuture<>();
+        CompletableFuture<CompletedPayment> running = inFlight.putIfAbsent(cacheKey, execution);
+        if (running != null) {
+            // 같은 서버에서 먼저 들어온 요청의 결과를 기다림
+            return await(running).replay(requestHash);
+        }
+        try {
+            CompletedPayment result = executeOnce(cacheKey, idempotencyKey, request, requestHash, parent);
+            execution.complete(result);
+            return result.replay(requestHash);
+        } catch (RuntimeException e) {
+            execution.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(cacheKey, execution);
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 멱등 키를 삭제한다. (여러 서버 중 한 곳에서만 실행)
+     */
+    @Scheduled(cron = "0 0 * * * *")
+    public void purgeExpiredKeys() {
+        clusterJobRunner.run("payment-idempotency-key-purge", execution -> {
+            int deleted = idempotencyRepository.deleteCreatedBefore(Instant.now().minus(retention));
+            log.info("보관 기간이 지난 결제 멱등 키 {}건을 삭제했습니다.", deleted);
+            return deleted;
+        });
+    }
+
+    private CompletedPayment executeOnce(String cacheKey, String idempotencyKey, PaymentRequest request,
+                                         String requestHash, User parent) {
+        Instant deadline = Instant.now().plus(waitTimeout);
+        while (true) {
+            // 임대 만료 시각은 선점의 식별자로도 쓰이므로 DB 에 저장되는 정밀도(마이크로초)로 맞춤
+            Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+            Instant lockedUntil = now.plus(lease);
+            Optional<Long> reservation = transactionTemplate.execute(status ->
+                    idempotencyRepository.reserve(parent.getId(), idempotencyKey, requestHash, lockedUntil, now));
+            if (reservation.isPresent()) {
+                return execute(reservation.get(), lockedUntil, cacheKey, request, requestHash, parent);
+            }
+
+            Optional<PaymentIdempotencyRecord> existing = idempotencyRepository.find(parent.getId(), idempotencyKey);
+            if (existing.isPresent() && !existing.get().requestHash().equals(requestHash)) {
+                // 처리 중이거나 임대가 만료된 키라도 다른 내용의 요청은 넘겨받지 않음
+                throw new IllegalArgumentException("같은 멱등 키로 다른 결제를 요청할 수 없습니다.");
+            }
+            if (existing.isPresent() && existing.get().status() == PaymentIdempotencyStatus.COMPLETED) {
+                CompletedPayment result = new CompletedPayment(existing.get().requestHash(), existing.get().paymentId());
+                completed.put(cacheKey, result);
+                return result;
+            }
+            // 다른 서버에서 처리 중 (또는 실패하여 방금 풀린 키) -> 잠시 뒤 다시 확인
+            if (now.isAfter(deadline)) {
+                throw new IllegalStateException("같은 결제 요청이 아직 처리 중입니다. 잠시 후 다시 시도해 주세요.");
+            }
+            sleep(POLL_INTERVAL);
+        }
+    }
+
+    private CompletedPayment execute(Long reservationId, Instant lockedUntil, String cacheKey, PaymentRequest request,
+                                     String requestHash, User parent) {
+        try {
+            // 결제와 키의 완료 기록을 같은 트랜잭션에서 커밋
+            CompletedPayment result = transactionTemplate.execute(status -> {
+                Long paymentId = paymentService.processPayment(request, parent);
+                if (!idempotencyRepository.complete(reservationId, lockedUntil, paymentId)) {
+                    // 결제가 임대 시간보다 오래 걸려 다른 요청이 키를 넘겨받음 -> 이 결제는 롤백하여 중복 결제를 막음
+                    throw new IllegalStateException("결제 처리 시간이 초과되었습니다. 잠시 후 같은 멱등 키로 다시 시도해 주세요.");
+                }
+                CompletedPayment payment = new CompletedPayment(requestHash, paymentId);
+                TransactionUtil.runAfterCommit(() -> completed.put(cacheKey, payment));
+                return payment;
+            });
+            return Objects.requireNonNull(result);
+        } catch (RuntimeException e) {
+            transactionTemplate.executeWithoutResult(status -> idempotencyRepository.release(reservationId, lockedUntil));
+            throw e;
+        }
+    }
+
+    private CompletedPayment await(CompletableFuture<CompletedPayment> running) {
+        try {
+            return running.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("같은 결제 요청이 아직 처리 중입니다. 잠시 후 다시 시도해 주세요.");
+        } catch (ExecutionException e) {
+            // 먼저 들어온 요청과 같은 결과(실패)를 돌려줌
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("결제 처리 중 오류가 발생했습니다.", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("결제 결과를 기다리는 중 중단되었습니다.", e);
+        }
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("결제 결과를 기다리는 중 중단되었습니다.", e);
+        }
+    }
+
+    private static String hash(PaymentRequest request) {
+        String content = String.join("|",
+                String.valueOf(request.orderId()),
+                String.valueOf(request.paymentMethod()),
+                String.valueOf(request.studentId()),
+                String.valueOf(request.pointId()),
+                String.valueOf(request.couponId()));
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record CompletedPayment(String requestHash, Long paymentId) {
+        /**
+         * 저장된 결과를 돌려준다. 같은 키로 다른 내용의 결제를 요청했다면 거부한다.
+         */
+        private Long replay(String requestHash) {
+            if (!this.requestHash.equals(requestHash)) {
+                throw new IllegalArgumentException("같은 멱등 키로 다른 결제를 요청할 수 없습니다.");
+            }
+            return paymentId;
+        }
+    }
+}
@@ -1,10 +1,12 @@
 package com.platform.coding.service.payment;
 
-import com.platform.coding.domain.enrollment.Enrollment;
-import com.platform.coding.domain.enrollment.EnrollmentRepository;
+import com.platform.coding.domain.outbox.OutboxEventType;
 import com.platform.coding.domain.payment.*;
+import com.platform.coding.domain.stats.DailyStatsJdbcRepository;
 import com.platform.coding.domain.user.User;
 import com.platform.coding.domain.user.UserRepository;
+import com.platform.coding.service.notification.NotificationRequestedEvent;
+import com.platform.coding.service.outbox.OutboxWriter;
 import com.platform.coding.service.payment.dto.PaymentRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -13,6 +15,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.List;
 
 @Slf4j
 @Service
@@ -21,8 +24,9 @@ public class PaymentService {
     private final OrderRepository orderRepository;
     private final PaymentRepository paymentRepository;
     private final RewardRepository rewardRepository;
-    private final EnrollmentRepository enrollmentRepository;
     private final UserRepository userRepository;
+    private final DailyStatsJdbcRepository dailyStatsJdbcRepository;
+    private final OutboxWriter outboxWriter;
 
     @Transactional
     public Long processPayment(PaymentRequest request, User parent) {
@@ -81,7 +85,7 @@ public class PaymentService {
         // 6. 주문 상태 변경
         order.completeOrder();
 
-        // 7. 수강 등록 처리 (결제자의 자녀에게)
+        // 7. 수강 등록 대상 학생(결제자의 자녀) 확인
         User student = userRepository.findById(request.studentId())
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 학생 ID입니다."));
 
@@ -89,15 +93,19 @@ public class PaymentService {
             throw new IllegalArgumentException("자신의 자녀에 대한 강의만 결제할 수 있습니다.");
         }
 
-        order.getOrderItems().forEach(item -> {
-            // 이미 수강 중인지 확인
-            if (enrollmentRepository.findByStudentAndCourse(student, item.getCourse()).isPresent()) {
-                log.info("Student {} is already enrolled in course {}", student.getId(), item.getCourse().getId());
-            } else {
-                Enrollment enrollment = new Enrollment(student, item.getCourse());
-                enrollmentRepository.save(enrollment);
-            }
-        });
+        // 수강 등록과 결제 완료 알림은 아웃박스에 기록하여 커밋 후 백그라운드에서 처리 (결제 트랜잭션을 짧게 유지)
+        List<Long> courseIds = order.getOrderItems().stream()
+                .map(item -> item.getCourse().getId())
+                .toList();
+        outboxWriter.append(OutboxEventType.ENROLLMENT_REQUESTED,
+                new EnrollmentRequestedEvent(payment.getId(), student.getId(), courseIds));
+        outboxWriter.append(OutboxEventType.NOTIFICATION_REQUESTED,
+                new NotificationRequestedEvent(parent.getId(),
+                        student.getUserName() + " 학생의 강의 " + courseIds.size() + "건 결제가 완료되었습니다.",
+                        "/my-profile/children/" + student.getId() + "/dashboard"));
+
+        // 8. 대시보드 일별 집계 반영 (집계 행 잠금을 짧게 잡도록 트랜잭션 마지막에 수행)
+        dailyStatsJdbcRepository.addPayment(payment.getPaidAt(), payment.getAmount());
 
         return payment.getId();
     }
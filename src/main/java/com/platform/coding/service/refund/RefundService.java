@@ -8,8 +8,11 @@ import com.platform.coding.domain.payment.Payment;
 import com.platform.coding.domain.payment.PaymentRepository;
 import com.platform.coding.domain.refund.Refund;
 import com.platform.coding.domain.refund.RefundRepository;
+import com.platform.coding.domain.stats.DailyStatsJdbcRepository;
 import com.platform.coding.domain.user.User;
 import com.platform.coding.domain.user.UserRepository;
+import com.platform.coding.service.course.EntitlementCache;
+import com.platform.coding.service.course.PopularCourseTracker;
 import com.platform.coding.service.refund.dto.RefundRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -26,6 +29,9 @@ public class RefundService {
     private final RefundRepository refundRepository;
     private final EnrollmentRepository enrollmentRepository;
     private final UserRepository userRepository;
+    private final EntitlementCache entitlementCache;
+    private final DailyStatsJdbcRepository dailyStatsJdbcRepository;
+    private final PopularCourseTracker popularCourseTracker;
 
     @Transactional
     public Long requestRefund(Long paymentId, RefundRequest request, User parent) {
@@ -66,12 +72,19 @@ public class RefundService {
 
         order.getOrderItems().forEach(item -> {
             enrollmentRepository.findByStudentAndCourse(student, item.getCourse())
-                    .ifPresent(Enrollment::requestRefund);
+                    .ifPresent(enrollment -> {
+                        enrollment.requestRefund();
+                        popularCourseTracker.cancelled(item.getCourse().getId(), enrollment.getEnrolledAt());
+                    });
         });
+        entitlementCache.invalidate(student.getId());
 
         // 7. 주문(Order) 상태 변경 (선택적)
         order.cancel();
 
+        // 8. 대시보드 일별 집계 반영
+        dailyStatsJdbcRepository.addRefund(savedRefund.getRefundedAt(), savedRefund.getRefundAmount());
+
         // TODO: 관리자에게 환불 요청 알림 발송
 
         return savedRefund.getId();
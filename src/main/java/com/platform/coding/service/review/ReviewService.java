@@ -2,19 +2,18 @@ package com.platform.coding.service.review;
 
 import com.platform.coding.domain.course.Course;
 import com.platform.coding.domain.course.CourseRepository;
-import com.platform.coding.domain.enrollment.Enrollment;
-import com.platform.coding.domain.enrollment.EnrollmentRepository;
 import com.platform.coding.domain.enrollment.EnrollmentStatus;
 import com.platform.coding.domain.payment.Reward;
 import com.platform.coding.domain.payment.RewardRepository;
 import com.platform.coding.domain.payment.RewardType;
 import com.platform.coding.domain.review.*;
-import com.platform.coding.domain.rewardpolicy.PolicyKey;
-import com.platform.coding.domain.rewardpolicy.RewardPolicyRepository;
+import com.platform.coding.domain.rewardpolicy.RewardPolicySnapshot;
 import com.platform.coding.domain.user.User;
+import com.platform.coding.service.course.EntitlementCache;
 import com.platform.coding.service.filter.ProfanityFilterService;
 import com.platform.coding.service.review.dto.ReviewRequest;
 import com.platform.coding.service.review.dto.ReviewResponse;
+import com.platform.coding.service.reward.RewardPolicyCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -30,10 +29,10 @@ import java.util.stream.Collectors;
 public class ReviewService {
     private final ReviewRepository reviewRepository;
     private final CourseRepository courseRepository;
-    private final EnrollmentRepository enrollmentRepository;
+    private final EntitlementCache entitlementCache;
     private final RewardRepository rewardRepository;
     private final ReviewReportRepository reviewReportRepository;
-    private final RewardPolicyRepository rewardPolicyRepository;
+    private final RewardPolicyCache rewardPolicyCache;
     private final ProfanityFilterService profanityFilterService;
 
     // 리뷰 작성 및 포인트 지급
@@ -48,10 +47,10 @@ public class ReviewService {
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 강의입니다."));
         
         // 권한 검증1: 이 강의를 '완강'했는지 확인
-        Enrollment enrollment = enrollmentRepository.findByStudentAndCourse(student, course)
+        EnrollmentStatus enrollmentStatus = entitlementCache.statusOf(student.getId(), course.getId())
                 .orElseThrow(() -> new IllegalArgumentException("수강 이력이 없는 강의입니다."));
 
-        if (enrollment.getStatus() != EnrollmentStatus.COMPLETED) {
+        if (enrollmentStatus != EnrollmentStatus.COMPLETED) {
             throw new IllegalArgumentException("강의를 완강한 후에만 리뷰를 작성할 수 있습니다.");
         }
 
@@ -69,21 +68,12 @@ public class ReviewService {
                 .build();
         Review savedReview = reviewRepository.save(newReview);
 
-        // --- 포인트 지급 로직 수정 ---
-        // 1. 최소 글자 수 정책 조회
-        int minLength = rewardPolicyRepository.findByPolicyKey(PolicyKey.REVIEW_REWARD_MIN_LENGTH)
-                .map(policy -> Integer.parseInt(policy.getPolicyValue()))
-                // 정책이 없으면 기본값 50
-                .orElse(50);
-
-        // 2. 지급 포인트 정책 조회
-        BigDecimal rewardAmount = rewardPolicyRepository.findByPolicyKey(PolicyKey.REVIEW_REWARD_POINT_AMOUNT)
-                .map(policy -> new BigDecimal(policy.getPolicyValue()))
-                // 정책이 없으면 0
-                .orElse(BigDecimal.ZERO);
+        // 보상 정책 (최소 글자 수, 지급 포인트). 정책이 없으면 기본값 50자, 0포인트
+        RewardPolicySnapshot policies = rewardPolicyCache.current();
+        BigDecimal rewardAmount = policies.reviewRewardPointAmount();
 
         // 조건 충족 시 포인트 지급
-        if (request.content().length() >= minLength && rewardAmount.compareTo(BigDecimal.ZERO) > 0) {
+        if (request.content().length() >= policies.reviewRewardMinLength() && rewardAmount.compareTo(BigDecimal.ZERO) > 0) {
             Reward pointReward = Reward.builder()
                     .user(student)
                     .rewardType(RewardType.POINT)
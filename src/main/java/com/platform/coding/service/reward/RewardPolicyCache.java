@@ -0,0 +1,51 @@
+package com.platform.coding.service.reward;
+
+import com.platform.coding.config.datasource.PrimaryReadTransaction;
+import com.platform.coding.domain.rewardpolicy.RewardPolicy;
+import com.platform.coding.domain.rewardpolicy.RewardPolicyRepository;
+import com.platform.coding.domain.rewardpolicy.RewardPolicySnapshot;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.stream.Collectors;
+
+/**
+ * 보상 정책 스냅샷(RewardPolicySnapshot)을 보관한다.
+ * 후기 작성 등 보상 흐름은 current() 로 쿼리와 문자열 해석 없이 정책을 읽는다.
+ * 관리자가 정책을 수정하면 커밋 후에 다시 읽어 통째로 교체하며, 다른 서버에서의 수정은 주기적인 재적재로 반영된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RewardPolicyCache {
+    private final RewardPolicyRepository rewardPolicyRepository;
+    private final PrimaryReadTransaction primaryRead;
+
+    // DB에서 처음 읽어오기 전까지는 기본값을 사용
+    private volatile RewardPolicySnapshot snapshot = RewardPolicySnapshot.DEFAULTS;
+
+    public RewardPolicySnapshot current() {
+        return snapshot;
+    }
+
+    /**
+     * DB의 보상 정책으로 스냅샷을 다시 만들어 교체한다.
+     * 형식에 맞지 않는 값이 있으면 교체하지 않고 이전 스냅샷을 계속 사용한다.
+     * 관리자 수정 직후 복제본의 이전 정책으로 교체되지 않도록 원본에서 읽는다.
+     */
+    @PostConstruct
+    @Scheduled(fixedDelayString = "${app.reward-policy.reload-interval-ms:60000}",
+            initialDelayString = "${app.reward-policy.reload-interval-ms:60000}")
+    public void reload() {
+        try {
+            this.snapshot = RewardPolicySnapshot.from(primaryRead.execute(rewardPolicyRepository::findAll).stream()
+                    .collect(Collectors.toMap(RewardPolicy::getPolicyKey, RewardPolicy::getPolicyValue)));
+            log.debug("Reloaded reward policies: {}", snapshot);
+        } catch (IllegalArgumentException e) {
+            log.error("Failed to reload reward policies, keeping the previous snapshot: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.platform.coding.service.scheduler;
+
+/**
+ * ClusterJobRunner 로 실행하는 작업
+ */
+@FunctionalInterface
+public interface ClusterJob {
+    /**
+     * @param execution 임대 연장과 펜싱 토큰 확인에 사용
+     * @return 처리한 행 수 (실행 이력에 기록됨)
+     */
+    long execute(JobExecution execution);
+}
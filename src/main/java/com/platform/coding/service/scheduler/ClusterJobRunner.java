@@ -0,0 +1,81 @@
+package com.platform.coding.service.scheduler;
+
+import com.platform.coding.domain.scheduler.JobLeaseJdbcRepository;
+import com.platform.coding.domain.scheduler.JobRun;
+import com.platform.coding.domain.scheduler.JobRunRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * 여러 서버에서 동시에 실행되는 @Scheduled 작업을 한 서버에서만 실행되게 한다.
+ *
+ * 작업 이름별 임대(job_leases)를 먼저 잡은 서버만 작업을 실행하고, 다른 서버는 건너뛴다.
+ * 임대는 lease-seconds 가 지나면 만료되므로 실행 중 서버가 죽어도 다음 실행이 막히지 않으며,
+ * 넘겨받을 때마다 펜싱 토큰이 증가하여 만료 후에도 계속 실행 중인 이전 서버는 extendLease() 에서 중단된다.
+ * 작업이 일찍 끝나도 시작 후 min-hold-seconds 동안은 임대를 유지하여,
+ * 시계 차이나 GC 등으로 같은 cron 시각에 늦게 깨어난 서버가 같은 회차를 다시 실행하지 않게 한다.
+ * 실행마다 시작/종료 시각, 처리 행 수, 오류를 job_runs 에 남긴다.
+ *
+ * 사용법: @Scheduled 메소드 본문을 clusterJobRunner.run("작업 이름", execution -> { ...; return 처리 행 수; }) 로 감싼다.
+ */
+@Slf4j
+@Component
+public class ClusterJobRunner {
+    private final JobLeaseJdbcRepository jobLeaseJdbcRepository;
+    private final JobRunRepository jobRunRepository;
+    private final Duration lease;
+    // 작업이 끝나도 시작 시각부터 이 시간 동안은 임대를 풀지 않음 (가장 짧은 실행 주기보다 짧아야 함)
+    private final Duration minHold;
+    // 이 서버(프로세스)의 식별자: pid@호스트명:임의값
+    private final String owner;
+
+    public ClusterJobRunner(JobLeaseJdbcRepository jobLeaseJdbcRepository,
+                            JobRunRepository jobRunRepository,
+                            @Value("${app.scheduler.lease-seconds:300}") long leaseSeconds,
+                            @Value("${app.scheduler.min-hold-seconds:60}") long minHoldSeconds) {
+        this.jobLeaseJdbcRepository = jobLeaseJdbcRepository;
+        this.jobRunRepository = jobRunRepository;
+        this.lease = Duration.ofSeconds(leaseSeconds);
+        this.minHold = Duration.ofSeconds(minHoldSeconds);
+        this.owner = ManagementFactory.getRuntimeMXBean().getName() + ":" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    /**
+     * 임대를 잡으면 작업을 실행하고 true 를, 다른 서버가 실행 중이면 건너뛰고 false 를 반환한다.
+     * 작업이 던진 예외는 실행 이력에 기록한 뒤 그대로 던진다.
+     */
+    public boolean run(String jobName, ClusterJob job) {
+        Instant now = Instant.now();
+        OptionalLong fencingToken = jobLeaseJdbcRepository.acquire(jobName, owner, now.plus(lease), now);
+        if (fencingToken.isEmpty()) {
+            log.info("다른 서버에서 실행 중이므로 {} 작업을 건너뜁니다.", jobName);
+            return false;
+        }
+
+        long token = fencingToken.getAsLong();
+        JobRun run = jobRunRepository.save(new JobRun(jobName, owner, token));
+        try {
+            long rowsAffected = job.execute(new JobExecution(jobLeaseJdbcRepository, jobName, token, lease));
+            run.succeed(rowsAffected);
+            jobRunRepository.save(run);
+            log.info("{} 작업을 완료했습니다. ({}건, {}ms)", jobName, rowsAffected, run.getDuration().toMillis());
+            return true;
+        } catch (RuntimeException e) {
+            run.fail(e.toString());
+            jobRunRepository.save(run);
+            log.error("{} 작업이 실패했습니다.", jobName, e);
+            throw e;
+        } finally {
+            Instant finishedAt = Instant.now();
+            Instant holdUntil = now.plus(minHold);
+            jobLeaseJdbcRepository.release(jobName, token, finishedAt.isAfter(holdUntil) ? finishedAt : holdUntil, finishedAt);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.platform.coding.service.scheduler;
+
+import com.platform.coding.domain.stats.DailyStats;
+import com.platform.coding.domain.stats.DailyStatsJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DailyStatsReconcileScheduler {
+    // 자정을 걸쳐 커밋된 트랜잭션까지 반영되도록 어제와 그제를 다시 계산
+    private static final int RECONCILE_DAYS = 2;
+
+    private final DailyStatsJdbcRepository dailyStatsJdbcRepository;
+    private final ClusterJobRunner clusterJobRunner;
+
+    /**
+     * 매일 UTC 00:10 에 지난 날의 일별 집계를 원본 데이터로 다시 계산해 덮어쓴다.
+     * 증분 반영이 누락되거나(직접 수정된 데이터, 집계 도입 이전 데이터 등) 어긋난 값을 보정한다.
+     */
+    @Scheduled(cron = "0 10 0 * * *", zone = "UTC")
+    public void reconcileDailyStats() {
+        clusterJobRunner.run("daily-stats-reconcile", execution -> {
+            log.info("일별 통계 보정 작업을 시작합니다.");
+            LocalDate today = DailyStats.dateOf(Instant.now());
+            long written = 0;
+            for (int i = 1; i <= RECONCILE_DAYS; i++) {
+                written += dailyStatsJdbcRepository.recompute(today.minusDays(i));
+            }
+            log.info("일별 통계 보정 작업을 완료했습니다.");
+            return written;
+        });
+    }
+}
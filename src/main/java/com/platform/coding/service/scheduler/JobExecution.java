@@ -0,0 +1,45 @@
+package com.platform.coding.service.scheduler;
+
+import com.platform.coding.domain.scheduler.JobLeaseJdbcRepository;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 임대를 잡고 실행 중인 작업 한 건.
+ * 오래 걸리는 작업은 묶음마다 extendLease() 를 호출하여 임대를 늘리고, 그 사이 임대를 잃었으면 중단해야 한다.
+ */
+public class JobExecution {
+    private final JobLeaseJdbcRepository jobLeaseJdbcRepository;
+    private final String jobName;
+    private final long fencingToken;
+    private final Duration lease;
+
+    JobExecution(JobLeaseJdbcRepository jobLeaseJdbcRepository, String jobName, long fencingToken, Duration lease) {
+        this.jobLeaseJdbcRepository = jobLeaseJdbcRepository;
+        this.jobName = jobName;
+        this.fencingToken = fencingToken;
+        this.lease = lease;
+    }
+
+    public String getJobName() {
+        return jobName;
+    }
+
+    /**
+     * 이 실행의 펜싱 토큰. 임대를 잡을 때마다 커지므로, 작업이 기록하는 데이터에 남겨 오래된 실행의 쓰기를 걸러낼 수 있다.
+     */
+    public long getFencingToken() {
+        return fencingToken;
+    }
+
+    /**
+     * 임대를 연장한다. 임대가 만료되어 다른 서버가 넘겨받았으면 IllegalStateException 을 던진다.
+     */
+    public void extendLease() {
+        Instant now = Instant.now();
+        if (!jobLeaseJdbcRepository.renew(jobName, fencingToken, now.plus(lease), now)) {
+            throw new IllegalStateException("작업 임대를 잃었습니다: " + jobName + " (token " + fencingToken + ")");
+        }
+    }
+}
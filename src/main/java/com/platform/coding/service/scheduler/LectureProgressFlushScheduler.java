@@ -0,0 +1,94 @@
+package com.platform.coding.service.scheduler;
+
+import com.platform.coding.domain.enrollment.EnrollmentJdbcRepository;
+import com.platform.coding.domain.lectureprogress.LectureProgressHeartbeat;
+import com.platform.coding.service.lecture.LectureProgressBuffer;
+import com.platform.coding.service.lecture.LectureService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 버퍼링 모드에서 메모리에 모인 시청 기록을 주기적으로 DB에 반영한다.
+ * 애플리케이션 종료 시에도 남은 기록을 모두 반영한 뒤 종료된다.
+ * 일괄 반영이 실패하면 꺼낸 기록을 버퍼에 되돌려 다음 주기에 다시 시도한다.
+ */
+@Slf4j
+@Component
+public class LectureProgressFlushScheduler {
+    private final LectureProgressBuffer lectureProgressBuffer;
+    private final EnrollmentJdbcRepository enrollmentJdbcRepository;
+    private final LectureService lectureService;
+    private final Timer flushTimer;
+    private final Counter flushedRows;
+    // 스케줄러 스레드와 종료 훅이 동시에 flush 하지 않도록 직렬화 (같은 키의 기록 순서 보장)
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public LectureProgressFlushScheduler(LectureProgressBuffer lectureProgressBuffer,
+                                         EnrollmentJdbcRepository enrollmentJdbcRepository,
+                                         LectureService lectureService,
+                                         MeterRegistry meterRegistry) {
+        this.lectureProgressBuffer = lectureProgressBuffer;
+        this.enrollmentJdbcRepository = enrollmentJdbcRepository;
+        this.lectureService = lectureService;
+        this.flushTimer = Timer.builder("lecture.progress.flush.latency")
+                .description("버퍼링된 시청 기록을 DB에 반영하는 데 걸린 시간")
+                .register(meterRegistry);
+        this.flushedRows = Counter.builder("lecture.progress.flush.rows")
+                .description("DB에 반영된 시청 기록 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.lecture.progress.flush-interval-ms:5000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            List<LectureProgressHeartbeat> heartbeats = lectureProgressBuffer.drain();
+            if (heartbeats.isEmpty()) {
+                return;
+            }
+            try {
+                flushTimer.record(() -> write(heartbeats));
+            } catch (RuntimeException e) {
+                // 시청 위치 반영이 실패하면 유실되지 않도록 되돌림 (그 사이 들어온 최신 기록은 덮어쓰지 않음)
+                lectureProgressBuffer.requeue(heartbeats);
+                log.warn("시청 기록 {}건 반영에 실패하여 다음 주기에 다시 시도합니다: {}", heartbeats.size(), e.getMessage());
+                return;
+            }
+            flushedRows.increment(heartbeats.size());
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void write(List<LectureProgressHeartbeat> heartbeats) {
+        enrollmentJdbcRepository.batchUpdateLastViewed(heartbeats);
+
+        // 렉처 완료 처리는 수강 정보 단위로 각각 반영 (하나가 실패해도 나머지는 반영되도록 분리)
+        for (LectureProgressHeartbeat heartbeat : heartbeats) {
+            try {
+                lectureService.applyBufferedCompletion(heartbeat.studentId(), heartbeat.lectureId(), heartbeat.viewedSeconds());
+            } catch (RuntimeException e) {
+                log.warn("렉처 완료 처리 실패: studentId={}, lectureId={}, message={}",
+                        heartbeat.studentId(), heartbeat.lectureId(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 종료 시 버퍼에 남아있는 시청 기록을 모두 반영한다.
+     * 이 빈은 DataSource/JPA 빈에 의존하므로 그보다 먼저 소멸되어, 이 시점에는 아직 DB 접근이 가능하다.
+     */
+    @PreDestroy
+    public void drainOnShutdown() {
+        log.info("종료 전 버퍼링된 시청 기록 {}건을 반영합니다.", lectureProgressBuffer.size());
+        flush();
+    }
+}
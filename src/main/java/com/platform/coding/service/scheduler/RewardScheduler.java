@@ -1,30 +1,110 @@
 package com.platform.coding.service.scheduler;
 
-import com.platform.coding.domain.payment.RewardRepository;
-import lombok.RequiredArgsConstructor;
+import com.platform.coding.domain.payment.RewardJdbcRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class RewardScheduler {
-    private final RewardRepository rewardRepository;
+    private static final String JOB_NAME = "reward-cleanup";
+    // 이 묶음 수마다 진행 상황을 로그로 남김
+    private static final int PROGRESS_LOG_INTERVAL = 100;
+
+    private final RewardJdbcRepository rewardJdbcRepository;
+    private final ClusterJobRunner clusterJobRunner;
+    private final int batchSize;
+    private final long pauseMillis;
+    private final Counter deletedRewards;
+    private final Counter deletedBatches;
+    private final Timer cleanupTimer;
+    // 마지막(또는 진행 중인) 실행에서 지금까지 삭제한 보상 수
+    private final AtomicLong currentRunDeleted;
+
+    public RewardScheduler(RewardJdbcRepository rewardJdbcRepository,
+                           ClusterJobRunner clusterJobRunner,
+                           MeterRegistry meterRegistry,
+                           @Value("${app.reward.cleanup.batch-size:1000}") int batchSize,
+                           @Value("${app.reward.cleanup.pause-ms:100}") long pauseMillis) {
+        this.rewardJdbcRepository = rewardJdbcRepository;
+        this.clusterJobRunner = clusterJobRunner;
+        this.batchSize = batchSize;
+        this.pauseMillis = pauseMillis;
+        this.deletedRewards = Counter.builder("reward.cleanup.deleted")
+                .description("정리 작업으로 삭제된 만료 보상 수")
+                .register(meterRegistry);
+        this.deletedBatches = Counter.builder("reward.cleanup.batches")
+                .description("정리 작업이 실행한 삭제 묶음 수")
+                .register(meterRegistry);
+        this.cleanupTimer = Timer.builder("reward.cleanup.duration")
+                .description("만료 보상 정리 작업 한 번에 걸린 시간")
+                .register(meterRegistry);
+        this.currentRunDeleted = meterRegistry.gauge("reward.cleanup.current-run.deleted", new AtomicLong());
+    }
 
     /**
      * 매일 자정에 만료되었지만 사용되지 않은 보상(포인트/쿠폰)을 삭제
      * Cron 표현식: "0 0 0 * * * (초, 분, 시, 일, 월, 요일)
+     * 한 번에 지우면 잠금과 WAL 이 한꺼번에 몰리므로, batch-size 개씩 짧은 트랜잭션으로 나눠 지우고 묶음 사이에 pause-ms 만큼 쉰다.
+     * 여러 서버 중 한 곳에서만 실행된다.
      */
     @Scheduled(cron = "0 0 0 * * *")
-    @Transactional
     public void cleanupExpiredRewards() {
+        clusterJobRunner.run(JOB_NAME, execution -> cleanupTimer.record(() -> purge(execution)));
+    }
+
+    private long purge(JobExecution execution) {
         log.info("만료된 보상 정리 작업을 시작합니다.");
         final Instant now = Instant.now();
-        rewardRepository.deleteExpiredAndUnusedRewards(now);
-        log.info("만료된 보상 정리 작업을 완료했습니다.");
+        currentRunDeleted.set(0);
+        long lastId = 0;
+        int batches = 0;
+        while (true) {
+            List<Long> deletedIds = rewardJdbcRepository.deleteExpiredUnused(now, lastId, batchSize);
+            if (deletedIds.isEmpty()) {
+                break;
+            }
+            lastId = deletedIds.stream().mapToLong(Long::longValue).max().orElseThrow();
+            batches++;
+            deletedBatches.increment();
+            deletedRewards.increment(deletedIds.size());
+            long total = currentRunDeleted.addAndGet(deletedIds.size());
+            if (batches % PROGRESS_LOG_INTERVAL == 0) {
+                log.info("만료된 보상 정리 중: {}건 삭제 (마지막 ID {})", total, lastId);
+            }
+            if (deletedIds.size() < batchSize) {
+                break;
+            }
+            if (!pause()) {
+                log.warn("만료된 보상 정리 작업이 중단되었습니다. (마지막 ID {})", lastId);
+                break;
+            }
+            // 임대를 잃었으면(다른 서버가 넘겨받음) 여기서 중단
+            execution.extendLease();
+        }
+        log.info("만료된 보상 정리 작업을 완료했습니다. ({}건 삭제)", currentRunDeleted.get());
+        return currentRunDeleted.get();
+    }
+
+    private boolean pause() {
+        if (pauseMillis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
     }
 }
@@ -1,12 +1,13 @@
 package com.platform.coding.service.submission;
 
 import com.platform.coding.domain.course.Course;
-import com.platform.coding.domain.enrollment.EnrollmentRepository;
 import com.platform.coding.domain.submission.Assignment;
 import com.platform.coding.domain.submission.AssignmentRepository;
 import com.platform.coding.domain.submission.Submission;
+import com.platform.coding.domain.submission.SubmissionJdbcRepository;
 import com.platform.coding.domain.submission.SubmissionRepository;
 import com.platform.coding.domain.user.User;
+import com.platform.coding.service.course.EntitlementCache;
 import com.platform.coding.service.submission.dto.SubmissionRequest;
 import com.platform.coding.service.submission.dto.SubmissionResponse;
 import lombok.RequiredArgsConstructor;
@@ -21,8 +22,9 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class SubmissionService {
     private final SubmissionRepository submissionRepository;
+    private final SubmissionJdbcRepository submissionJdbcRepository;
     private final AssignmentRepository assignmentRepository;
-    private final EnrollmentRepository enrollmentRepository;
+    private final EntitlementCache entitlementCache;
 
     // 과제 제출
     @Transactional
@@ -31,22 +33,14 @@ public class SubmissionService {
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 과제입니다."));
 
         // 권한 검증 1. 이 과제가 포함된 강의를 수강 중인 학생인지 확인
-        enrollmentRepository.findByStudentAndCourse(student, assignment.getLecture().getChapter().getCourse())
-                .orElseThrow(() -> new IllegalArgumentException("수강 중인 과제의 과제만 제출할 수 있습니다."));
+        if (!entitlementCache.isEnrolled(student.getId(), assignment.getLecture().getChapter().getCourse().getId())) {
+            throw new IllegalArgumentException("수강 중인 과제의 과제만 제출할 수 있습니다.");
+        }
         
-        // 중복 제출 방지. 이미 제출한 과제인지 확인
-        submissionRepository.findByStudentAndAssignment(student, assignment)
-                // 요구사항에 따라 재제출 허용 로직으로 변경 가능
-                .ifPresent(s -> { throw new IllegalArgumentException("이미 제출한 과제입니다."); });
-
-        Submission newSubmission = Submission.builder()
-                .assignment(assignment)
-                .student(student)
-                .textContent(request.content())
-                .build();
-        Submission savedSubmission = submissionRepository.save(newSubmission);
-
-        return savedSubmission.getId();
+        // 중복 제출 방지. 이미 제출한 과제이면 (학생, 과제) 유일 제약에 걸려 저장되지 않음
+        // 요구사항에 따라 재제출 허용 로직(submitOrUpdateAssignment)으로 변경 가능
+        return submissionJdbcRepository.insertIfAbsent(assignment.getId(), student.getId(), request.content(), Instant.now())
+                .orElseThrow(() -> new IllegalArgumentException("이미 제출한 과제입니다."));
     }
 
     /**
@@ -62,24 +56,8 @@ public class SubmissionService {
             throw new IllegalStateException("과제 제출 마감일이 지났습니다.");
         }
 
-        // 기존 제출 내역이 있는지 확인
-        Submission submission = submissionRepository.findByStudentAndAssignment(student, assignment)
-                .map(existingSubmission -> {
-                    // 있다면 내용 업데이트 (재제출)
-                    existingSubmission.updateContent(request.content());
-                    return existingSubmission;
-                })
-                .orElseGet(() -> {
-                    // 없다면 새로 생성 (최초 제출)
-                    return Submission.builder()
-                            .assignment(assignment)
-                            .student(student)
-                            .textContent(request.content())
-                            .build();
-                });
-
-        Submission savedSubmission = submissionRepository.save(submission);
-        return savedSubmission.getId();
+        // 최초 제출과 재제출을 한 문장으로 처리 (기존 제출 내역을 조회하지 않음)
+        return submissionJdbcRepository.upsert(assignment.getId(), student.getId(), request.content(), Instant.now());
     }
 
     // 내 제출물 상세 조회
@@ -121,7 +99,8 @@ public class SubmissionService {
     }
 
     private void validateEnrollment(User student, Course course) {
-        enrollmentRepository.findByStudentAndCourse(student, course)
-                .orElseThrow(() -> new AccessDeniedException("이 강의를 수강하고 있지 않습니다."));
+        if (!entitlementCache.isEnrolled(student.getId(), course.getId())) {
+            throw new AccessDeniedException("이 강의를 수강하고 있지 않습니다.");
+        }
     }
 }
\ No newline at end of file
@@ -3,8 +3,8 @@ package com.platform.coding.service.user;
 import com.platform.coding.domain.course.Course;
 import com.platform.coding.domain.enrollment.Enrollment;
 import com.platform.coding.domain.enrollment.EnrollmentRepository;
-import com.platform.coding.domain.submission.Assignment;
 import com.platform.coding.domain.submission.AssignmentRepository;
+import com.platform.coding.domain.submission.CourseAssignmentSummary;
 import com.platform.coding.domain.submission.SubmissionRepository;
 import com.platform.coding.domain.user.User;
 import com.platform.coding.domain.user.UserRepository;
@@ -14,9 +14,13 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.util.*;
 import java.util.stream.Collectors;
 
+/**
+ * 학부모 대시보드 조회.
+ * 자녀/강의/과제 수에 따라 쿼리가 늘어나지 않도록 필요한 데이터를 집합 단위 쿼리 몇 번으로 읽고 메모리에서 조립한다.
+ */
 @Service
 @RequiredArgsConstructor
 public class ParentDashboardService {
@@ -26,8 +30,8 @@ public class ParentDashboardService {
     private final SubmissionRepository submissionRepository;
 
     /**
-     * [신규 추가]
      * 학부모에게 속한 모든 자녀의 학습 현황 요약 정보를 조회합니다.
+     * 자녀 목록과 자녀들의 수강 정보(강의 포함)를 각각 한 번의 쿼리로 조회합니다.
      * @param parent 현재 로그인한 학부모 사용자
      * @return 모든 자녀의 학습 현황 요약 DTO 리스트
      */
@@ -35,32 +39,35 @@ public class ParentDashboardService {
     public List<ChildLearningSummaryDto> getChildrenLearningSummary(User parent) {
         // 1. 학부모에게 속한 모든 자녀 계정을 조회합니다.
         List<User> children = userRepository.findByParent(parent);
+        if (children.isEmpty()) {
+            return List.of();
+        }
 
-        // 2. 각 자녀별로 학습 현황 DTO를 생성하여 리스트로 만듭니다.
-        return children.stream()
-                .map(child -> {
-                    // 3. (성능 최적화) Fetch Join을 사용하여 자녀의 모든 수강 정보를 한 번의 쿼리로 가져옵니다.
-                    List<Enrollment> enrollments = enrollmentRepository.findByStudent(child);
-
-                    // 4. 각 수강 정보를 '강의 진행 요약 DTO'로 변환합니다.
-                    List<ChildLearningSummaryDto.CourseProgressSummaryDto> courseSummaries = enrollments.stream()
-                            .map(enrollment -> ChildLearningSummaryDto.CourseProgressSummaryDto.builder()
-                                    .courseId(enrollment.getCourse().getId())
-                                    .courseTitle(enrollment.getCourse().getTitle())
-                                    .progressRate(enrollment.getProgressRate())
-                                    .build())
-                            .collect(Collectors.toList());
+        // 2. 모든 자녀의 수강 정보를 한 번에 조회하여 자녀별로 묶습니다.
+        List<Long> childIds = children.stream().map(User::getId).toList();
+        Map<Long, List<Enrollment>> enrollmentsByChild = enrollmentRepository.findWithCourseByStudentIdIn(childIds).stream()
+                .collect(Collectors.groupingBy(enrollment -> enrollment.getStudent().getId()));
 
-                    // 5. 최종적으로 자녀 정보와 강의 요약 리스트를 합쳐 반환합니다.
-                    return ChildLearningSummaryDto.builder()
-                            .childId(child.getId())
-                            .childName(child.getUserName())
-                            .courses(courseSummaries)
-                            .build();
-                })
+        // 3. 자녀 정보와 강의 요약 리스트를 합쳐 반환합니다.
+        return children.stream()
+                .map(child -> ChildLearningSummaryDto.builder()
+                        .childId(child.getId())
+                        .childName(child.getUserName())
+                        .courses(enrollmentsByChild.getOrDefault(child.getId(), List.of()).stream()
+                                .map(enrollment -> ChildLearningSummaryDto.CourseProgressSummaryDto.builder()
+                                        .courseId(enrollment.getCourse().getId())
+                                        .courseTitle(enrollment.getCourse().getTitle())
+                                        .progressRate(enrollment.getProgressRate())
+                                        .build())
+                                .collect(Collectors.toList()))
+                        .build())
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 자녀의 강의별 진도율과 과제 제출 현황을 조회합니다.
+     * 자녀, 수강 정보(강의 포함), 수강 강의들의 과제, 제출한 과제 ID를 각각 한 번의 쿼리로 조회합니다.
+     */
     @Transactional(readOnly = true)
     public ChildDashboardResponse getChildDashboard(Long childId, User parent) {
         // 자녀 정보 조회 및 요청한 학부모의 자녀가 맞는지 권한 검증
@@ -70,38 +77,41 @@ public class ParentDashboardService {
         if (child.getParent() == null || !child.getParent().getId().equals(parent.getId())) {
             throw new IllegalArgumentException("자신의 자녀 정보만 조회할 수 있습니다.");
         }
-        
+
         // 자녀의 모든 수강 정보 조회
-        List<Enrollment> enrollments = enrollmentRepository.findByStudent(child);
-        
-        // 각 수강 정보(강의)를 순회하며 상세 정보 가공
-        List<ChildDashboardResponse.CourseProgressDto> courseProgressDtos = enrollments.stream()
-                .map(enrollment -> {
-                    Course course = enrollment.getCourse();
+        List<Enrollment> enrollments = enrollmentRepository.findWithCourseByStudentIdIn(List.of(child.getId()));
 
-                    // 해당 강의의 모든 과제 목록 조회
-                    List<Assignment> assignments = assignmentRepository.findAllByLecture_Chapter_Course(course);
-                    
-                    // 각 과제에 대한 제출 상태 확인
-                    List<ChildDashboardResponse.AssignmentStatusDto> assignmentStatusDtos = assignments.stream()
-                            .map(assignment -> {
-                                boolean submitted = submissionRepository.findByStudentAndAssignment(child, assignment).isPresent();
-                                return ChildDashboardResponse.AssignmentStatusDto.builder()
-                                        .assignmentId(assignment.getId())
-                                        .assignmentTitle(assignment.getTitle())
-                                        .submissionStatus(submitted ? "제출 완료": "미제출")
-                                        .build();
-                            })
-                            .collect(Collectors.toList());
+        // 수강 중인 모든 강의의 과제와, 그중 자녀가 제출한 과제를 한 번씩 조회
+        Map<Long, List<CourseAssignmentSummary>> assignmentsByCourse = Map.of();
+        Set<Long> submittedAssignmentIds = Set.of();
+        if (!enrollments.isEmpty()) {
+            List<Long> courseIds = enrollments.stream().map(enrollment -> enrollment.getCourse().getId()).toList();
+            assignmentsByCourse = assignmentRepository.findSummariesByCourseIdIn(courseIds).stream()
+                    .collect(Collectors.groupingBy(CourseAssignmentSummary::courseId));
+            submittedAssignmentIds = new HashSet<>(submissionRepository.findSubmittedAssignmentIds(child.getId(), courseIds));
+        }
 
-                    return ChildDashboardResponse.CourseProgressDto.builder()
-                            .courseId(course.getId())
-                            .courseTitle(course.getTitle())
-                            .progressRate(enrollment.getProgressRate())
-                            .assignments(assignmentStatusDtos)
-                            .build();
-                })
-                .collect(Collectors.toList());
+        // 각 수강 정보(강의)를 순회하며 상세 정보 가공
+        List<ChildDashboardResponse.CourseProgressDto> courseProgressDtos = new ArrayList<>(enrollments.size());
+        for (Enrollment enrollment : enrollments) {
+            Course course = enrollment.getCourse();
+            List<ChildDashboardResponse.AssignmentStatusDto> assignmentStatusDtos = new ArrayList<>();
+            for (CourseAssignmentSummary assignment : assignmentsByCourse.getOrDefault(course.getId(), List.of())) {
+                boolean submitted = submittedAssignmentIds.contains(assignment.assignmentId());
+                assignmentStatusDtos.add(ChildDashboardResponse.AssignmentStatusDto.builder()
+                        .assignmentId(assignment.assignmentId())
+                        .assignmentTitle(assignment.title())
+                        .submissionStatus(submitted ? "제출 완료" : "미제출")
+                        .build());
+            }
+
+            courseProgressDtos.add(ChildDashboardResponse.CourseProgressDto.builder()
+                    .courseId(course.getId())
+                    .courseTitle(course.getTitle())
+                    .progressRate(enrollment.getProgressRate())
+                    .assignments(assignmentStatusDtos)
+                    .build());
+        }
 
         // 최종 응답 DTO 조립
         return ChildDashboardResponse.builder()
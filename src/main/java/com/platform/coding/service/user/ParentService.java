@@ -1,6 +1,8 @@
 package com.platform.coding.service.user;
 
+import com.platform.coding.domain.stats.DailyStatsJdbcRepository;
 import com.platform.coding.domain.user.User;
+import com.platform.coding.domain.user.UserJdbcRepository;
 import com.platform.coding.domain.user.UserRepository;
 import com.platform.coding.domain.user.UserType;
 import com.platform.coding.service.user.dto.ChildAccountCreateRequest;
@@ -10,6 +12,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -17,7 +20,9 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ParentService {
     private final UserRepository userRepository;
+    private final UserJdbcRepository userJdbcRepository;
     private final PasswordEncoder passwordEncoder;
+    private final DailyStatsJdbcRepository dailyStatsJdbcRepository;
 
     /**
      * 자녀 계정을 생성하고 현재 로그인된 학부모 계정과 연동한다.
@@ -36,22 +41,23 @@ public class ParentService {
             throw new IllegalStateException("자녀 계정은 학부모만 생성할 수 있습니다.");
         }
         
-        // 이메일 중복 확인
-        userRepository.findByEmail(request.email()).ifPresent(u -> {
-            throw new IllegalArgumentException("이미 가입된 이메일입니다.");
-        });
-
         // 비밀번호 암호화
         String encryptedPassword = passwordEncoder.encode(request.password());
 
-        // DTO를 학생(STUDENT) User 엔티티로 변환
+        // DTO를 학생(STUDENT) User 엔티티로 변환하여 저장 (이메일 중복 확인과 저장을 한 문장으로 처리)
+        // 부모-자식 관계는 저장되는 parent_id 로 기록됨
         User child = request.toEntity(encryptedPassword, parent);
-        User savedChild = userRepository.save(child);
-
-        // 부모-자식 연관관계 업데이트 (JPA의 변경 감지)
-        parent.addChild(savedChild);
+        Instant now = Instant.now();
+        Long childId = userJdbcRepository.insertIfEmailAbsent(child, now)
+                .orElseThrow(() -> new IllegalArgumentException("이미 가입된 이메일입니다."));
+        // 자녀 계정도 신규 가입자로 집계
+        dailyStatsJdbcRepository.addSignup(now);
 
-        return ChildAccountResponse.fromEntity(savedChild);
+        return ChildAccountResponse.builder()
+                .userId(childId)
+                .userName(child.getUserName())
+                .email(child.getEmail())
+                .build();
     }
 
     /**
@@ -1,8 +1,12 @@
 package com.platform.coding.service.user;
 
+import com.auth0.jwt.interfaces.DecodedJWT;
 import com.platform.coding.config.jwt.JwtProperties;
+import com.platform.coding.config.jwt.JwtRevocationRegistry;
 import com.platform.coding.config.jwt.JwtUtil;
+import com.platform.coding.domain.stats.DailyStatsJdbcRepository;
 import com.platform.coding.domain.user.User;
+import com.platform.coding.domain.user.UserJdbcRepository;
 import com.platform.coding.domain.user.UserRepository;
 import com.platform.coding.service.user.dto.UserLoginRequest;
 import com.platform.coding.service.user.dto.UserLoginResponse;
@@ -17,32 +21,39 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+
 @Service
 @RequiredArgsConstructor // final 필드에 대한 생성자를 자동으로 만들어줌
 public class UserService {
     private final UserRepository userRepository;
+    private final UserJdbcRepository userJdbcRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
     private final JwtProperties jwtProperties;
     private final CookieUtil cookieUtil;
+    private final JwtRevocationRegistry jwtRevocationRegistry;
+    private final DailyStatsJdbcRepository dailyStatsJdbcRepository;
 
     // 이 메소드는 하나의 트랜잭션으로 묶어 처리함
     @Transactional
     public UserSignupResponse signUp(UserSignUpRequest request) {
-        // 이메일 중복 확인
-        if (userRepository.findByEmail(request.email()).isPresent()) {
-            throw new IllegalArgumentException("이미 가입된 이메일입니다.");
-        }
-
         // 비밀번호 암호화
         String encryptedPassword = passwordEncoder.encode(request.password());
 
-        // DTO를 엔티티로 변환하고 저장
+        // DTO를 엔티티로 변환하고 저장 (이메일 중복 확인과 저장을 한 문장으로 처리)
         User newUser = request.toEntity(encryptedPassword);
-        User savedUser = userRepository.save(newUser);
-
-        // 엔티티를 응답 DTO로 변환하여 반환
-        return UserSignupResponse.fromEntity(savedUser);
+        Instant now = Instant.now();
+        Long userId = userJdbcRepository.insertIfEmailAbsent(newUser, now)
+                .orElseThrow(() -> new IllegalArgumentException("이미 가입된 이메일입니다."));
+        // 대시보드 일별 집계(신규 가입자 수) 반영
+        dailyStatsJdbcRepository.addSignup(now);
+
+        return UserSignupResponse.builder()
+                .userId(userId)
+                .userName(newUser.getUserName())
+                .email(newUser.getEmail())
+                .build();
     }
 
     // 읽기 전용 트랜잭션
@@ -78,6 +89,8 @@ public class UserService {
             u.updateRefreshToken(null);
             userRepository.save(u);
         });
+        // 이미 발급된 액세스 토큰도 더 이상 인증에 쓰이지 않도록 폐기
+        jwtRevocationRegistry.revokeIssuedBefore(user.getId(), System.currentTimeMillis());
 
         // 쿠키 삭제
         cookieUtil.deleteCookie(response, CookieUtil.ACCESS_TOKEN_COOKIE_NAME);
@@ -92,10 +105,10 @@ public class UserService {
                 .orElseThrow(() -> new IllegalArgumentException("리프레시 토큰이 없습니다."));
 
         // 2. 리프레시 토큰 검증 (유효기간, 서명 등)
-        jwtUtil.verify(refreshToken);
+        DecodedJWT decodedJWT = jwtUtil.verify(refreshToken);
 
         // 3. 토큰에서 사용자 ID 추출하여 DB에서 사용자 조회
-        Long userId = jwtUtil.verify(refreshToken).getClaim("id").asLong();
+        Long userId = decodedJWT.getClaim(JwtUtil.CLAIM_ID).asLong();
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
 
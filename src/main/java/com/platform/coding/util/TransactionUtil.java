@@ -0,0 +1,49 @@
+package com.platform.coding.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Consumer;
+
+/**
+ * 트랜잭션 경계에 맞춰 부수 작업(캐시 무효화, 이벤트 발행 등)을 실행하기 위한 유틸리티.
+ */
+public final class TransactionUtil {
+
+    private TransactionUtil() {
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤에 작업을 실행한다.
+     * 활성화된 트랜잭션이 없으면 즉시 실행한다.
+     */
+    public static void runAfterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    /**
+     * 현재 트랜잭션이 끝난 뒤(커밋/롤백 모두) 작업을 실행한다. 작업에는 커밋 여부가 전달된다.
+     * 활성화된 트랜잭션이 없으면 커밋된 것으로 보고 즉시 실행한다.
+     */
+    public static void runAfterCompletion(Consumer<Boolean> task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.accept(true);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                task.accept(status == STATUS_COMMITTED);
+            }
+        });
+    }
+}
@@ -25,10 +25,21 @@ async function logout() {
 document.addEventListener("DOMContentLoaded", function() {
     const notificationBadge = document.getElementById('notification-badge');
 
-    // 알림 뱃지가 페이지에 존재하는 경우 (즉, 로그인한 상태)에만 주기적 업데이트 로직을 실행합니다.
+    // 알림 뱃지가 페이지에 존재하는 경우 (즉, 로그인한 상태)에만 알림 개수 업데이트 로직을 실행합니다.
     if (notificationBadge) {
         let intervalId = null; // interval을 제어하기 위한 변수
 
+        // 개수에 따라 뱃지의 내용과 표시 여부를 업데이트합니다.
+        const renderNotificationCount = (count) => {
+            if (count > 0) {
+                notificationBadge.textContent = count;
+                notificationBadge.style.display = 'inline-block';
+            } else {
+                notificationBadge.textContent = '';
+                notificationBadge.style.display = 'none';
+            }
+        };
+
         const updateNotificationCount = async () => {
             try {
                 const response = await fetch('/api/notifications/unread-count');
@@ -41,16 +52,7 @@ document.addEventListener("DOMContentLoaded", function() {
                 }
 
                 const data = await response.json();
-                const count = data.count;
-
-                // 개수에 따라 뱃지의 내용과 표시 여부를 업데이트합니다.
-                if (count > 0) {
-                    notificationBadge.textContent = count;
-                    notificationBadge.style.display = 'inline-block';
-                } else {
-                    notificationBadge.textContent = '';
-                    notificationBadge.style.display = 'none';
-                }
+                renderNotificationCount(data.count);
             } catch (error) {
                 console.error('Failed to fetch notification count:', error);
                 // 네트워크 오류 등이 발생해도 주기적 호출을 중단합니다.
@@ -60,10 +62,30 @@ document.addEventListener("DOMContentLoaded", function() {
             }
         };
 
-        // 페이지 로드 시 즉시 1회 실행
-        updateNotificationCount();
+        // SSE를 지원하지 않거나 스트림 연결이 완전히 끊긴 경우, 기존처럼 60초(1분)마다 주기적으로 조회합니다.
+        const startPolling = () => {
+            if (intervalId) {
+                return;
+            }
+            updateNotificationCount();
+            intervalId = setInterval(updateNotificationCount, 60000);
+        };
 
-        // 이후 60초(1분)마다 주기적으로 실행
-        intervalId = setInterval(updateNotificationCount, 60000);
+        if (window.EventSource) {
+            // 알림 스트림에 접속하면 첫 이벤트로 현재 개수를 받고, 이후 변경될 때마다 새 개수를 받습니다.
+            const eventSource = new EventSource('/api/notifications/stream');
+            eventSource.addEventListener('unread-count', (event) => {
+                renderNotificationCount(JSON.parse(event.data));
+            });
+            eventSource.onerror = () => {
+                // 일시적인 끊김은 브라우저가 자동으로 재접속하며, 재접속이 불가능한 경우(CLOSED)에만 폴링으로 전환합니다.
+                if (eventSource.readyState === EventSource.CLOSED) {
+                    startPolling();
+                }
+            };
+            window.addEventListener('beforeunload', () => eventSource.close());
+        } else {
+            startPolling();
+        }
     }
-});
\ No newline at end of file
+});
@@ -0,0 +1,179 @@
+package com.platform.coding.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcTransactionManager;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 원본과 복제본 역할을 하는 두 PostgreSQL 컨테이너로 연결이 어디로 가는지 확인한다. (접속한 DB 이름으로 구분)
+ */
+@Testcontainers
+public class ReplicaRoutingDataSourceTest {
+    private static final String CURRENT_DATABASE_SQL = "SELECT current_database()";
+
+    @Container
+    static PostgreSQLContainer<?> primaryContainer = new PostgreSQLContainer<>("postgres:17.4").withDatabaseName("primary");
+    @Container
+    static PostgreSQLContainer<?> replicaContainer = new PostgreSQLContainer<>("postgres:17.4").withDatabaseName("replica");
+
+    private ReplicaRoutingDataSource dataSource;
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWritesContext.end();
+        if (dataSource != null) {
+            dataSource.close();
+        }
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 복제본으로, 쓰기 트랜잭션과 트랜잭션 밖의 연결은 원본으로 가야 한다.")
+    void routesReadOnlyTransactionsToReplica() {
+        dataSource = createDataSource(dataSourceFor(replicaContainer));
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+        assertThat(currentDatabase(true)).isEqualTo("replica");
+        assertThat(currentDatabase(false)).isEqualTo("primary");
+        assertThat(jdbcTemplate.queryForObject(CURRENT_DATABASE_SQL, String.class)).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("요청 안에서 쓰기 트랜잭션을 연 뒤에는 읽기 전용 트랜잭션도 원본으로 가고, 요청이 끝나면 다시 복제본으로 간다.")
+    void pinsRequestToPrimaryAfterWrite() {
+        dataSource = createDataSource(dataSourceFor(replicaContainer));
+
+        ReadYourWritesContext.begin();
+        assertThat(currentDatabase(true)).isEqualTo("replica");
+        assertThat(currentDatabase(false)).isEqualTo("primary");
+        assertThat(currentDatabase(true)).isEqualTo("primary");
+        ReadYourWritesContext.end();
+
+        assertThat(currentDatabase(true)).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("캐시를 채우는 조회(PrimaryReadTransaction)는 읽기 전용이어도, 이미 열린 읽기 전용 트랜잭션 안에서도 원본으로 가야 한다.")
+    void primaryReadTransactionRoutesToPrimary() {
+        dataSource = createDataSource(dataSourceFor(replicaContainer));
+        JdbcTransactionManager transactionManager = new JdbcTransactionManager(dataSource);
+        PrimaryReadTransaction primaryRead = new PrimaryReadTransaction(transactionManager);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+        assertThat(primaryRead.execute(() -> jdbcTemplate.queryForObject(CURRENT_DATABASE_SQL, String.class))).isEqualTo("primary");
+
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readOnly.executeWithoutResult(status -> {
+            assertThat(jdbcTemplate.queryForObject(CURRENT_DATABASE_SQL, String.class)).isEqualTo("replica");
+            assertThat(primaryRead.execute(() -> jdbcTemplate.queryForObject(CURRENT_DATABASE_SQL, String.class))).isEqualTo("primary");
+        });
+        // 원본에서 읽었다고 해서 이후의 읽기가 원본에 고정되지는 않음
+        assertThat(currentDatabase(true)).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("요청 내내 열려 있는 EntityManager(open-in-view)에서도 트랜잭션마다 원본/복제본을 다시 골라야 한다.")
+    void reroutesEachTransactionOfRequestEntityManager() {
+        dataSource = createDataSource(dataSourceFor(replicaContainer));
+        EntityManagerFactory entityManagerFactory = createEntityManagerFactory(dataSource);
+        JpaTransactionManager transactionManager = new JpaTransactionManager(entityManagerFactory);
+        PrimaryReadTransaction primaryRead = new PrimaryReadTransaction(transactionManager);
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        // OpenEntityManagerInViewInterceptor 처럼 요청의 EntityManager 를 먼저 바인딩
+        TransactionSynchronizationManager.bindResource(entityManagerFactory, new EntityManagerHolder(entityManager));
+        try {
+            assertThat(currentDatabase(transactionManager, entityManager, true)).isEqualTo("replica");
+            // 앞의 읽기 전용 트랜잭션이 잡은 복제본 연결을 이어서 쓰지 않아야 함
+            assertThat(primaryRead.execute(() -> currentDatabase(entityManager))).isEqualTo("primary");
+            assertThat(currentDatabase(transactionManager, entityManager, false)).isEqualTo("primary");
+        } finally {
+            TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+            entityManager.close();
+            entityManagerFactory.close();
+        }
+    }
+
+    @Test
+    @DisplayName("복제본에 연결할 수 없으면 읽기 전용 트랜잭션도 원본에서 처리하고, 상태 확인 결과 사용할 수 없는 것으로 표시해야 한다.")
+    void fallsBackToPrimaryWhenReplicaIsDown() {
+        // 아무것도 듣고 있지 않은 포트
+        HikariDataSource deadReplica = new HikariDataSource();
+        deadReplica.setJdbcUrl("jdbc:postgresql://localhost:1/replica");
+        deadReplica.setUsername("test");
+        deadReplica.setPassword("test");
+        deadReplica.setConnectionTimeout(250);
+        deadReplica.setInitializationFailTimeout(-1);
+        dataSource = createDataSource(deadReplica);
+
+        assertThat(currentDatabase(true)).isEqualTo("primary");
+
+        dataSource.checkReplicaHealth();
+        assertThat(dataSource.isReplicaAvailable()).isFalse();
+        assertThat(currentDatabase(true)).isEqualTo("primary");
+    }
+
+    private ReplicaRoutingDataSource createDataSource(HikariDataSource replica) {
+        replica.setReadOnly(true);
+        return new ReplicaRoutingDataSource(dataSourceFor(primaryContainer), replica, Duration.ofHours(1), Duration.ZERO);
+    }
+
+    private String currentDatabase(boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new JdbcTransactionManager(dataSource));
+        transactionTemplate.setReadOnly(readOnly);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        return transactionTemplate.execute(status -> jdbcTemplate.queryForObject(CURRENT_DATABASE_SQL, String.class));
+    }
+
+    private String currentDatabase(PlatformTransactionManager transactionManager, EntityManager entityManager, boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status -> currentDatabase(entityManager));
+    }
+
+    private static String currentDatabase(EntityManager entityManager) {
+        return (String) entityManager.createNativeQuery(CURRENT_DATABASE_SQL).getSingleResult();
+    }
+
+    // 애플리케이션과 같은 연결 처리 설정으로 엔티티 없는 EntityManagerFactory 를 만듦
+    private static EntityManagerFactory createEntityManagerFactory(DataSource dataSource) {
+        Map<String, Object> properties = new HashMap<>();
+        new ReplicaDataSourceConfig().replicaConnectionHandlingCustomizer().customize(properties);
+        LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setDataSource(dataSource);
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factory.setPackagesToScan(ReplicaRoutingDataSourceTest.class.getPackageName());
+        factory.setJpaPropertyMap(properties);
+        factory.afterPropertiesSet();
+        return factory.getObject();
+    }
+
+    private static HikariDataSource dataSourceFor(PostgreSQLContainer<?> container) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(container.getJdbcUrl());
+        dataSource.setUsername(container.getUsername());
+        dataSource.setPassword(container.getPassword());
+        return dataSource;
+    }
+}
@@ -3,6 +3,7 @@ package com.platform.coding.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.platform.coding.config.jwt.JwtAuthenticationFilter;
 import com.platform.coding.config.jwt.JwtUtil;
+import com.platform.coding.controller.payment.PaymentController;
 import com.platform.coding.domain.course.Course;
 import com.platform.coding.domain.course.CourseRepository;
 import com.platform.coding.domain.payment.*;
@@ -48,6 +49,8 @@ public class PaymentControllerTest extends IntegrationTestSupport {
     private UserRepository userRepository;
     @Autowired
     private CourseRepository courseRepository;
+    @Autowired
+    private PaymentIdempotencyJdbcRepository idempotencyRepository;
 
     private User parent, student, parent2, otherStudent;
     private String parentToken, parent2Token;
@@ -327,4 +330,93 @@ public class PaymentControllerTest extends IntegrationTestSupport {
                 .andExpect(status().isBadRequest())
                 .andExpect(jsonPath("$.message").value("자신의 자녀에 대한 강의만 결제할 수 있습니다."));
     }
+
+    @Test
+    @DisplayName("같은 멱등 키로 결제를 다시 요청하면 결제는 한 번만 처리되고 같은 결제 정보를 돌려받아야 한다.")
+    void processPaymentReplayWithIdempotencyKey() throws Exception {
+        // given
+        PaymentRequest request = PaymentRequest.builder()
+                .orderId(order.getId())
+                .paymentMethod(PaymentMethod.CREDIT_CARD)
+                .studentId(student.getId())
+                .pointId(point.getId())
+                .build();
+
+        // when: 같은 요청을 두 번 보냄 (더블 클릭, 타임아웃 후 재시도)
+        String firstLocation = mockMvc.perform(post("/api/payments")
+                        .header(JwtAuthenticationFilter.AUTHORIZATION_HEADER, JwtAuthenticationFilter.BEARER_PREFIX + parentToken)
+                        .header(PaymentController.IDEMPOTENCY_KEY_HEADER, "checkout-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getHeader("Location");
+        String secondLocation = mockMvc.perform(post("/api/payments")
+                        .header(JwtAuthenticationFilter.AUTHORIZATION_HEADER, JwtAuthenticationFilter.BEARER_PREFIX + parentToken)
+                        .header(PaymentController.IDEMPOTENCY_KEY_HEADER, "checkout-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andDo(print())
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getHeader("Location");
+
+        // then
+        assertThat(secondLocation).isEqualTo(firstLocation);
+        assertThat(paymentRepository.findAll()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("이미 사용한 멱등 키로 다른 내용의 결제를 요청하면 실패(400 Bad Request)해야 한다.")
+    void processPaymentFailWithReusedIdempotencyKey() throws Exception {
+        // given
+        PaymentRequest request = PaymentRequest.builder()
+                .orderId(order.getId())
+                .paymentMethod(PaymentMethod.CREDIT_CARD)
+                .studentId(student.getId())
+                .build();
+        PaymentRequest otherRequest = PaymentRequest.builder()
+                .orderId(order.getId())
+                .paymentMethod(PaymentMethod.CREDIT_CARD)
+                .studentId(student.getId())
+                .couponId(coupon.getId())
+                .build();
+        mockMvc.perform(post("/api/payments")
+                        .header(JwtAuthenticationFilter.AUTHORIZATION_HEADER, JwtAuthenticationFilter.BEARER_PREFIX + parentToken)
+                        .header(PaymentController.IDEMPOTENCY_KEY_HEADER, "checkout-2")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+
+        // when & then
+        mockMvc.perform(post("/api/payments")
+                        .header(JwtAuthenticationFilter.AUTHORIZATION_HEADER, JwtAuthenticationFilter.BEARER_PREFIX + parentToken)
+                        .header(PaymentController.IDEMPOTENCY_KEY_HEADER, "checkout-2")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(otherRequest)))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("같은 멱등 키로 다른 결제를 요청할 수 없습니다."));
+        assertThat(paymentRepository.findAll()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("임대가 만료된 멱등 키는 같은 내용의 요청만 넘겨받고, 이전 선점의 완료/해제는 반영되지 않아야 한다.")
+    void expiredIdempotencyLeaseIsFenced() {
+        // given: 임대가 이미 만료된 선점
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        Instant expiredLease = now.minusSeconds(1);
+        Long reservationId = idempotencyRepository.reserve(parent.getId(), "checkout-3", "hash-a", expiredLease, now.minusSeconds(31))
+                .orElseThrow();
+
+        // when & then: 다른 내용의 요청은 넘겨받지 못하고, 같은 내용의 요청은 넘겨받음
+        assertThat(idempotencyRepository.reserve(parent.getId(), "checkout-3", "hash-b", now.plusSeconds(30), now)).isEmpty();
+        Instant newLease = now.plusSeconds(30);
+        assertThat(idempotencyRepository.reserve(parent.getId(), "checkout-3", "hash-a", newLease, now)).contains(reservationId);
+
+        // 이전 선점은 완료/해제할 수 없고, 새 선점만 완료할 수 있음
+        idempotencyRepository.release(reservationId, expiredLease);
+        assertThat(idempotencyRepository.complete(reservationId, expiredLease, 1L)).isFalse();
+        assertThat(idempotencyRepository.complete(reservationId, newLease, 2L)).isTrue();
+        assertThat(idempotencyRepository.find(parent.getId(), "checkout-3").orElseThrow())
+                .isEqualTo(new PaymentIdempotencyRecord("hash-a", PaymentIdempotencyStatus.COMPLETED, 2L));
+    }
 }
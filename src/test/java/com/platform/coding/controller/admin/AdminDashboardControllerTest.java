@@ -7,10 +7,14 @@ import com.platform.coding.domain.course.CourseRepository;
 import com.platform.coding.domain.enrollment.Enrollment;
 import com.platform.coding.domain.enrollment.EnrollmentRepository;
 import com.platform.coding.domain.payment.*;
+import com.platform.coding.domain.stats.DailyStatsJdbcRepository;
+import com.platform.coding.domain.stats.DailyStatsRepository;
 import com.platform.coding.domain.user.User;
 import com.platform.coding.domain.user.UserRepository;
 import com.platform.coding.domain.user.UserType;
+import com.platform.coding.service.course.PopularCourseTracker;
 import com.platform.coding.support.IntegrationTestSupport;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -24,6 +28,7 @@ import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -45,12 +50,21 @@ public class AdminDashboardControllerTest extends IntegrationTestSupport {
     private PaymentRepository paymentRepository;
     @Autowired
     private EnrollmentRepository enrollmentRepository;
+    @Autowired
+    private DailyStatsRepository dailyStatsRepository;
+    @Autowired
+    private DailyStatsJdbcRepository dailyStatsJdbcRepository;
+    @Autowired
+    private PopularCourseTracker popularCourseTracker;
+    @Autowired
+    private EntityManager entityManager;
 
     private String adminToken;
 
     @BeforeEach
     void setUp() throws Exception{
         // DB 초기화
+        dailyStatsRepository.deleteAllInBatch();
         enrollmentRepository.deleteAllInBatch();
         paymentRepository.deleteAllInBatch();
         orderRepository.deleteAllInBatch();
@@ -136,6 +150,11 @@ public class AdminDashboardControllerTest extends IntegrationTestSupport {
         createPaymentAndEnrollment(parent, student2, courseB, new BigDecimal("20000.00"), Instant.now().minus(3, ChronoUnit.DAYS));
         // 8일 전 결제 1건 (C코스)
         createPaymentAndEnrollment(parent, student1, courseC, new BigDecimal("5000.00"), Instant.now().minus(8, ChronoUnit.DAYS));
+
+        // 집계는 JDBC 로 원본을 읽으므로 준비한 데이터를 먼저 DB 에 반영
+        entityManager.flush();
+        // 서비스를 거치지 않고 저장한 수강 정보를 인기 강좌 순위에 반영
+        popularCourseTracker.reload();
     }
 
     private void createPaymentAndEnrollment(User parent, User student, Course course, BigDecimal amount, Instant paidAt) throws Exception {
@@ -180,4 +199,25 @@ public class AdminDashboardControllerTest extends IntegrationTestSupport {
                 .andExpect(jsonPath("$.popularCourses[0].courseTitle").value("B코스"))
                 .andExpect(jsonPath("$.popularCourses[0].enrollmentCount").value(2));
     }
+
+    @Test
+    @DisplayName("한 번 집계된 날은 원본을 다시 세지 않고, 증분 반영된 집계 값을 읽는다.")
+    void getDashboardStatsFromRollup() throws Exception {
+        // 첫 조회에서 최근 7일의 집계 행이 원본 데이터로 채워짐
+        mockMvc.perform(get("/api/admin/dashboard/stats")
+                    .header(JwtAuthenticationFilter.AUTHORIZATION_HEADER, JwtAuthenticationFilter.BEARER_PREFIX + adminToken))
+                .andExpect(status().isOk());
+        assertThat(dailyStatsRepository.count()).isEqualTo(7);
+
+        // 결제 서비스가 하는 것처럼 증분만 반영
+        dailyStatsJdbcRepository.addPayment(Instant.now(), new BigDecimal("5000.00"));
+        dailyStatsJdbcRepository.addSignup(Instant.now());
+
+        mockMvc.perform(get("/api/admin/dashboard/stats")
+                    .header(JwtAuthenticationFilter.AUTHORIZATION_HEADER, JwtAuthenticationFilter.BEARER_PREFIX + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.dailyRevenue").value("35000.0"))
+                .andExpect(jsonPath("$.weeklyRevenue").value("55000.0"))
+                .andExpect(jsonPath("$.newUsersToday").value(8));
+    }
 }
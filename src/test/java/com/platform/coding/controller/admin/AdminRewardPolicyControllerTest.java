@@ -120,6 +120,22 @@ class AdminRewardPolicyControllerTest extends IntegrationTestSupport {
         assertThat(rewardPolicyRepository.findByPolicyKey(PolicyKey.REVIEW_REWARD_POINT_AMOUNT).get().getPolicyValue()).isEqualTo("1500");
     }
 
+    @Test
+    @DisplayName("숫자가 아닌 정책 값으로는 수정할 수 없다 (400 Bad Request).")
+    void updateRewardPoliciesWithInvalidValue() throws Exception {
+        // given
+        var requests = List.of(new RewardPolicyUpdateRequest(PolicyKey.REVIEW_REWARD_POINT_AMOUNT, "천 포인트"));
+
+        // when & then
+        mockMvc.perform(put("/api/admin/reward-policies")
+                        .header("Authorization", "Bearer " + superAdminToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isBadRequest());
+
+        assertThat(rewardPolicyRepository.findByPolicyKey(PolicyKey.REVIEW_REWARD_POINT_AMOUNT).get().getPolicyValue()).isEqualTo("1000");
+    }
+
     @Test
     @DisplayName("콘텐츠 매니저는 보상 정책을 수정할 수 없다 (403 Forbidden).")
     void updateRewardPoliciesByContentManager() throws Exception {
@@ -1,21 +1,32 @@
 package com.platform.coding.controller.course;
 
 import com.platform.coding.domain.course.*;
+import com.platform.coding.domain.enrollment.Enrollment;
+import com.platform.coding.domain.enrollment.EnrollmentRepository;
 import com.platform.coding.domain.user.User;
 import com.platform.coding.domain.user.UserRepository;
 import com.platform.coding.domain.user.UserType;
+import com.platform.coding.service.admin.AdminCourseService;
+import com.platform.coding.service.admin.dto.ChapterRequest;
+import com.platform.coding.service.course.PopularCourseTracker;
 import com.platform.coding.support.IntegrationTestSupport;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.math.BigDecimal;
 
+import static org.hamcrest.Matchers.not;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -30,11 +41,26 @@ public class CourseApiControllerTest extends IntegrationTestSupport {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private PopularCourseTracker popularCourseTracker;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private AdminCourseService adminCourseService;
+
     private User admin;
     private Course publishedCourse1;
+    private Course publishedCourse2;
+    private Course draftCourse;
 
     @BeforeEach
     void setUp() {
+        enrollmentRepository.deleteAllInBatch();
         userRepository.deleteAllInBatch();
         courseRepository.deleteAllInBatch();
 
@@ -47,8 +73,8 @@ public class CourseApiControllerTest extends IntegrationTestSupport {
                 .build());
 
         publishedCourse1 = createCourse("스프링 부트", CourseStatus.PUBLISHED);
-        createCourse("JPA 기초", CourseStatus.PUBLISHED);
-        createCourse("리액트", CourseStatus.DRAFT);
+        publishedCourse2 = createCourse("JPA 기초", CourseStatus.PUBLISHED);
+        draftCourse = createCourse("리액트", CourseStatus.DRAFT);
     }
 
     private Course createCourse(String title, CourseStatus status) {
@@ -79,6 +105,21 @@ public class CourseApiControllerTest extends IntegrationTestSupport {
                 .andExpect(jsonPath("$.content[0].title").value("스프링 부트"));
     }
 
+    @Test
+    @DisplayName("강의 목록을 Slice 로 조회하면, 전체 개수 없이 다음 페이지 존재 여부와 강사 이름을 응답해야 한다.")
+    void getCourseSlice() throws Exception {
+        // when & then
+        mockMvc.perform(get("/api/courses/slice").param("size", "1"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].title").value("스프링 부트"))
+                .andExpect(jsonPath("$.content[0].instructorName").value("관리자"))
+                .andExpect(jsonPath("$.last").value(false))
+                .andExpect(jsonPath("$.totalElements").doesNotExist())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=60, public"));
+    }
+
     @Test
     @DisplayName("특정 강의의 상세 정보를 조회하면, 커리큘럼을 포함한 모든 정보가 응답해야 한다.")
     void getCourseDetailsSuccess() throws Exception {
@@ -98,6 +139,49 @@ public class CourseApiControllerTest extends IntegrationTestSupport {
                 .andExpect(jsonPath("$.curriculum[0].lectures[0].sample").value(true));
     }
 
+    @Test
+    @DisplayName("강의 상세를 같은 ETag 로 다시 요청하면, 본문 없이 304 Not Modified 로 응답해야 한다.")
+    void getCourseDetailsNotModified() throws Exception {
+        // given: 첫 응답의 ETag
+        Long courseId = publishedCourse1.getId();
+        MvcResult first = mockMvc.perform(get("/api/courses/{courseId}", courseId))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=30, public"))
+                .andReturn();
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+
+        // when & then
+        mockMvc.perform(get("/api/courses/{courseId}", courseId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=30, public"))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("관리자가 커리큘럼을 수정하면 강의 상세의 ETag 가 바뀌어, 이전 ETag 로 요청해도 새 내용을 응답해야 한다.")
+    void curriculumChangeInvalidatesEtag() throws Exception {
+        // given: 수정 전 ETag
+        Long courseId = publishedCourse1.getId();
+        String etag = mockMvc.perform(get("/api/courses/{courseId}", courseId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // when: 강의 자체가 아닌 챕터만 수정
+        Long chapterId = publishedCourse1.getChapters().get(0).getId();
+        adminCourseService.updateChapter(chapterId, new ChapterRequest("새 챕터", 1), admin);
+
+        // then
+        mockMvc.perform(get("/api/courses/{courseId}", courseId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(etag)))
+                .andExpect(jsonPath("$.curriculum[0].title").value("새 챕터"));
+    }
+
     @Test
     @DisplayName("존재하지 않는 강의 ID로 상세 정보를 요청하면 실패(400 Bad Request)해야 한다.")
     void getCourseDetailsFailsWithInvalidId() throws Exception {
@@ -111,4 +195,39 @@ public class CourseApiControllerTest extends IntegrationTestSupport {
                 .andExpect(jsonPath("$.code").value("INVALID_INPUT"))
                 .andExpect(jsonPath("$.message").value("존재하지 않는 강의입니다."));
     }
+
+    @Test
+    @DisplayName("인기 강의를 조회하면, 수강 등록이 많은 순으로 게시된 강의만 응답해야 한다.")
+    void getPopularCourses() throws Exception {
+        // given: 게시되지 않은 강의가 가장 많이 등록되어 있어도 제외되어야 함
+        enroll(draftCourse, 3);
+        enroll(publishedCourse2, 2);
+        enroll(publishedCourse1, 1);
+        // 순위는 JDBC 집계 쿼리로 다시 채우므로 저장한 수강 정보를 먼저 DB 에 반영
+        entityManager.flush();
+        popularCourseTracker.reload();
+
+        // when & then
+        mockMvc.perform(get("/api/courses/popular")
+                        .param("window", "LAST_7_DAYS")
+                        .param("limit", "5"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].title").value("JPA 기초"))
+                .andExpect(jsonPath("$[0].enrollmentCount").value(2))
+                .andExpect(jsonPath("$[1].title").value("스프링 부트"));
+    }
+
+    private void enroll(Course course, int studentCount) {
+        for (int i = 0; i < studentCount; i++) {
+            User student = userRepository.save(User.builder()
+                    .email(course.getId() + "-student" + i + "@example.com")
+                    .passwordHash("password_hash")
+                    .userName("학생" + i)
+                    .userType(UserType.STUDENT)
+                    .build());
+            enrollmentRepository.save(new Enrollment(student, course));
+        }
+    }
 }
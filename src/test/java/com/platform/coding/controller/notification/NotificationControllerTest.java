@@ -1,5 +1,6 @@
 package com.platform.coding.controller.notification;
 
+import com.jayway.jsonpath.JsonPath;
 import com.platform.coding.config.jwt.JwtAuthenticationFilter;
 import com.platform.coding.config.jwt.JwtUtil;
 import com.platform.coding.domain.notification.Notification;
@@ -75,6 +76,45 @@ public class NotificationControllerTest extends IntegrationTestSupport {
                 .andExpect(jsonPath("$.content[0].content").value("두 번째 알림"));
     }
 
+    @Test
+    @DisplayName("알림함은 커서로 최신순으로 이어서 조회하며, 전체 개수 없이 다음 커서만 반환한다.")
+    void getInboxWithCursor() throws Exception {
+        // 첫 페이지: 가장 최근 알림 1개와 다음 커서
+        String firstPage = mockMvc.perform(get("/api/notifications/inbox")
+                        .header(JwtAuthenticationFilter.AUTHORIZATION_HEADER, JwtAuthenticationFilter.BEARER_PREFIX + userToken)
+                        .param("size", "1"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.notifications.length()").value(1))
+                .andExpect(jsonPath("$.notifications[0].content").value("두 번째 알림"))
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty())
+                .andExpect(jsonPath("$.totalElements").doesNotExist())
+                .andReturn().getResponse().getContentAsString();
+        String nextCursor = JsonPath.read(firstPage, "$.nextCursor");
+
+        // 두 번째 페이지: 남은 알림 1개, 더 이상 다음 페이지 없음
+        mockMvc.perform(get("/api/notifications/inbox")
+                        .header(JwtAuthenticationFilter.AUTHORIZATION_HEADER, JwtAuthenticationFilter.BEARER_PREFIX + userToken)
+                        .param("cursor", nextCursor)
+                        .param("size", "1"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.notifications.length()").value(1))
+                .andExpect(jsonPath("$.notifications[0].content").value("첫 번째 알림"))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("잘못된 커서로 알림함을 조회하면 실패(400 Bad Request)해야 한다.")
+    void getInboxWithInvalidCursor() throws Exception {
+        mockMvc.perform(get("/api/notifications/inbox")
+                        .header(JwtAuthenticationFilter.AUTHORIZATION_HEADER, JwtAuthenticationFilter.BEARER_PREFIX + userToken)
+                        .param("cursor", "not-a-cursor"))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("유효하지 않은 커서입니다."));
+    }
+
     @Test
     @DisplayName("사용자는 자신의 특정 알림을 '읽음' 상태로 변경할 수 있다.")
     void markAsRead() throws Exception {
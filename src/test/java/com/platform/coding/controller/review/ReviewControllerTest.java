@@ -20,6 +20,7 @@ import com.platform.coding.domain.user.UserRepository;
 import com.platform.coding.domain.user.UserType;
 import com.platform.coding.service.review.ReviewService;
 import com.platform.coding.service.review.dto.ReviewRequest;
+import com.platform.coding.service.reward.RewardPolicyCache;
 import com.platform.coding.support.IntegrationTestSupport;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -27,6 +28,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.http.MediaType;
+import org.springframework.test.context.transaction.AfterTransaction;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.lang.reflect.Constructor;
@@ -63,6 +65,8 @@ public class ReviewControllerTest extends IntegrationTestSupport {
     private ReviewService reviewService;
     @Autowired
     private RewardPolicyRepository rewardPolicyRepository;
+    @Autowired
+    private RewardPolicyCache rewardPolicyCache;
 
     private User student;
     private String studentToken;
@@ -114,6 +118,14 @@ public class ReviewControllerTest extends IntegrationTestSupport {
         RewardPolicy minLengthPolicy = createPolicy(PolicyKey.REVIEW_REWARD_MIN_LENGTH, "10", "리뷰 최소 글자 수");
         RewardPolicy pointAmountPolicy = createPolicy(PolicyKey.REVIEW_REWARD_POINT_AMOUNT, "1000", "지급 포인트");
         rewardPolicyRepository.saveAll(List.of(minLengthPolicy, pointAmountPolicy));
+        // 후기 작성은 보상 정책 스냅샷을 사용하므로 테스트 트랜잭션 안의 정책으로 다시 읽어 둠
+        rewardPolicyCache.reload();
+    }
+
+    // 롤백된 정책이 다른 테스트의 스냅샷에 남지 않도록 함
+    @AfterTransaction
+    void restoreRewardPolicies() {
+        rewardPolicyCache.reload();
     }
 
     // RewardPolicy 엔티티를 생성하는 헬퍼 메소드
@@ -15,6 +15,7 @@ import com.platform.coding.domain.user.UserRepository;
 import com.platform.coding.domain.user.UserType;
 import com.platform.coding.service.submission.dto.SubmissionRequest;
 import com.platform.coding.support.IntegrationTestSupport;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -25,6 +26,7 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.math.BigDecimal;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -50,6 +52,8 @@ public class SubmissionControllerTest extends IntegrationTestSupport {
     private EnrollmentRepository enrollmentRepository;
     @Autowired
     private FeedbackRepository feedbackRepository;
+    @Autowired
+    private EntityManager entityManager;
 
     private User student, otherStudent, admin;
     private String studentToken, otherStudentToken;
@@ -115,6 +119,8 @@ public class SubmissionControllerTest extends IntegrationTestSupport {
                 .student(student)
                 .textContent("내 제출물")
                 .build());
+        // 제출은 JDBC 로 저장하므로 준비한 데이터를 먼저 DB 에 반영
+        entityManager.flush();
     }
 
     @Test
@@ -151,6 +157,25 @@ public class SubmissionControllerTest extends IntegrationTestSupport {
                 .andExpect(jsonPath("$.message").value("수강 중인 과제의 과제만 제출할 수 있습니다."));
     }
 
+    @Test
+    @DisplayName("이미 제출한 과제를 다시 제출하려고 하면 실패(400 Bad Request)하고 기존 제출물은 그대로 남아야 한다.")
+    void submitAssignmentFailWhenAlreadySubmitted() throws Exception {
+        // given: setUp 에서 이미 제출한 상태
+        SubmissionRequest request = new SubmissionRequest("한 번 더 제출합니다.");
+
+        // when & then
+        mockMvc.perform(post("/api/assignments/{assignmentId}/submissions", assignment.getId())
+                        .header(JwtAuthenticationFilter.AUTHORIZATION_HEADER, JwtAuthenticationFilter.BEARER_PREFIX + studentToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("이미 제출한 과제입니다."));
+
+        assertThat(submissionRepository.findAll()).singleElement()
+                .satisfies(submission -> assertThat(submission.getTextContent()).isEqualTo("내 제출물"));
+    }
+
     @Test
     @DisplayName("수강생은 피드백이 없는 자신의 제출물을 조회할 수 있다.")
     void getMySubmissionWithoutFeedback() throws Exception {
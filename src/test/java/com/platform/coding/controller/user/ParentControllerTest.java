@@ -8,6 +8,7 @@ import com.platform.coding.domain.user.UserRepository;
 import com.platform.coding.domain.user.UserType;
 import com.platform.coding.service.user.dto.ChildAccountCreateRequest;
 import com.platform.coding.support.IntegrationTestSupport;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -37,6 +38,8 @@ public class ParentControllerTest extends IntegrationTestSupport {
     private UserRepository userRepository;
     @Autowired
     private PasswordEncoder passwordEncoder;
+    @Autowired
+    private EntityManager entityManager;
 
     private String parentToken;
     private String studentToken;
@@ -59,6 +62,8 @@ public class ParentControllerTest extends IntegrationTestSupport {
                 .userType(UserType.SUPER_ADMIN)
                 .parent(parent)
                 .build());
+        // 자녀 계정은 JDBC 로 저장하므로 (이메일 중복 확인 포함) 준비한 데이터를 먼저 DB 에 반영
+        entityManager.flush();
 
         parentToken = jwtUtil.createAccessToken(parent);
         studentToken = jwtUtil.createAccessToken(studentUser);
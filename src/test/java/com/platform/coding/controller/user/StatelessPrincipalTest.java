@@ -0,0 +1,87 @@
+package com.platform.coding.controller.user;
+
+import com.platform.coding.config.jwt.JwtAuthenticationFilter;
+import com.platform.coding.config.jwt.JwtRevocationRegistry;
+import com.platform.coding.config.jwt.JwtUtil;
+import com.platform.coding.domain.user.User;
+import com.platform.coding.domain.user.UserRepository;
+import com.platform.coding.domain.user.UserType;
+import com.platform.coding.support.IntegrationTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+@TestPropertySource(properties = "app.jwt.stateless-principal=true")
+public class StatelessPrincipalTest extends IntegrationTestSupport {
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private JwtUtil jwtUtil;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JwtRevocationRegistry jwtRevocationRegistry;
+
+    private User user;
+    private String userToken;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .email("stateless@example.com")
+                .passwordHash("password_hash123")
+                .userName("토큰유저")
+                .userType(UserType.PARENT)
+                .isActive(true)
+                .build());
+        userToken = jwtUtil.createAccessToken(user);
+    }
+
+    @Test
+    @DisplayName("토큰 클레임만으로 인증 주체를 만들어 내 정보를 조회할 수 있다.")
+    void getMyInfoFromClaims() throws Exception {
+        mockMvc.perform(get("/api/users/me")
+                        .header(JwtAuthenticationFilter.AUTHORIZATION_HEADER, JwtAuthenticationFilter.BEARER_PREFIX + userToken))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.userId").value(user.getId()))
+                .andExpect(jsonPath("$.userName").value("토큰유저"))
+                .andExpect(jsonPath("$.email").value("stateless@example.com"));
+    }
+
+    @Test
+    @DisplayName("로그아웃 이후에는 이전에 발급된 액세스 토큰으로 인증할 수 없다.")
+    void rejectTokenAfterLogout() throws Exception {
+        mockMvc.perform(post("/api/users/logout")
+                        .header(JwtAuthenticationFilter.AUTHORIZATION_HEADER, JwtAuthenticationFilter.BEARER_PREFIX + userToken))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/users/me")
+                        .header(JwtAuthenticationFilter.AUTHORIZATION_HEADER, JwtAuthenticationFilter.BEARER_PREFIX + userToken))
+                .andDo(print())
+                .andExpect(status().is3xxRedirection());
+    }
+
+    @Test
+    @DisplayName("비활성화된 사용자의 토큰은 거절된다.")
+    void rejectTokenOfDeactivatedUser() throws Exception {
+        // 테스트 트랜잭션은 커밋되지 않으므로 폐기 목록에 직접 반영
+        jwtRevocationRegistry.deactivate(user.getId());
+
+        mockMvc.perform(get("/api/users/me")
+                        .header(JwtAuthenticationFilter.AUTHORIZATION_HEADER, JwtAuthenticationFilter.BEARER_PREFIX + userToken))
+                .andDo(print())
+                .andExpect(status().is3xxRedirection());
+    }
+}
@@ -0,0 +1,216 @@
+package com.platform.coding.domain;
+
+import com.platform.coding.config.datasource.ReplicaRoutingDataSource;
+import com.platform.coding.domain.course.Chapter;
+import com.platform.coding.domain.course.Course;
+import com.platform.coding.domain.course.CourseRepository;
+import com.platform.coding.domain.course.Lecture;
+import com.platform.coding.domain.rewardpolicy.PolicyKey;
+import com.platform.coding.domain.rewardpolicy.RewardPolicy;
+import com.platform.coding.domain.rewardpolicy.RewardPolicyRepository;
+import com.platform.coding.domain.user.User;
+import com.platform.coding.domain.user.UserRepository;
+import com.platform.coding.domain.user.UserType;
+import com.platform.coding.service.admin.AdminCourseService;
+import com.platform.coding.service.admin.AdminRewardPolicyService;
+import com.platform.coding.service.admin.CatalogCacheEvictor;
+import com.platform.coding.service.admin.dto.CourseUpdateRequest;
+import com.platform.coding.service.admin.dto.RewardPolicyUpdateRequest;
+import com.platform.coding.support.IntegrationTestSupport;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Hibernate 는 아직 커밋되지 않은 트랜잭션에서 저장한 엔티티를 2차 캐시에 올리지 않으므로,
+ * 이 테스트는 테스트 트랜잭션 없이 데이터를 커밋하고 끝난 뒤 직접 지운다.
+ */
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class CatalogSecondLevelCacheTest extends IntegrationTestSupport {
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CourseRepository courseRepository;
+    @Autowired
+    private RewardPolicyRepository rewardPolicyRepository;
+    @Autowired
+    private AdminCourseService adminCourseService;
+    @Autowired
+    private AdminRewardPolicyService adminRewardPolicyService;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private DataSource dataSource;
+
+    private User admin;
+    private Course course;
+    private Cache cache;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        admin = userRepository.save(User.builder()
+                .email("admin@example.com")
+                .passwordHash("password_hash123")
+                .userName("관리자")
+                .userType(UserType.SUPER_ADMIN)
+                .build());
+        course = Course.builder()
+                .admin(admin)
+                .title("파이썬 기초")
+                .price(new BigDecimal("50000"))
+                .build();
+        Chapter chapter = Chapter.builder().title("1장").order(1).build();
+        course.addChapter(chapter);
+        chapter.addLecture(Lecture.builder().title("1강").order(1).build());
+        chapter.addLecture(Lecture.builder().title("2강").order(2).build());
+        courseRepository.save(course);
+
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        cache = sessionFactory.getCache();
+        cache.evictAllRegions();
+        statistics = sessionFactory.getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        rewardPolicyRepository.deleteAll();
+        courseRepository.deleteById(course.getId());
+        userRepository.deleteById(admin.getId());
+        cache.evictAllRegions();
+    }
+
+    @Test
+    @DisplayName("한 번 읽은 강의와 챕터, 렉처는 다음 세션에서 DB를 조회하지 않고 2차 캐시에서 읽어야 한다.")
+    void catalogIsServedFromSecondLevelCache() {
+        // given: 첫 조회로 캐시를 채움
+        loadCurriculum(course.getId());
+        statistics.clear();
+
+        // when
+        int lectureCount = loadCurriculum(course.getId());
+
+        // then
+        assertThat(lectureCount).isEqualTo(2);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getDomainDataRegionStatistics(Course.class.getName()).getHitCount()).isEqualTo(1);
+        assertThat(statistics.getSecondLevelCacheMissCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("관리자가 강의를 수정하면 2차 캐시의 카탈로그 영역이 비워져야 한다.")
+    void adminCourseChangeEvictsCatalog() {
+        // given
+        loadCurriculum(course.getId());
+        assertThat(cache.containsEntity(Course.class, course.getId())).isTrue();
+
+        // when
+        adminCourseService.updateCourse(course.getId(),
+                new CourseUpdateRequest("파이썬 심화", null, new BigDecimal("60000")), admin);
+
+        // then
+        assertThat(cache.containsEntity(Course.class, course.getId())).isFalse();
+        assertThat(cache.containsCollection(Course.class.getName() + ".chapters", course.getId())).isFalse();
+        assertThat(courseRepository.findById(course.getId()).orElseThrow().getTitle()).isEqualTo("파이썬 심화");
+    }
+
+    @Test
+    @DisplayName("관리자가 보상 정책을 수정하면 2차 캐시의 보상 정책 영역이 비워져야 한다.")
+    void adminRewardPolicyChangeEvictsPolicies() throws Exception {
+        // given
+        RewardPolicy policy = rewardPolicyRepository.save(createPolicy(PolicyKey.REVIEW_REWARD_MIN_LENGTH, "50"));
+        rewardPolicyRepository.findById(policy.getId());
+        assertThat(cache.containsEntity(RewardPolicy.class, policy.getId())).isTrue();
+
+        // when
+        adminRewardPolicyService.updatePolicies(
+                List.of(new RewardPolicyUpdateRequest(PolicyKey.REVIEW_REWARD_MIN_LENGTH, "100")), admin);
+
+        // then
+        assertThat(cache.containsEntity(RewardPolicy.class, policy.getId())).isFalse();
+        assertThat(rewardPolicyRepository.findById(policy.getId()).orElseThrow().getPolicyValue()).isEqualTo("100");
+    }
+
+    @Test
+    @DisplayName("복제본을 사용하면, 카탈로그를 비운 뒤 복제 지연이 해소될 때까지 2차 캐시를 다시 채우는 읽기 전용 트랜잭션도 원본에서 읽어야 한다.")
+    void catalogEvictionHoldsReadsOnPrimary() {
+        // given: 같은 DB 에 접속하되 연결 이름으로 원본/복제본을 구분
+        try (ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(
+                connectionPool("primary"), connectionPool("replica"), Duration.ofHours(1), Duration.ofSeconds(10))) {
+            CatalogCacheEvictor evictor = new CatalogCacheEvictor(entityManagerFactory,
+                    new StaticListableBeanFactory(Map.of("dataSource", routing)).getBeanProvider(ReplicaRoutingDataSource.class));
+            assertThat(readOnlyConnectionName(routing)).isEqualTo("replica");
+
+            // when: 관리자 변경이 커밋됨 (트랜잭션 밖에서 호출하면 커밋 후 작업이 바로 실행됨)
+            evictor.evictCourseCatalog();
+
+            // then
+            assertThat(readOnlyConnectionName(routing)).isEqualTo("primary");
+        }
+    }
+
+    // 새 트랜잭션에서 강의 -> 챕터 -> 렉처를 차례로 읽고 렉처 수를 반환
+    private int loadCurriculum(Long courseId) {
+        return transactionTemplate.execute(status -> courseRepository.findById(courseId).orElseThrow()
+                .getChapters().stream()
+                .mapToInt(chapter -> chapter.getLectures().size())
+                .sum());
+    }
+
+    private HikariDataSource connectionPool(String applicationName) {
+        HikariDataSource application = (HikariDataSource) dataSource;
+        HikariDataSource pool = new HikariDataSource();
+        pool.setJdbcUrl(application.getJdbcUrl());
+        pool.setUsername(application.getUsername());
+        pool.setPassword(application.getPassword());
+        pool.addDataSourceProperty("ApplicationName", applicationName);
+        return pool;
+    }
+
+    private String readOnlyConnectionName(DataSource routing) {
+        TransactionTemplate readOnly = new TransactionTemplate(new JdbcTransactionManager(routing));
+        readOnly.setReadOnly(true);
+        return readOnly.execute(status ->
+                new JdbcTemplate(routing).queryForObject("SELECT current_setting('application_name')", String.class));
+    }
+
+    private RewardPolicy createPolicy(PolicyKey key, String value) throws Exception {
+        Constructor<RewardPolicy> constructor = RewardPolicy.class.getDeclaredConstructor();
+        constructor.setAccessible(true);
+        RewardPolicy policy = constructor.newInstance();
+        setField(policy, "policyKey", key);
+        setField(policy, "policyValue", value);
+        return policy;
+    }
+
+    private void setField(Object target, String fieldName, Object value) throws Exception {
+        Field field = target.getClass().getDeclaredField(fieldName);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
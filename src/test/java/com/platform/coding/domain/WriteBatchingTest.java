@@ -0,0 +1,114 @@
+package com.platform.coding.domain;
+
+import com.platform.coding.domain.course.Course;
+import com.platform.coding.domain.course.CourseRepository;
+import com.platform.coding.domain.notification.NotificationRepository;
+import com.platform.coding.domain.payment.Order;
+import com.platform.coding.domain.payment.OrderRepository;
+import com.platform.coding.domain.user.User;
+import com.platform.coding.domain.user.UserRepository;
+import com.platform.coding.domain.user.UserType;
+import com.platform.coding.service.notification.NotificationOutboxHandler;
+import com.platform.coding.service.notification.NotificationRequestedEvent;
+import com.platform.coding.support.IntegrationTestSupport;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class WriteBatchingTest extends IntegrationTestSupport {
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CourseRepository courseRepository;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private NotificationRepository notificationRepository;
+    @Autowired
+    private NotificationOutboxHandler notificationOutboxHandler;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User admin;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        admin = userRepository.save(User.builder()
+                .email("admin@example.com")
+                .passwordHash("password_hash123")
+                .userName("관리자")
+                .userType(UserType.SUPER_ADMIN)
+                .build());
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("주문 항목은 개수와 관계없이 주문과 함께 INSERT 문 두 개의 배치로 저장되어야 한다.")
+    void orderItemsAreBatchInserted() {
+        // given
+        User parent = createUser("parent@example.com", UserType.PARENT);
+        List<Course> courses = courseRepository.saveAll(IntStream.rangeClosed(1, 20)
+                .mapToObj(i -> Course.builder()
+                        .admin(admin)
+                        .title("강의 " + i)
+                        .price(new BigDecimal("1000"))
+                        .build())
+                .toList());
+        entityManager.flush();
+
+        // when: ID 는 저장 시점에 시퀀스에서 받으므로, 플러시에서 나가는 문장만 센다
+        orderRepository.save(new Order(parent, courses));
+        statistics.clear();
+        entityManager.flush();
+
+        // then: 주문 1건, 주문 항목 20건
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(21);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("여러 사용자에게 보내는 알림은 INSERT 문 하나의 배치로 저장되어야 한다.")
+    void notificationFanOutIsBatchInserted() {
+        // given
+        List<NotificationRequestedEvent> events = IntStream.rangeClosed(1, 30)
+                .mapToObj(i -> createUser("user" + i + "@example.com", UserType.PARENT))
+                .map(user -> new NotificationRequestedEvent(user.getId(), "새 소식이 있습니다.", "/notifications"))
+                .toList();
+        entityManager.flush();
+
+        // when
+        notificationOutboxHandler.handle(events);
+        statistics.clear();
+        entityManager.flush();
+
+        // then
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(30);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(notificationRepository.count()).isEqualTo(30);
+    }
+
+    private User createUser(String email, UserType userType) {
+        return userRepository.save(User.builder()
+                .email(email)
+                .passwordHash("password_hash123")
+                .userName(email)
+                .userType(userType)
+                .build());
+    }
+}
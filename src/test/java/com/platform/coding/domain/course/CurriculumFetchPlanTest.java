@@ -0,0 +1,136 @@
+package com.platform.coding.domain.course;
+
+import com.platform.coding.domain.submission.Assignment;
+import com.platform.coding.domain.submission.AssignmentRepository;
+import com.platform.coding.domain.user.User;
+import com.platform.coding.domain.user.UserRepository;
+import com.platform.coding.domain.user.UserType;
+import com.platform.coding.support.IntegrationTestSupport;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class CurriculumFetchPlanTest extends IntegrationTestSupport {
+    @Autowired
+    private CourseRepository courseRepository;
+    @Autowired
+    private ChapterRepository chapterRepository;
+    @Autowired
+    private AssignmentRepository assignmentRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User admin;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        admin = userRepository.save(User.builder()
+                .email("admin@example.com")
+                .passwordHash("password_hash123")
+                .userName("관리자")
+                .userType(UserType.SUPER_ADMIN)
+                .build());
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("커리큘럼 조회 쿼리 수는 렉처 수가 늘어나도 일정해야 한다.")
+    void curriculumQueryCountIsConstant() {
+        // given: 렉처 수만 다른 두 강의
+        Long smallCourseId = createCourse(2, 1);
+        Long largeCourseId = createCourse(5, 20);
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        long smallCourseQueries = countQueriesWhileLoading(smallCourseId);
+        long largeCourseQueries = countQueriesWhileLoading(largeCourseId);
+
+        // then: 강의+강사, 챕터+렉처, 과제 각각 한 번씩
+        assertThat(smallCourseQueries).isEqualTo(3);
+        assertThat(largeCourseQueries).isEqualTo(smallCourseQueries);
+    }
+
+    @Test
+    @DisplayName("챕터와 렉처를 함께 조회할 때, 렉처가 없는 챕터도 포함되어야 한다.")
+    void findChaptersIncludingEmptyChapter() {
+        // given
+        Course course = Course.builder()
+                .admin(admin)
+                .title("빈 챕터가 있는 강의")
+                .price(BigDecimal.ZERO)
+                .build();
+        Chapter chapter = Chapter.builder().title("렉처 있는 챕터").order(1).build();
+        chapter.addLecture(Lecture.builder().title("1강").order(1).build());
+        course.addChapter(chapter);
+        course.addChapter(Chapter.builder().title("빈 챕터").order(2).build());
+        Long courseId = courseRepository.save(course).getId();
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<Chapter> chapters = chapterRepository.findAllWithLecturesByCourseId(courseId);
+
+        // then
+        assertThat(chapters).hasSize(2);
+        assertThat(chapters).extracting(Chapter::getTitle).containsExactlyInAnyOrder("렉처 있는 챕터", "빈 챕터");
+    }
+
+    private long countQueriesWhileLoading(Long courseId) {
+        statistics.clear();
+
+        Course course = courseRepository.findWithAdminById(courseId).orElseThrow();
+        List<Chapter> chapters = chapterRepository.findAllWithLecturesByCourseId(courseId);
+        List<Assignment> assignments = assignmentRepository.findAllByCourseId(courseId);
+
+        // 스냅샷을 만들 때 접근하는 모든 연관 데이터를 읽어 지연 로딩이 발생하지 않는지 확인
+        assertThat(course.getAdmin().getUserName()).isEqualTo("관리자");
+        chapters.forEach(chapter -> chapter.getLectures().forEach(Lecture::getTitle));
+        assignments.forEach(assignment -> assignment.getLecture().getId());
+
+        long queryCount = statistics.getPrepareStatementCount();
+        entityManager.clear();
+        return queryCount;
+    }
+
+    private Long createCourse(int chapterCount, int lecturesPerChapter) {
+        Course course = Course.builder()
+                .admin(admin)
+                .title("강의")
+                .price(BigDecimal.ZERO)
+                .build();
+        for (int c = 1; c <= chapterCount; c++) {
+            Chapter chapter = Chapter.builder().title(c + "챕터").order(c).build();
+            for (int l = 1; l <= lecturesPerChapter; l++) {
+                chapter.addLecture(Lecture.builder().title(c + "-" + l + "강").order(l).durationSeconds(100).build());
+            }
+            course.addChapter(chapter);
+        }
+        Course savedCourse = courseRepository.save(course);
+
+        savedCourse.getChapters().forEach(chapter -> chapter.getLectures().forEach(lecture ->
+                assignmentRepository.save(Assignment.builder()
+                        .lecture(lecture)
+                        .title(lecture.getTitle() + " 과제")
+                        .content("과제 내용")
+                        .build())));
+        return savedCourse.getId();
+    }
+}
@@ -0,0 +1,33 @@
+package com.platform.coding.domain.profanity;
+
+import com.platform.coding.support.IntegrationTestSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ForbiddenWordJdbcRepositoryTest extends IntegrationTestSupport {
+    @Autowired
+    private ForbiddenWordJdbcRepository forbiddenWordJdbcRepository;
+    @Autowired
+    private ForbiddenWordRepository forbiddenWordRepository;
+
+    @Test
+    @DisplayName("기본 금지어는 테이블이 비어 있을 때만 등록되어야 한다.")
+    void insertOnlyIntoEmptyTable() {
+        // given: 기동 시 등록된 기본 금지어를 지움
+        forbiddenWordRepository.deleteAllInBatch();
+
+        // when
+        int first = forbiddenWordJdbcRepository.insertAllIfEmpty(List.of("바보", "광고"));
+        int second = forbiddenWordJdbcRepository.insertAllIfEmpty(List.of("홍보"));
+
+        // then
+        assertThat(first).isEqualTo(2);
+        assertThat(second).isZero();
+        assertThat(forbiddenWordRepository.findAllWords()).containsExactlyInAnyOrder("바보", "광고");
+    }
+}
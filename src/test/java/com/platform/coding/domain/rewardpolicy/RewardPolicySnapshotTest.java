@@ -0,0 +1,48 @@
+package com.platform.coding.domain.rewardpolicy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class RewardPolicySnapshotTest {
+
+    @Test
+    @DisplayName("정책 값 문자열은 스냅샷을 만들 때 타입에 맞게 해석되어야 한다.")
+    void parsesPolicyValues() {
+        RewardPolicySnapshot snapshot = RewardPolicySnapshot.from(Map.of(
+                PolicyKey.REVIEW_REWARD_MIN_LENGTH, "10",
+                PolicyKey.REVIEW_REWARD_POINT_AMOUNT, " 1500.50 "));
+
+        assertThat(snapshot.reviewRewardMinLength()).isEqualTo(10);
+        assertThat(snapshot.reviewRewardPointAmount()).isEqualByComparingTo("1500.50");
+    }
+
+    @Test
+    @DisplayName("DB에 없는 정책은 기본값(최소 50자, 0포인트)을 사용해야 한다.")
+    void missingPoliciesUseDefaults() {
+        RewardPolicySnapshot snapshot = RewardPolicySnapshot.from(Map.of(PolicyKey.REVIEW_REWARD_POINT_AMOUNT, "1000"));
+
+        assertThat(snapshot.reviewRewardMinLength()).isEqualTo(50);
+        assertThat(snapshot.reviewRewardPointAmount()).isEqualByComparingTo("1000");
+        assertThat(RewardPolicySnapshot.from(Map.of())).isEqualTo(RewardPolicySnapshot.DEFAULTS);
+        assertThat(RewardPolicySnapshot.DEFAULTS.reviewRewardPointAmount()).isEqualByComparingTo(BigDecimal.ZERO);
+    }
+
+    @Test
+    @DisplayName("숫자가 아니거나 음수인 정책 값은 거부해야 한다.")
+    void rejectsInvalidValues() {
+        assertThatThrownBy(() -> RewardPolicySnapshot.DEFAULTS.with(PolicyKey.REVIEW_REWARD_MIN_LENGTH, "열"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("REVIEW_REWARD_MIN_LENGTH");
+        assertThatThrownBy(() -> RewardPolicySnapshot.DEFAULTS.with(PolicyKey.REVIEW_REWARD_MIN_LENGTH, "10.5"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RewardPolicySnapshot.DEFAULTS.with(PolicyKey.REVIEW_REWARD_POINT_AMOUNT, "-100"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("REVIEW_REWARD_POINT_AMOUNT");
+    }
+}
@@ -0,0 +1,162 @@
+package com.platform.coding.service.course;
+
+import com.platform.coding.config.datasource.PrimaryReadTransaction;
+import com.platform.coding.domain.course.CourseRepository;
+import com.platform.coding.domain.course.CourseStatus;
+import com.platform.coding.domain.course.SimpleCourseResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CatalogPageCacheTest {
+    private static final List<SimpleCourseResponse> COURSES = List.of(
+            new SimpleCourseResponse(1L, "스프링 부트", "관리자", new BigDecimal("50000")),
+            new SimpleCourseResponse(2L, "JPA 기초", "관리자", new BigDecimal("50000")));
+
+    private CourseRepository courseRepository;
+    private CatalogPageCache cache;
+
+    @BeforeEach
+    void setUp() {
+        courseRepository = mock(CourseRepository.class);
+        when(courseRepository.findCatalogPageByStatus(eq(CourseStatus.PUBLISHED), any()))
+                .thenAnswer(invocation -> {
+                    Pageable pageable = invocation.getArgument(1);
+                    return new PageImpl<>(COURSES, pageable, 5);
+                });
+        PrimaryReadTransaction primaryRead = new PrimaryReadTransaction(mock(PlatformTransactionManager.class));
+        cache = new CatalogPageCache(courseRepository, primaryRead, new SimpleMeterRegistry(), 2, 10, 60);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("앞쪽 페이지는 한 번 조회한 뒤에는 DB 를 조회하지 않고 캐시에서 반환한다.")
+    void servesFirstPagesFromCache() {
+        Pageable pageable = PageRequest.of(0, 2);
+
+        cache.getPage(pageable);
+        Page<SimpleCourseResponse> page = cache.getPage(pageable);
+
+        assertThat(page.getContent()).isEqualTo(COURSES);
+        assertThat(page.getTotalElements()).isEqualTo(5);
+        verify(courseRepository, times(1)).findCatalogPageByStatus(CourseStatus.PUBLISHED, pageable);
+    }
+
+    @Test
+    @DisplayName("캐시 범위를 벗어난 페이지 번호나 크기는 매번 DB 에서 조회한다.")
+    void bypassesCacheOutsideConfiguredPages() {
+        Pageable laterPage = PageRequest.of(2, 2);
+        Pageable largePage = PageRequest.of(0, 11);
+
+        cache.getPage(laterPage);
+        cache.getPage(laterPage);
+        cache.getPage(largePage);
+        cache.getPage(largePage);
+
+        verify(courseRepository, times(2)).findCatalogPageByStatus(CourseStatus.PUBLISHED, laterPage);
+        verify(courseRepository, times(2)).findCatalogPageByStatus(CourseStatus.PUBLISHED, largePage);
+    }
+
+    @Test
+    @DisplayName("무효화하면 다음 조회는 DB 에서 다시 읽는다.")
+    void invalidateEvictsPages() {
+        Pageable pageable = PageRequest.of(0, 2);
+        cache.getPage(pageable);
+
+        cache.invalidate();
+        cache.getPage(pageable);
+
+        verify(courseRepository, times(2)).findCatalogPageByStatus(CourseStatus.PUBLISHED, pageable);
+    }
+
+    @Test
+    @DisplayName("조회한 트랜잭션이 롤백되면 그 결과는 캐시에 남기지 않는다.")
+    void doesNotCacheRolledBackLoads() {
+        Pageable pageable = PageRequest.of(0, 2);
+        TransactionSynchronizationManager.initSynchronization();
+        cache.getPage(pageable);
+        completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        cache.getPage(pageable);
+
+        verify(courseRepository, times(2)).findCatalogPageByStatus(CourseStatus.PUBLISHED, pageable);
+    }
+
+    @Test
+    @DisplayName("조회 도중 무효화가 일어나면 커밋 후에도 이전 결과를 캐시하지 않는다.")
+    void dropsLoadsThatRaceWithInvalidation() {
+        Pageable pageable = PageRequest.of(0, 2);
+        TransactionSynchronizationManager.initSynchronization();
+        cache.getPage(pageable);
+        // 트랜잭션이 끝나기 전에 다른 요청이 강의를 게시함
+        invalidateOutsideTransaction();
+        completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+
+        cache.getPage(pageable);
+
+        verify(courseRepository, times(2)).findCatalogPageByStatus(CourseStatus.PUBLISHED, pageable);
+    }
+
+    @Test
+    @DisplayName("Slice 조회는 캐시된 페이지가 있으면 그 내용을, 없으면 전체 개수 없이 DB 에서 조회한다.")
+    void sliceUsesCachedPageOrSkipsCount() {
+        Pageable cachedPageable = PageRequest.of(0, 2);
+        Pageable otherPageable = PageRequest.of(1, 2);
+        when(courseRepository.findCatalogSliceByStatus(CourseStatus.PUBLISHED, otherPageable))
+                .thenReturn(new SliceImpl<>(COURSES, otherPageable, false));
+        cache.getPage(cachedPageable);
+
+        Slice<SimpleCourseResponse> cached = cache.getSlice(cachedPageable);
+        Slice<SimpleCourseResponse> loaded = cache.getSlice(otherPageable);
+
+        assertThat(cached.getContent()).isEqualTo(COURSES);
+        assertThat(cached.hasNext()).isTrue();
+        assertThat(loaded.hasNext()).isFalse();
+        verify(courseRepository, never()).findCatalogSliceByStatus(CourseStatus.PUBLISHED, cachedPageable);
+        verify(courseRepository, times(1)).findCatalogPageByStatus(eq(CourseStatus.PUBLISHED), any());
+    }
+
+    // 현재 스레드의 트랜잭션 동기화를 잠시 내려두고, 트랜잭션 밖의 다른 요청처럼 무효화함
+    private void invalidateOutsideTransaction() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        cache.invalidate();
+        TransactionSynchronizationManager.initSynchronization();
+        synchronizations.forEach(TransactionSynchronizationManager::registerSynchronization);
+    }
+
+    private void completeTransaction(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+}
@@ -0,0 +1,108 @@
+package com.platform.coding.service.course;
+
+import com.platform.coding.config.datasource.PrimaryReadTransaction;
+import com.platform.coding.domain.course.ChapterRepository;
+import com.platform.coding.domain.course.Course;
+import com.platform.coding.domain.course.CourseRepository;
+import com.platform.coding.domain.course.LectureRepository;
+import com.platform.coding.domain.submission.AssignmentRepository;
+import com.platform.coding.domain.user.User;
+import com.platform.coding.domain.user.UserType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CurriculumCacheTest {
+    private static final Long COURSE_ID = 1L;
+
+    private CourseRepository courseRepository;
+    private CurriculumCache cache;
+    private Course course;
+
+    @BeforeEach
+    void setUp() {
+        courseRepository = mock(CourseRepository.class);
+        ChapterRepository chapterRepository = mock(ChapterRepository.class);
+        AssignmentRepository assignmentRepository = mock(AssignmentRepository.class);
+        when(chapterRepository.findAllWithLecturesByCourseId(any())).thenReturn(List.of());
+        when(assignmentRepository.findAllByCourseId(any())).thenReturn(List.of());
+        PrimaryReadTransaction primaryRead = new PrimaryReadTransaction(mock(PlatformTransactionManager.class));
+        cache = new CurriculumCache(courseRepository, chapterRepository, mock(LectureRepository.class),
+                assignmentRepository, primaryRead, new SimpleMeterRegistry(), 100);
+
+        User admin = User.fromClaims(10L, "admin@example.com", "관리자", UserType.SUPER_ADMIN);
+        course = Course.builder()
+                .admin(admin)
+                .title("자바 입문")
+                .price(new BigDecimal("10000"))
+                .build();
+    }
+
+    @Test
+    @DisplayName("스냅샷은 처음 조회할 때만 만들고, 무효화되면 다시 만든다.")
+    void loadOnceUntilInvalidated() {
+        when(courseRepository.findWithAdminById(COURSE_ID)).thenReturn(Optional.of(course));
+
+        cache.get(COURSE_ID);
+        cache.get(COURSE_ID);
+        verify(courseRepository, times(1)).findWithAdminById(COURSE_ID);
+
+        cache.invalidate(COURSE_ID);
+        cache.get(COURSE_ID);
+        verify(courseRepository, times(2)).findWithAdminById(COURSE_ID);
+    }
+
+    @Test
+    @DisplayName("만드는 도중에 무효화된 스냅샷은 이번 요청에만 사용하고 캐시에 남기지 않는다.")
+    void discardSnapshotInvalidatedWhileLoading() throws InterruptedException {
+        // 다른 스레드의 커리큘럼 변경이 스냅샷을 만드는 도중에 커밋됨
+        Thread invalidator = new Thread(() -> cache.invalidate(COURSE_ID));
+        AtomicBoolean firstLoad = new AtomicBoolean(true);
+        when(courseRepository.findWithAdminById(COURSE_ID)).thenAnswer(invocation -> {
+            if (firstLoad.getAndSet(false)) {
+                invalidator.start();
+                awaitBlocked(invalidator);
+            }
+            return Optional.of(course);
+        });
+
+        assertThat(cache.find(COURSE_ID)).isPresent();
+        invalidator.join();
+        assertThat(cache.find(COURSE_ID)).isPresent();
+        assertThat(cache.find(COURSE_ID)).isPresent();
+
+        // 첫 스냅샷은 버려지고, 두 번째 스냅샷부터 캐시됨
+        verify(courseRepository, times(2)).findWithAdminById(COURSE_ID);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 강의는 빈 값을 반환한다.")
+    void missingCourse() {
+        when(courseRepository.findWithAdminById(COURSE_ID)).thenReturn(Optional.empty());
+
+        assertThat(cache.find(COURSE_ID)).isEmpty();
+    }
+
+    // 무효화 스레드가 만드는 중인 스냅샷을 기다리며 멈출 때까지 대기
+    private void awaitBlocked(Thread thread) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (thread.getState() != Thread.State.BLOCKED && thread.getState() != Thread.State.WAITING
+                && thread.isAlive() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+}
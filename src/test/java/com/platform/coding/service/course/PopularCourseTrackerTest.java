@@ -0,0 +1,138 @@
+package com.platform.coding.service.course;
+
+import com.platform.coding.domain.enrollment.CourseEnrollmentCount;
+import com.platform.coding.domain.enrollment.EnrollmentJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.*;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PopularCourseTrackerTest {
+    private static final LocalDate TODAY = LocalDate.of(2025, 3, 31);
+
+    private EnrollmentJdbcRepository enrollmentJdbcRepository;
+    private MutableClock clock;
+    private PopularCourseTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        enrollmentJdbcRepository = mock(EnrollmentJdbcRepository.class);
+        clock = new MutableClock(TODAY.atTime(12, 0).toInstant(ZoneOffset.UTC));
+        tracker = new PopularCourseTracker(enrollmentJdbcRepository, 3, clock);
+    }
+
+    @Test
+    @DisplayName("집계 쿼리 결과로 전체/최근 7일/최근 30일 순위를 채운다.")
+    void seedFromAggregate() {
+        when(enrollmentJdbcRepository.countByCourseAndRecentDay(any())).thenReturn(List.of(
+                new CourseEnrollmentCount(1L, null, 10),          // 30일 이전 등록
+                new CourseEnrollmentCount(2L, TODAY.minusDays(20), 4),
+                new CourseEnrollmentCount(3L, TODAY, 2),
+                new CourseEnrollmentCount(3L, TODAY.minusDays(6), 1)
+        ));
+
+        tracker.reload();
+
+        assertThat(tracker.top(PopularityWindow.ALL_TIME, 5)).containsExactly(
+                new PopularCourseTracker.Rank(1L, 10),
+                new PopularCourseTracker.Rank(2L, 4),
+                new PopularCourseTracker.Rank(3L, 3));
+        assertThat(tracker.top(PopularityWindow.LAST_30_DAYS, 5)).containsExactly(
+                new PopularCourseTracker.Rank(2L, 4),
+                new PopularCourseTracker.Rank(3L, 3));
+        assertThat(tracker.top(PopularityWindow.LAST_7_DAYS, 5)).containsExactly(
+                new PopularCourseTracker.Rank(3L, 3));
+    }
+
+    @Test
+    @DisplayName("수강 등록과 취소가 모든 기간의 순위에 반영되고, 같은 수는 강의 ID 순으로 정렬된다.")
+    void applyEnrollmentsAndCancellations() {
+        Instant now = clock.instant();
+        tracker.enrolled(1L, now);
+        tracker.enrolled(2L, now);
+        tracker.enrolled(2L, now);
+        tracker.enrolled(3L, now);
+
+        assertThat(tracker.top(PopularityWindow.LAST_7_DAYS, 5)).containsExactly(
+                new PopularCourseTracker.Rank(2L, 2),
+                new PopularCourseTracker.Rank(1L, 1),
+                new PopularCourseTracker.Rank(3L, 1));
+
+        tracker.cancelled(2L, now);
+        tracker.cancelled(2L, now);
+
+        assertThat(tracker.top(PopularityWindow.ALL_TIME, 5)).containsExactly(
+                new PopularCourseTracker.Rank(1L, 1),
+                new PopularCourseTracker.Rank(3L, 1));
+    }
+
+    @Test
+    @DisplayName("날짜가 바뀌면 기간을 벗어난 날의 수강 등록이 최근 순위에서 빠지고, 전체 순위에는 남는다.")
+    void rotateWindows() {
+        tracker.enrolled(1L, clock.instant());
+        clock.advance(Duration.ofDays(1));
+        tracker.enrolled(2L, clock.instant());
+        tracker.enrolled(2L, clock.instant());
+
+        // 첫 등록일로부터 7일째까지는 최근 7일에 포함
+        clock.advance(Duration.ofDays(5));
+        assertThat(tracker.top(PopularityWindow.LAST_7_DAYS, 5)).hasSize(2);
+
+        clock.advance(Duration.ofDays(1));
+        assertThat(tracker.top(PopularityWindow.LAST_7_DAYS, 5)).containsExactly(
+                new PopularCourseTracker.Rank(2L, 2));
+        assertThat(tracker.top(PopularityWindow.LAST_30_DAYS, 5)).hasSize(2);
+
+        clock.advance(Duration.ofDays(30));
+        assertThat(tracker.top(PopularityWindow.LAST_7_DAYS, 5)).isEmpty();
+        assertThat(tracker.top(PopularityWindow.LAST_30_DAYS, 5)).isEmpty();
+        assertThat(tracker.top(PopularityWindow.ALL_TIME, 5)).containsExactly(
+                new PopularCourseTracker.Rank(2L, 2),
+                new PopularCourseTracker.Rank(1L, 1));
+    }
+
+    @Test
+    @DisplayName("조회 개수는 유지 중인 순위 크기를 넘지 않는다.")
+    void limitToRankSize() {
+        for (long courseId = 1; courseId <= 5; courseId++) {
+            tracker.enrolled(courseId, clock.instant());
+        }
+
+        assertThat(tracker.top(PopularityWindow.ALL_TIME, 10)).hasSize(3);
+        assertThat(tracker.top(PopularityWindow.ALL_TIME, 2)).hasSize(2);
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        private void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -1,13 +1,16 @@
 package com.platform.coding.service.filter;
 
+import com.platform.coding.domain.profanity.ForbiddenWordRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
 
 public class ProfanityFilterServiceTest {
-    private final ProfanityFilterService profanityFilterService = new ProfanityFilterService();
+    // DB 에서 다시 읽기 전까지는 기본 금지어 목록을 사용
+    private final ProfanityFilterService profanityFilterService = new ProfanityFilterService(mock(ForbiddenWordRepository.class));
 
     @DisplayName("금지어가 포함된 텍스트는 true를 반환해야 한다.")
     @ParameterizedTest
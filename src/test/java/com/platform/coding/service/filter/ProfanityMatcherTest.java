@@ -0,0 +1,52 @@
+package com.platform.coding.service.filter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ProfanityMatcherTest {
+
+    @Test
+    @DisplayName("다른 금지어의 접두어를 따라가다 실패해도 겹쳐 있는 금지어를 찾아야 한다.")
+    void findsOverlappingWordsThroughFailureLinks() {
+        ProfanityMatcher matcher = ProfanityMatcher.compile(List.of("abcd", "bc", "she", "hers"));
+
+        assertThat(matcher.matches("xxabcexx")).isTrue();   // abcd 를 따라가다 bc 에서 발견
+        assertThat(matcher.matches("ushe")).isTrue();       // she
+        assertThat(matcher.matches("hhers")).isTrue();      // hers
+        assertThat(matcher.matches("abdc her")).isFalse();
+    }
+
+    @Test
+    @DisplayName("금지어 자체의 공백과 대소문자도 검사 규칙과 같게 정규화된다.")
+    void normalizesWordsAndText() {
+        ProfanityMatcher matcher = ProfanityMatcher.compile(List.of(" Spam Site "));
+
+        assertThat(matcher.matches("visit S P A M s i t e now")).isTrue();
+        assertThat(ProfanityMatcher.normalize(" Spam Site ")).isEqualTo("spamsite");
+    }
+
+    @Test
+    @DisplayName("금지어가 수천 개여도 정상 텍스트는 통과하고, 목록 끝의 금지어도 찾아야 한다.")
+    void handlesLargeWordLists() {
+        List<String> words = IntStream.range(0, 5000).mapToObj(i -> "금지어" + i + "끝").toList();
+        ProfanityMatcher matcher = ProfanityMatcher.compile(words);
+
+        assertThat(matcher.wordCount()).isEqualTo(5000);
+        assertThat(matcher.matches("정말 좋은 강의입니다. 금지어 없음")).isFalse();
+        assertThat(matcher.matches("여기에 금지어4999끝 이 있습니다")).isTrue();
+    }
+
+    @Test
+    @DisplayName("빈 금지어 목록은 어떤 텍스트도 걸러내지 않는다.")
+    void emptyWordList() {
+        ProfanityMatcher matcher = ProfanityMatcher.compile(List.of("", "  "));
+
+        assertThat(matcher.wordCount()).isZero();
+        assertThat(matcher.matches("아무 텍스트")).isFalse();
+    }
+}
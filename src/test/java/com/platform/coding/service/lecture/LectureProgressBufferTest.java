@@ -0,0 +1,42 @@
+package com.platform.coding.service.lecture;
+
+import com.platform.coding.domain.lectureprogress.LectureProgressHeartbeat;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LectureProgressBufferTest {
+
+    @Test
+    @DisplayName("되돌린 하트비트는 다음 drain 에 포함되지만, 그 사이 들어온 최신 하트비트를 덮어쓰지 않는다.")
+    void requeueKeepsNewerHeartbeat() {
+        LectureProgressBuffer buffer = new LectureProgressBuffer(new SimpleMeterRegistry(), 100);
+        buffer.offer(1L, 10L, 30);
+        buffer.offer(1L, 20L, 40);
+        List<LectureProgressHeartbeat> drained = buffer.drain();
+
+        // 반영이 실패하는 사이 같은 키로 새 하트비트가 들어옴
+        buffer.offer(1L, 10L, 60);
+        buffer.requeue(drained);
+
+        assertThat(buffer.drain()).containsExactlyInAnyOrder(
+                new LectureProgressHeartbeat(1L, 10L, 60),
+                new LectureProgressHeartbeat(1L, 20L, 40));
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 차면 새 키는 거절하고, 이미 있는 키는 계속 갱신한다.")
+    void rejectNewKeyWhenFull() {
+        LectureProgressBuffer buffer = new LectureProgressBuffer(new SimpleMeterRegistry(), 1);
+
+        assertThat(buffer.offer(1L, 10L, 30)).isTrue();
+        assertThat(buffer.offer(1L, 20L, 30)).isFalse();
+        assertThat(buffer.offer(1L, 10L, 50)).isTrue();
+
+        assertThat(buffer.drain()).containsExactly(new LectureProgressHeartbeat(1L, 10L, 50));
+    }
+}
@@ -0,0 +1,112 @@
+package com.platform.coding.service.notification;
+
+import com.platform.coding.domain.notification.NotificationRepository;
+import com.platform.coding.domain.user.User;
+import com.platform.coding.domain.user.UserType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class UnreadNotificationCounterTest {
+    private NotificationRepository notificationRepository;
+    private UnreadNotificationCounter counter;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        notificationRepository = mock(NotificationRepository.class);
+        counter = new UnreadNotificationCounter(notificationRepository, new SimpleMeterRegistry(), 100, 30);
+        user = User.fromClaims(1L, "test@example.com", "테스트유저", UserType.STUDENT);
+    }
+
+    @Test
+    @DisplayName("처음 조회할 때만 DB에서 개수를 세고, 이후에는 캐시된 개수를 반환한다.")
+    void seedLazilyOnce() {
+        when(notificationRepository.countByUserAndIsReadFalse(any())).thenReturn(3L);
+
+        assertThat(counter.get(user)).isEqualTo(3);
+        assertThat(counter.get(user)).isEqualTo(3);
+
+        verify(notificationRepository, times(1)).countByUserAndIsReadFalse(any());
+    }
+
+    @Test
+    @DisplayName("알림 생성/읽음 처리는 DB 조회 없이 캐시된 개수에 반영되며, 0 아래로 내려가지 않는다.")
+    void applyDeltas() {
+        when(notificationRepository.countByUserAndIsReadFalse(any())).thenReturn(2L);
+        counter.get(user);
+
+        counter.add(user.getId(), 1);
+        assertThat(counter.get(user)).isEqualTo(3);
+
+        counter.add(user.getId(), -5);
+        assertThat(counter.get(user)).isZero();
+
+        verify(notificationRepository, times(1)).countByUserAndIsReadFalse(any());
+    }
+
+    @Test
+    @DisplayName("캐시되지 않은 사용자의 변경은 기록되지 않고, 다음 조회 시 DB에서 다시 센다.")
+    void ignoreDeltaForUnseededUser() {
+        counter.add(user.getId(), 1);
+        when(notificationRepository.countByUserAndIsReadFalse(any())).thenReturn(7L);
+
+        assertThat(counter.get(user)).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("세는 도중 같은 사용자의 변경이 진행 중이면 센 값을 캐시하지 않지만, 다른 사용자의 변경은 영향을 주지 않는다.")
+    void pendingChangesArePerUser() {
+        when(notificationRepository.countByUserAndIsReadFalse(any())).thenReturn(3L);
+        User other = User.fromClaims(2L, "other@example.com", "다른유저", UserType.STUDENT);
+
+        // other 에게 커밋 전 변경이 있음
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            counter.add(other.getId(), 1);
+
+            assertThat(counter.get(other)).isEqualTo(3);
+            assertThat(counter.get(other)).isEqualTo(3);
+            verify(notificationRepository, times(2)).countByUserAndIsReadFalse(other);
+
+            // other 의 변경과 관계없이 user 의 개수는 한 번만 세고 캐시됨
+            assertThat(counter.get(user)).isEqualTo(3);
+            assertThat(counter.get(user)).isEqualTo(3);
+            verify(notificationRepository, times(1)).countByUserAndIsReadFalse(user);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 증감이 모두 정확히 반영된다.")
+    void concurrentDeltas() throws InterruptedException {
+        when(notificationRepository.countByUserAndIsReadFalse(any())).thenReturn(0L);
+        counter.get(user);
+
+        runConcurrently(2000, () -> counter.add(user.getId(), 1));
+        assertThat(counter.get(user)).isEqualTo(2000);
+
+        runConcurrently(1500, () -> counter.add(user.getId(), -1));
+        assertThat(counter.get(user)).isEqualTo(500);
+    }
+
+    private void runConcurrently(int times, Runnable task) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < times; i++) {
+            executor.submit(task);
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+    }
+}
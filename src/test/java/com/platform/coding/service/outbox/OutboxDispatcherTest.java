@@ -0,0 +1,149 @@
+package com.platform.coding.service.outbox;
+
+import com.platform.coding.domain.course.Course;
+import com.platform.coding.domain.course.CourseRepository;
+import com.platform.coding.domain.enrollment.EnrollmentRepository;
+import com.platform.coding.domain.outbox.OutboxEvent;
+import com.platform.coding.domain.outbox.OutboxEventRepository;
+import com.platform.coding.domain.outbox.OutboxEventType;
+import com.platform.coding.domain.outbox.OutboxJdbcRepository;
+import com.platform.coding.domain.outbox.OutboxMessage;
+import com.platform.coding.domain.outbox.OutboxStatus;
+import com.platform.coding.domain.user.User;
+import com.platform.coding.domain.user.UserRepository;
+import com.platform.coding.domain.user.UserType;
+import com.platform.coding.service.payment.EnrollmentRequestedEvent;
+import com.platform.coding.support.IntegrationTestSupport;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class OutboxDispatcherTest extends IntegrationTestSupport {
+    @Autowired
+    private OutboxWriter outboxWriter;
+    @Autowired
+    private OutboxDispatcher outboxDispatcher;
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+    @Autowired
+    private OutboxJdbcRepository outboxJdbcRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CourseRepository courseRepository;
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    private User student;
+    private Course course;
+
+    @BeforeEach
+    void setUp() {
+        User admin = userRepository.save(User.builder()
+                .email("admin@example.com")
+                .passwordHash("password_hash123")
+                .userName("관리자")
+                .userType(UserType.SUPER_ADMIN)
+                .build());
+        User parent = userRepository.save(User.builder()
+                .email("parent@example.com")
+                .passwordHash("password_hash123")
+                .userName("학부모")
+                .userType(UserType.PARENT)
+                .build());
+        student = userRepository.save(User.builder()
+                .email("student@example.com")
+                .passwordHash("password_hash123")
+                .userName("학생")
+                .userType(UserType.STUDENT)
+                .parent(parent)
+                .build());
+        course = courseRepository.save(Course.builder()
+                .admin(admin)
+                .title("자바 입문")
+                .price(new BigDecimal("10000"))
+                .build());
+    }
+
+    @Test
+    @DisplayName("같은 수강 등록 이벤트가 여러 번 전달되어도 수강 정보는 한 번만 생성되고, 이벤트는 모두 처리 완료된다.")
+    void dispatchDuplicateEnrollmentEvents() {
+        // given
+        EnrollmentRequestedEvent event = new EnrollmentRequestedEvent(1L, student.getId(), List.of(course.getId()));
+        outboxWriter.append(OutboxEventType.ENROLLMENT_REQUESTED, event);
+        outboxWriter.append(OutboxEventType.ENROLLMENT_REQUESTED, event);
+        entityManager.flush();
+
+        // when
+        int dispatched = outboxDispatcher.dispatchBatch();
+
+        // then
+        entityManager.flush();
+        entityManager.clear();
+        assertThat(dispatched).isEqualTo(2);
+        assertThat(enrollmentRepository.findByStudentAndCourse(student, course)).isPresent();
+        assertThat(enrollmentRepository.findAll()).hasSize(1);
+        assertThat(outboxEventRepository.findAll())
+                .extracting(OutboxEvent::getStatus)
+                .containsOnly(OutboxStatus.PROCESSED);
+    }
+
+    @Test
+    @DisplayName("처리에 실패한 이벤트는 오류를 기록하고 재시도 대기 상태로 남으며, 같은 묶음의 다른 이벤트는 처리된다.")
+    void failedEventIsRescheduled() {
+        // given: 존재하지 않는 학생에 대한 이벤트와 정상 이벤트
+        outboxWriter.append(OutboxEventType.ENROLLMENT_REQUESTED,
+                new EnrollmentRequestedEvent(1L, -1L, List.of(course.getId())));
+        outboxWriter.append(OutboxEventType.ENROLLMENT_REQUESTED,
+                new EnrollmentRequestedEvent(2L, student.getId(), List.of(course.getId())));
+        entityManager.flush();
+
+        // when
+        outboxDispatcher.dispatchBatch();
+
+        // then
+        entityManager.clear();
+        List<OutboxEvent> events = outboxEventRepository.findAll();
+        assertThat(events).filteredOn(e -> e.getStatus() == OutboxStatus.PENDING)
+                .singleElement()
+                .satisfies(failed -> {
+                    assertThat(failed.getAttempts()).isEqualTo(1);
+                    assertThat(failed.getLastError()).contains("존재하지 않는 학생 ID입니다");
+                    assertThat(failed.getNextAttemptAt()).isAfter(failed.getCreatedAt());
+                });
+        assertThat(events).filteredOn(e -> e.getStatus() == OutboxStatus.PROCESSED).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("임대가 만료되어 다른 작업자가 다시 선점한 이벤트는 이전 작업자가 처리 결과를 기록할 수 없다.")
+    void staleClaimCannotRecordResult() {
+        // given: 첫 작업자의 임대가 만료된 뒤 다른 작업자가 다시 선점
+        outboxWriter.append(OutboxEventType.ENROLLMENT_REQUESTED,
+                new EnrollmentRequestedEvent(1L, student.getId(), List.of(course.getId())));
+        entityManager.flush();
+        OutboxMessage stale = outboxJdbcRepository.claim(10, Instant.now().minusSeconds(1)).get(0);
+        OutboxMessage current = outboxJdbcRepository.claim(10, Instant.now().plusSeconds(60)).get(0);
+
+        // when & then
+        assertThat(outboxJdbcRepository.markProcessed(List.of(stale))).isZero();
+        assertThat(outboxJdbcRepository.reschedule(stale, Instant.now(), "처리 실패")).isFalse();
+        assertThat(outboxJdbcRepository.markFailed(stale, "처리 실패")).isFalse();
+        assertThat(outboxJdbcRepository.markProcessed(List.of(current))).isEqualTo(1);
+
+        entityManager.clear();
+        assertThat(outboxEventRepository.findAll()).singleElement().satisfies(event -> {
+            assertThat(event.getStatus()).isEqualTo(OutboxStatus.PROCESSED);
+            assertThat(event.getAttempts()).isEqualTo(2);
+        });
+    }
+}
@@ -0,0 +1,119 @@
+package com.platform.coding.service.scheduler;
+
+import com.platform.coding.domain.scheduler.JobLeaseJdbcRepository;
+import com.platform.coding.domain.scheduler.JobRun;
+import com.platform.coding.domain.scheduler.JobRunRepository;
+import com.platform.coding.domain.scheduler.JobRunStatus;
+import com.platform.coding.support.IntegrationTestSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ClusterJobRunnerTest extends IntegrationTestSupport {
+    @Autowired
+    private ClusterJobRunner clusterJobRunner;
+    @Autowired
+    private JobLeaseJdbcRepository jobLeaseJdbcRepository;
+    @Autowired
+    private JobRunRepository jobRunRepository;
+
+    @Test
+    @DisplayName("임대를 잡은 작업은 실행되고, 처리 건수와 함께 실행 이력이 남아야 한다.")
+    void runAndRecordHistory() {
+        // when
+        boolean ran = clusterJobRunner.run("test-job", execution -> 42);
+
+        // then
+        assertThat(ran).isTrue();
+        assertThat(jobRunRepository.findLatestRuns()).singleElement().satisfies(run -> {
+            assertThat(run.getJobName()).isEqualTo("test-job");
+            assertThat(run.getStatus()).isEqualTo(JobRunStatus.SUCCEEDED);
+            assertThat(run.getRowsAffected()).isEqualTo(42);
+            assertThat(run.getDuration()).isNotNull();
+        });
+    }
+
+    @Test
+    @DisplayName("작업이 일찍 끝나도 최소 유지 시간 동안은 같은 작업이 다시 실행되지 않아야 한다.")
+    void holdLeaseForMinimumPeriodAfterCompletion() {
+        // given: 한 서버가 작업을 바로 끝냄
+        clusterJobRunner.run("test-job", execution -> 0);
+        AtomicBoolean executed = new AtomicBoolean();
+
+        // when: 같은 cron 시각에 늦게 깨어난 서버(같은 runner 로 대신함)가 실행을 시도
+        boolean ran = clusterJobRunner.run("test-job", execution -> {
+            executed.set(true);
+            return 0;
+        });
+
+        // then
+        assertThat(ran).isFalse();
+        assertThat(executed).isFalse();
+        // 최소 유지 시간이 지나면 다른 서버가 넘겨받을 수 있어야 함
+        Instant later = Instant.now().plus(Duration.ofMinutes(2));
+        assertThat(jobLeaseJdbcRepository.acquire("test-job", "other-node", later.plus(Duration.ofMinutes(5)), later)).isPresent();
+    }
+
+    @Test
+    @DisplayName("다른 서버가 유효한 임대를 가지고 있으면 작업을 건너뛰어야 한다.")
+    void skipWhileLeasedByOtherNode() {
+        // given: 다른 서버가 임대 중
+        Instant now = Instant.now();
+        jobLeaseJdbcRepository.acquire("test-job", "other-node", now.plus(Duration.ofMinutes(5)), now);
+        AtomicBoolean executed = new AtomicBoolean();
+
+        // when
+        boolean ran = clusterJobRunner.run("test-job", execution -> {
+            executed.set(true);
+            return 0;
+        });
+
+        // then
+        assertThat(ran).isFalse();
+        assertThat(executed).isFalse();
+        assertThat(jobRunRepository.findAll()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("만료된 임대는 토큰을 올려 넘겨받고, 임대를 잃은 이전 실행은 연장할 수 없어야 한다.")
+    void takeOverExpiredLeaseWithNewFencingToken() {
+        // given: 다른 서버의 임대가 만료됨
+        Instant past = Instant.now().minus(Duration.ofMinutes(10));
+        long staleToken = jobLeaseJdbcRepository.acquire("test-job", "dead-node", past.plusSeconds(1), past).orElseThrow();
+        JobExecution staleExecution = new JobExecution(jobLeaseJdbcRepository, "test-job", staleToken, Duration.ofMinutes(5));
+
+        // when
+        clusterJobRunner.run("test-job", execution -> {
+            assertThat(execution.getFencingToken()).isEqualTo(staleToken + 1);
+            // 이전 실행은 임대를 잃었으므로 중단되어야 함
+            assertThatThrownBy(staleExecution::extendLease).isInstanceOf(IllegalStateException.class);
+            execution.extendLease();
+            return 0;
+        });
+
+        // then
+        JobRun run = jobRunRepository.findLatestRuns().get(0);
+        assertThat(run.getFencingToken()).isEqualTo(staleToken + 1);
+        assertThat(run.getStatus()).isEqualTo(JobRunStatus.SUCCEEDED);
+    }
+
+    @Test
+    @DisplayName("작업이 실패하면 오류를 실행 이력에 남기고 예외를 그대로 던져야 한다.")
+    void recordFailure() {
+        assertThatThrownBy(() -> clusterJobRunner.run("test-job", execution -> {
+            throw new IllegalStateException("처리 실패");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(jobRunRepository.findLatestRuns()).singleElement().satisfies(run -> {
+            assertThat(run.getStatus()).isEqualTo(JobRunStatus.FAILED);
+            assertThat(run.getErrorMessage()).contains("처리 실패");
+        });
+    }
+}
@@ -0,0 +1,189 @@
+package com.platform.coding.service.user;
+
+import com.platform.coding.domain.course.Chapter;
+import com.platform.coding.domain.course.Course;
+import com.platform.coding.domain.course.CourseRepository;
+import com.platform.coding.domain.course.Lecture;
+import com.platform.coding.domain.enrollment.Enrollment;
+import com.platform.coding.domain.enrollment.EnrollmentRepository;
+import com.platform.coding.domain.submission.Assignment;
+import com.platform.coding.domain.submission.AssignmentRepository;
+import com.platform.coding.domain.submission.Submission;
+import com.platform.coding.domain.submission.SubmissionRepository;
+import com.platform.coding.domain.user.User;
+import com.platform.coding.domain.user.UserRepository;
+import com.platform.coding.domain.user.UserType;
+import com.platform.coding.service.user.dto.ChildDashboardResponse;
+import com.platform.coding.service.user.dto.ChildLearningSummaryDto;
+import com.platform.coding.support.IntegrationTestSupport;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class ParentDashboardFetchPlanTest extends IntegrationTestSupport {
+    @Autowired
+    private ParentDashboardService parentDashboardService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CourseRepository courseRepository;
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+    @Autowired
+    private AssignmentRepository assignmentRepository;
+    @Autowired
+    private SubmissionRepository submissionRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User admin;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        admin = userRepository.save(User.builder()
+                .email("admin@example.com")
+                .passwordHash("password_hash123")
+                .userName("관리자")
+                .userType(UserType.SUPER_ADMIN)
+                .build());
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("자녀 대시보드 조회 쿼리 수는 수강 강의와 과제 수가 늘어나도 일정해야 한다.")
+    void childDashboardQueryCountIsConstant() {
+        // given: 수강 강의/과제 수만 다른 두 자녀
+        User smallParent = createParent("small");
+        User smallChild = createChild(smallParent, "small", 1, 1);
+        User largeParent = createParent("large");
+        User largeChild = createChild(largeParent, "large", 4, 5);
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        statistics.clear();
+        ChildDashboardResponse small = parentDashboardService.getChildDashboard(smallChild.getId(), smallParent);
+        long smallQueries = statistics.getPrepareStatementCount();
+        entityManager.clear();
+
+        statistics.clear();
+        ChildDashboardResponse large = parentDashboardService.getChildDashboard(largeChild.getId(), largeParent);
+        long largeQueries = statistics.getPrepareStatementCount();
+
+        // then: 자녀, 수강 정보+강의, 과제, 제출한 과제 ID 각각 한 번씩
+        assertThat(smallQueries).isEqualTo(4);
+        assertThat(largeQueries).isEqualTo(smallQueries);
+
+        assertThat(large.courses()).hasSize(4);
+        assertThat(large.courses()).allSatisfy(course -> {
+            assertThat(course.assignments()).hasSize(5);
+            // 각 강의의 첫 번째 과제만 제출한 상태
+            assertThat(course.assignments().get(0).submissionStatus()).isEqualTo("제출 완료");
+            assertThat(course.assignments().subList(1, 5))
+                    .extracting(ChildDashboardResponse.AssignmentStatusDto::submissionStatus)
+                    .containsOnly("미제출");
+        });
+        assertThat(small.courses()).singleElement()
+                .satisfies(course -> assertThat(course.assignments()).hasSize(1));
+    }
+
+    @Test
+    @DisplayName("자녀 학습 요약 조회 쿼리 수는 자녀 수가 늘어나도 일정해야 한다.")
+    void childrenSummaryQueryCountIsConstant() {
+        // given: 자녀가 1명인 학부모와 3명인 학부모
+        User smallParent = createParent("small");
+        createChild(smallParent, "small-1", 1, 0);
+        User largeParent = createParent("large");
+        for (int i = 1; i <= 3; i++) {
+            createChild(largeParent, "large-" + i, 2, 0);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        statistics.clear();
+        List<ChildLearningSummaryDto> small = parentDashboardService.getChildrenLearningSummary(smallParent);
+        long smallQueries = statistics.getPrepareStatementCount();
+        entityManager.clear();
+
+        statistics.clear();
+        List<ChildLearningSummaryDto> large = parentDashboardService.getChildrenLearningSummary(largeParent);
+        long largeQueries = statistics.getPrepareStatementCount();
+
+        // then: 자녀 목록, 수강 정보+강의 각각 한 번씩
+        assertThat(smallQueries).isEqualTo(2);
+        assertThat(largeQueries).isEqualTo(smallQueries);
+
+        assertThat(small).singleElement().satisfies(child -> assertThat(child.courses()).hasSize(1));
+        assertThat(large).hasSize(3).allSatisfy(child -> assertThat(child.courses()).hasSize(2));
+    }
+
+    private User createParent(String name) {
+        return userRepository.save(User.builder()
+                .email(name + "-parent@example.com")
+                .passwordHash("password_hash123")
+                .userName(name + " 학부모")
+                .userType(UserType.PARENT)
+                .build());
+    }
+
+    /**
+     * 강의 courseCount 개를 수강하고, 각 강의의 첫 번째 과제만 제출한 자녀를 만든다.
+     */
+    private User createChild(User parent, String name, int courseCount, int assignmentsPerCourse) {
+        User child = userRepository.save(User.builder()
+                .email(name + "-child@example.com")
+                .passwordHash("password_hash123")
+                .userName(name + " 자녀")
+                .userType(UserType.STUDENT)
+                .parent(parent)
+                .build());
+
+        for (int c = 1; c <= courseCount; c++) {
+            Course course = Course.builder()
+                    .admin(admin)
+                    .title(name + " 강의 " + c)
+                    .price(BigDecimal.ZERO)
+                    .build();
+            Chapter chapter = Chapter.builder().title("1챕터").order(1).build();
+            for (int a = 1; a <= assignmentsPerCourse; a++) {
+                chapter.addLecture(Lecture.builder().title("1-" + a + "강").order(a).build());
+            }
+            course.addChapter(chapter);
+            courseRepository.save(course);
+
+            List<Assignment> assignments = new ArrayList<>();
+            for (Lecture lecture : chapter.getLectures()) {
+                assignments.add(assignmentRepository.save(Assignment.builder()
+                        .lecture(lecture)
+                        .title(lecture.getTitle() + " 과제")
+                        .build()));
+            }
+            enrollmentRepository.save(new Enrollment(child, course));
+            if (!assignments.isEmpty()) {
+                submissionRepository.save(Submission.builder()
+                        .student(child)
+                        .assignment(assignments.get(0))
+                        .textContent("제출합니다.")
+                        .build());
+            }
+        }
+        return child;
+    }
+}